@@ -0,0 +1,44 @@
+package ajou.roadmate.poi.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// POI 검색 결과마다 호출되는 거리 계산 (Double 박싱 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoiDistanceBenchmark {
+
+    private TmapPOIService tmapPOIService;
+    private Double currentLat;
+    private Double currentLon;
+    private Double poiLat;
+    private Double poiLon;
+
+    @Setup
+    public void setUp() {
+        tmapPOIService = new TmapPOIService(null, null, null, null, null, null, null);
+        currentLat = 37.2816;
+        currentLon = 127.0453;
+        poiLat = 37.2659;
+        poiLon = 127.0001;
+    }
+
+    @Benchmark
+    public Double calculateDistance() {
+        return tmapPOIService.calculateDistance(currentLat, currentLon, poiLat, poiLon);
+    }
+}
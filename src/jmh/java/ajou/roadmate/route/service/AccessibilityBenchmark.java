@@ -0,0 +1,48 @@
+package ajou.roadmate.route.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 경로 후보마다 호출되는 접근성 점수/역명 정규화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessibilityBenchmark {
+
+    private static final List<String> ROUTE_STATIONS = List.of("수원역", "강남역", "사당역(중)", "서울역 1호선", "불광역");
+
+    private AccessibilityService accessibilityService;
+
+    @Setup
+    public void setUp() {
+        accessibilityService = new AccessibilityService();
+        accessibilityService.loadAccessibilityData();
+    }
+
+    @Benchmark
+    public AccessibilityService.RouteAccessibilityScore calculateRouteAccessibilityScore() {
+        return accessibilityService.calculateRouteAccessibilityScore(ROUTE_STATIONS, 540);
+    }
+
+    @Benchmark
+    public void normalizeStationName(Blackhole blackhole) {
+        for (String station : ROUTE_STATIONS) {
+            blackhole.consume(accessibilityService.normalizeStationName(station));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ajou.roadmate.route.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 경로 1건(도보 3단계 + 버스 + 지하철 + 도보) 안내 문구 생성 비용: 기존 방식 vs GuidanceRenderer
+// ./gradlew jmh -Pjmh.includes=GuidanceRenderingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuidanceRenderingBenchmark {
+
+    private static final String[] WALK_DESCRIPTIONS = {
+            "불광역  6번출구 에서 직진 후",
+            "보행자도로 을 따라 120m 이동",
+            "역삼역3번출구 방면으로 우회전"
+    };
+
+    private static final String[][] LEGS = {
+            {"BUS", "상왕십리역", "역삼역6번출구", "7599", "2100", "간선:463"},
+            {"SUBWAY", "역삼역", "수원역", "32000", "3600", "수도권1호선"},
+            {"WALK", "수원역", "아주대학교", "850", "720", null}
+    };
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String description : WALK_DESCRIPTIONS) {
+            blackhole.consume(legacyWalkDescription(description));
+        }
+        for (String[] leg : LEGS) {
+            blackhole.consume(legacyLegGuidance(leg[0], leg[1], leg[2],
+                    Integer.parseInt(leg[3]), Integer.parseInt(leg[4]), leg[5]));
+        }
+    }
+
+    @Benchmark
+    public void renderer(Blackhole blackhole) {
+        for (String description : WALK_DESCRIPTIONS) {
+            blackhole.consume(GuidanceRenderer.walkDescription(description));
+        }
+        for (String[] leg : LEGS) {
+            blackhole.consume(GuidanceRenderer.legGuidance(leg[0], leg[1], leg[2],
+                    Integer.parseInt(leg[3]), Integer.parseInt(leg[4]), leg[5]));
+        }
+    }
+
+    // 이하 GuidanceRenderer 도입 전 TmapRouteService 구현
+    private static String legacyWalkDescription(String description) {
+        if (description.contains("번출구")) {
+            return description.replaceAll("(\\S+?)(\\d+)번출구", "$1 $2번 출구");
+        }
+        return description;
+    }
+
+    private static String legacyLegGuidance(String mode, String startName, String endName,
+                                            Integer distance, Integer time, String route) {
+        if ("WALK".equals(mode)) {
+            return String.format("%s에서 %s까지 도보 %dm (%d분)",
+                    startName, endName, distance, time / 60);
+        } else if ("BUS".equals(mode)) {
+            String busInfo = route != null ? route : "버스";
+            return String.format("%s에서 %s 탑승 → %s (%d분, %dm)",
+                    startName, busInfo, legacyStationWithExit(endName), time / 60, distance);
+        } else if ("SUBWAY".equals(mode)) {
+            String subwayInfo = route != null ? route : "지하철";
+            return String.format("%s에서 %s 탑승 → %s (%d분, %dm)",
+                    startName, subwayInfo, legacyStationWithExit(endName), time / 60, distance);
+        }
+        return String.format("%s에서 %s까지 %s 이용 (%d분, %dm)",
+                startName, legacyStationWithExit(endName), mode, time / 60, distance);
+    }
+
+    private static String legacyStationWithExit(String locationName) {
+        if (locationName == null || locationName.trim().isEmpty()) {
+            return locationName;
+        }
+        if (locationName.contains("번출구")) {
+            Matcher matcher = Pattern.compile("(.+?)(\\d+)번출구").matcher(locationName);
+            if (matcher.find()) {
+                return matcher.group(1).trim() + " " + matcher.group(2) + "번 출구";
+            }
+        }
+        return locationName;
+    }
+}
@@ -0,0 +1,59 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.TmapRouteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+// T맵 응답 → RouteResponse 변환 (후보 분석, 점수 계산, 안내 생성, 좌표 단순화, 요금 계산)
+// 외부 호출/Redis를 쓰는 의존성은 null (sessionId=null, 대안 0개면 호출되지 않음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteProcessingBenchmark {
+
+    @Param({"small", "medium", "large"})
+    private String payloadSize;
+
+    private TmapRouteService tmapRouteService;
+    private TmapRouteResponse payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        AccessibilityService accessibilityService = new AccessibilityService();
+        accessibilityService.loadAccessibilityData();
+
+        GeometrySimplifier geometrySimplifier = new GeometrySimplifier();
+        Field tolerance = GeometrySimplifier.class.getDeclaredField("toleranceMeters");
+        tolerance.setAccessible(true);
+        tolerance.setDouble(geometrySimplifier, 3.0);
+
+        tmapRouteService = new TmapRouteService(null, accessibilityService, null, new HeuristicRouteScorer(),
+                null, geometrySimplifier, null, null, new FareService(null),
+                new PipelineMetrics(new SimpleMeterRegistry()), null, null, null);
+        payload = TmapPayloads.create(payloadSize, new ObjectMapper());
+    }
+
+    @Benchmark
+    public RouteResponse processTmapRouteResponse() {
+        return tmapRouteService.processTmapRouteResponse(payload, null, null, FareService.REGULAR, "benchmark", 0);
+    }
+}
@@ -0,0 +1,135 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.route.dto.TmapRouteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// T맵 대중교통 응답 형태의 벤치마크 입력 (시드 고정, 네트워크 없이 생성)
+// small: 경로 1개/짧은 좌표, medium: 경로 5개, large: 경로 10개/구간당 좌표 200개
+final class TmapPayloads {
+
+    private static final String[] STATIONS = {"수원역", "강남역", "역삼역6번출구", "사당역", "아주대학교", "서울역", "불광역"};
+    private static final String[] BUS_ROUTES = {"간선:463", "지선:7016", "광역:M5107", "일반:13-4"};
+    private static final String[] SUBWAY_ROUTES = {"수도권1호선", "수도권2호선", "신분당선"};
+
+    private TmapPayloads() {
+    }
+
+    static TmapRouteResponse create(String size, ObjectMapper objectMapper) {
+        return switch (size) {
+            case "small" -> build(1, 20, objectMapper);
+            case "medium" -> build(5, 60, objectMapper);
+            case "large" -> build(10, 200, objectMapper);
+            default -> throw new IllegalArgumentException("unknown payload size: " + size);
+        };
+    }
+
+    private static TmapRouteResponse build(int itineraryCount, int pointsPerLeg, ObjectMapper objectMapper) {
+        Random random = new Random(42);
+        List<Map<String, Object>> itineraries = new ArrayList<>(itineraryCount);
+        for (int i = 0; i < itineraryCount; i++) {
+            itineraries.add(itinerary(random, pointsPerLeg));
+        }
+
+        Map<String, Object> plan = Map.of("itineraries", itineraries);
+        Map<String, Object> metaData = Map.of("plan", plan);
+        return objectMapper.convertValue(Map.of("metaData", metaData), TmapRouteResponse.class);
+    }
+
+    private static Map<String, Object> itinerary(Random random, int pointsPerLeg) {
+        double lat = 37.27 + random.nextDouble() * 0.02;
+        double lon = 127.04 + random.nextDouble() * 0.02;
+
+        List<Map<String, Object>> legs = new ArrayList<>();
+        String[] modes = {"WALK", "BUS", "WALK", "SUBWAY", "WALK"};
+        int totalTime = 0;
+        int totalDistance = 0;
+        int walkTime = 0;
+        for (String mode : modes) {
+            double endLat = lat + 0.005 + random.nextDouble() * 0.02;
+            double endLon = lon + 0.005 + random.nextDouble() * 0.02;
+            int distance = "WALK".equals(mode) ? 200 + random.nextInt(600) : 3000 + random.nextInt(12000);
+            int sectionTime = "WALK".equals(mode) ? distance : distance / 8;
+
+            Map<String, Object> leg = new LinkedHashMap<>();
+            leg.put("mode", mode);
+            leg.put("distance", distance);
+            leg.put("sectionTime", sectionTime);
+            leg.put("start", location(STATIONS[random.nextInt(STATIONS.length)], lat, lon));
+            leg.put("end", location(STATIONS[random.nextInt(STATIONS.length)], endLat, endLon));
+            if ("WALK".equals(mode)) {
+                leg.put("steps", steps(random, lat, lon, endLat, endLon, pointsPerLeg));
+                walkTime += sectionTime;
+            } else {
+                leg.put("route", "BUS".equals(mode)
+                        ? BUS_ROUTES[random.nextInt(BUS_ROUTES.length)]
+                        : SUBWAY_ROUTES[random.nextInt(SUBWAY_ROUTES.length)]);
+                leg.put("routeColor", "0052A4");
+                leg.put("passShape", Map.of("linestring", lineString(random, lat, lon, endLat, endLon, pointsPerLeg)));
+            }
+            legs.add(leg);
+
+            totalTime += sectionTime;
+            totalDistance += distance;
+            lat = endLat;
+            lon = endLon;
+        }
+
+        Map<String, Object> itinerary = new LinkedHashMap<>();
+        itinerary.put("totalTime", totalTime);
+        itinerary.put("totalDistance", totalDistance);
+        itinerary.put("totalWalkTime", walkTime);
+        itinerary.put("totalWalkDistance", walkTime);
+        itinerary.put("transferCount", 1);
+        itinerary.put("fare", Map.of("regular", Map.of("totalFare", 1650)));
+        itinerary.put("legs", legs);
+        return itinerary;
+    }
+
+    private static List<Map<String, Object>> steps(Random random, double lat, double lon,
+                                                   double endLat, double endLon, int points) {
+        List<Map<String, Object>> steps = new ArrayList<>(3);
+        double[] cuts = {0.0, 0.3, 0.7, 1.0};
+        for (int i = 0; i < 3; i++) {
+            double fromLat = lat + (endLat - lat) * cuts[i];
+            double fromLon = lon + (endLon - lon) * cuts[i];
+            double toLat = lat + (endLat - lat) * cuts[i + 1];
+            double toLon = lon + (endLon - lon) * cuts[i + 1];
+
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("streetName", "보행자도로");
+            step.put("distance", 50 + random.nextInt(200));
+            step.put("description", i == 0 ? "불광역  6번출구 에서 직진 후" : "보행자도로 을 따라 이동");
+            step.put("linestring", lineString(random, fromLat, fromLon, toLat, toLon, Math.max(2, points / 3)));
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    // 직선 위에 약간의 흔들림을 준 좌표열 ("lon,lat lon,lat ...")
+    private static String lineString(Random random, double lat, double lon, double endLat, double endLon, int points) {
+        StringBuilder builder = new StringBuilder(points * 24);
+        for (int i = 0; i < points; i++) {
+            double t = (double) i / (points - 1);
+            double jitter = (random.nextDouble() - 0.5) * 0.00005;
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(String.format("%.7f,%.7f", lon + (endLon - lon) * t + jitter, lat + (endLat - lat) * t + jitter));
+        }
+        return builder.toString();
+    }
+
+    private static Map<String, Object> location(String name, double lat, double lon) {
+        Map<String, Object> location = new LinkedHashMap<>();
+        location.put("name", name);
+        location.put("lat", lat);
+        location.put("lon", lon);
+        return location;
+    }
+}
@@ -0,0 +1,51 @@
+package ajou.roadmate.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 스텁 응답 지연 분포 (로그정규분포, 중앙값과 p99로 지정)
+// 외부 API 지연은 오른쪽 꼬리가 긴 분포라 고정 지연보다 실제 대기열 형태에 가깝다
+final class LatencyModel {
+
+    // 표준정규분포 99분위 z값
+    private static final double Z_99 = 2.3263;
+
+    private final long medianMillis;
+    private final long p99Millis;
+    private final double mu;
+    private final double sigma;
+
+    private LatencyModel(long medianMillis, long p99Millis) {
+        if (medianMillis < 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("지연 설정은 0 <= median <= p99 이어야 합니다: " + medianMillis + "," + p99Millis);
+        }
+        this.medianMillis = medianMillis;
+        this.p99Millis = p99Millis;
+        this.mu = Math.log(Math.max(1, medianMillis));
+        this.sigma = medianMillis == 0 ? 0 : Math.log((double) p99Millis / Math.max(1, medianMillis)) / Z_99;
+    }
+
+    static LatencyModel of(long medianMillis, long p99Millis) {
+        return new LatencyModel(medianMillis, p99Millis);
+    }
+
+    // "250,1200" → 중앙값 250ms, p99 1200ms / "0" → 지연 없음
+    static LatencyModel parse(String value) {
+        String[] parts = value.split(",");
+        long median = Long.parseLong(parts[0].trim());
+        long p99 = parts.length > 1 ? Long.parseLong(parts[1].trim()) : median;
+        return new LatencyModel(median, p99);
+    }
+
+    long sampleMillis() {
+        if (medianMillis == 0) {
+            return 0;
+        }
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(Math.exp(mu + sigma * gaussian));
+    }
+
+    @Override
+    public String toString() {
+        return "median=" + medianMillis + "ms, p99=" + p99Millis + "ms";
+    }
+}
@@ -0,0 +1,101 @@
+package ajou.roadmate.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 엔드포인트별 응답 시간 기록 및 처리량/백분위 출력
+final class LatencyReport {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    String render(double elapsedSeconds) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-24s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+        long totalCount = 0;
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(samples).entrySet()) {
+            Samples.Snapshot snapshot = entry.getValue().snapshot();
+            totalCount += snapshot.latencies().length;
+            builder.append(String.format("%-24s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(),
+                    snapshot.latencies().length,
+                    snapshot.errors(),
+                    snapshot.latencies().length / elapsedSeconds,
+                    percentile(snapshot.latencies(), 0.50),
+                    percentile(snapshot.latencies(), 0.95),
+                    percentile(snapshot.latencies(), 0.99),
+                    percentile(snapshot.latencies(), 1.0)));
+        }
+        builder.append(String.format("%-24s %8d %7s %9.1f%n", "total", totalCount, "", totalCount / elapsedSeconds));
+        return builder.toString();
+    }
+
+    // 용량 비교용 한 줄 요약: 사용자 수, 전체 처리량, 오류율, 엔드포인트별 p99
+    static String summaryHeader() {
+        return String.format("%8s %9s %8s %14s %14s %14s", "users", "req/s", "errors%", "chat p99", "poi p99", "route p99");
+    }
+
+    String summary(int users, double elapsedSeconds) {
+        long count = 0;
+        long errors = 0;
+        for (Samples endpointSamples : samples.values()) {
+            Samples.Snapshot snapshot = endpointSamples.snapshot();
+            count += snapshot.latencies().length;
+            errors += snapshot.errors();
+        }
+        return String.format("%8d %9.1f %8.2f %12.1fms %12.1fms %12.1fms",
+                users,
+                count / elapsedSeconds,
+                count > 0 ? errors * 100.0 / count : 0.0,
+                p99(SessionDriver.CHAT),
+                p99(SessionDriver.POI_SEARCH),
+                p99(SessionDriver.ROUTE_SEARCH));
+    }
+
+    private double p99(String endpoint) {
+        Samples endpointSamples = samples.get(endpoint);
+        return endpointSamples != null ? percentile(endpointSamples.snapshot().latencies(), 0.99) : 0;
+    }
+
+    // nearest-rank 방식, 정렬된 나노초 배열 → 밀리초
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized Snapshot snapshot() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return new Snapshot(copy, errors);
+        }
+
+        private record Snapshot(long[] latencies, long errors) {
+        }
+    }
+}
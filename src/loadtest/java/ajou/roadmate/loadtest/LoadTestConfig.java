@@ -0,0 +1,62 @@
+package ajou.roadmate.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// --users=50 --duration=120 형식 인자 (지정하지 않으면 기본값)
+// --sweep=100,200,400: 사용자 수를 단계별로 늘려가며 각 단계를 duration 동안 실행 (동시 세션 처리 용량 비교)
+// --profile=virtual: 애플리케이션을 해당 Spring 프로필로 기동
+record LoadTestConfig(
+        int users,
+        int durationSeconds,
+        int rampUpSeconds,
+        long thinkTimeMillis,
+        int followUps,
+        String profile,
+        List<Integer> sweep,
+        LatencyModel tmapPoiLatency,
+        LatencyModel tmapRouteLatency,
+        LatencyModel openAiLatency
+) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        List<Integer> sweep = new ArrayList<>();
+        if (options.containsKey("sweep")) {
+            for (String step : options.get("sweep").split(",")) {
+                sweep.add(Integer.parseInt(step.trim()));
+            }
+        }
+
+        return new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("users", "20")),
+                Integer.parseInt(options.getOrDefault("duration", "60")),
+                Integer.parseInt(options.getOrDefault("ramp-up", "10")),
+                Long.parseLong(options.getOrDefault("think-ms", "300")),
+                Integer.parseInt(options.getOrDefault("follow-ups", "3")),
+                options.getOrDefault("profile", ""),
+                List.copyOf(sweep),
+                LatencyModel.parse(options.getOrDefault("tmap-poi-latency", "120,600")),
+                LatencyModel.parse(options.getOrDefault("tmap-route-latency", "250,1200")),
+                LatencyModel.parse(options.getOrDefault("openai-latency", "700,2500"))
+        );
+    }
+
+    LoadTestConfig withUsers(int users) {
+        return new LoadTestConfig(users, durationSeconds, rampUpSeconds, thinkTimeMillis, followUps, profile, sweep,
+                tmapPoiLatency, tmapRouteLatency, openAiLatency);
+    }
+}
@@ -0,0 +1,129 @@
+package ajou.roadmate.loadtest;
+
+import ajou.roadmate.RoadmateApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 네트워크 없이 실행하는 종단 부하 테스트
+// 내장 Redis + 스텁 T맵/OpenAI 서버를 띄우고, 애플리케이션을 같은 JVM에서 기동한 뒤 세션 트래픽을 재생한다
+// 실행: ./gradlew loadTest -Pargs="--users=50 --duration=120"
+// 용량 비교: ./gradlew loadTest -Pargs="--sweep=100,200,400,800 --duration=30" (플랫폼 스레드)
+//           ./gradlew loadTest -Pargs="--sweep=100,200,400,800 --duration=30 --profile=virtual" (가상 스레드)
+//           ./gradlew loadTest -Pargs="--sweep=100,200,400,800 --duration=30 --profile=reactive" (WebFlux)
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        int redisPort = freePort();
+
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        try (StubUpstreamServer stubs = new StubUpstreamServer(config)) {
+            stubs.start();
+
+            SpringApplicationBuilder application = new SpringApplicationBuilder(RoadmateApplication.class)
+                    .properties(applicationProperties(stubs.baseUrl(), redisPort));
+            if (!config.profile().isBlank()) {
+                application.profiles(config.profile());
+            }
+
+            try (ConfigurableApplicationContext context = application.run()) {
+                String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+                boolean virtualThreads = context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+                boolean reactive = "reactive".equalsIgnoreCase(context.getEnvironment().getProperty("spring.main.web-application-type"));
+
+                System.out.printf("스텁 지연 - T맵 POI: %s / T맵 경로: %s / OpenAI: %s%n",
+                        config.tmapPoiLatency(), config.tmapRouteLatency(), config.openAiLatency());
+                System.out.printf("요청 처리 스레드: %s%n", reactive ? "이벤트 루프 (WebFlux + Netty)"
+                        : virtualThreads ? "가상 스레드" : "플랫폼 스레드 (Tomcat 스레드 풀)");
+
+                if (config.sweep().isEmpty()) {
+                    runOnce(config, baseUrl);
+                } else {
+                    runSweep(config, baseUrl);
+                }
+
+                System.out.println();
+                stubs.requestCounts().forEach((path, count) ->
+                        System.out.printf("stub %-28s %8d%n", path, count.get()));
+            }
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static void runOnce(LoadTestConfig config, String baseUrl) throws InterruptedException {
+        System.out.printf("부하 테스트 시작 - 사용자: %d, 시간: %ds, 후속 질문: %d회%n",
+                config.users(), config.durationSeconds(), config.followUps());
+
+        LatencyReport report = new LatencyReport();
+        long started = System.nanoTime();
+        new SessionDriver(config, baseUrl, report).run();
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        System.out.println();
+        System.out.print(report.render(elapsedSeconds));
+    }
+
+    // 단계별 사용자 수로 같은 시나리오를 반복해 처리량이 꺾이거나 p99/오류율이 급증하는 지점을 찾는다
+    private static void runSweep(LoadTestConfig config, String baseUrl) throws InterruptedException {
+        List<String> lines = new ArrayList<>();
+        for (int users : config.sweep()) {
+            System.out.printf("단계 시작 - 사용자: %d, 시간: %ds%n", users, config.durationSeconds());
+
+            LatencyReport report = new LatencyReport();
+            long started = System.nanoTime();
+            new SessionDriver(config.withUsers(users), baseUrl, report).run();
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            lines.add(report.summary(users, elapsedSeconds));
+        }
+
+        System.out.println();
+        System.out.println(LatencyReport.summaryHeader());
+        lines.forEach(System.out::println);
+    }
+
+    private static Map<String, Object> applicationProperties(String stubBaseUrl, int redisPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.data.redis.host", "127.0.0.1");
+        properties.put("spring.data.redis.port", redisPort);
+
+        properties.put("tmap.api.key", "loadtest");
+        properties.put("tmap.api.url", stubBaseUrl + StubUpstreamServer.POI_PATH);
+        properties.put("tmap.poi.around.url", stubBaseUrl + StubUpstreamServer.POI_AROUND_PATH);
+        properties.put("tmap.route.api.url", stubBaseUrl + StubUpstreamServer.TRANSIT_PATH);
+        properties.put("gpt.api.key", "loadtest");
+        properties.put("gpt.api.url", stubBaseUrl + StubUpstreamServer.OPENAI_PATH);
+        properties.put("gpt.model", "stub");
+        // 스텁 T맵에는 앱 키 한도가 없으므로 T맵 호출 한도 관리가 처리량을 제한하지 않도록
+        properties.put("tmap.quota.per-second", 100000);
+        properties.put("tmap.quota.burst", 100000);
+        properties.put("tmap.quota.daily", Long.MAX_VALUE / 2);
+        // 가상 사용자는 모두 127.0.0.1의 게스트이므로 IP 단위 요청 한도가 하나의 버킷으로 묶이지 않도록
+        properties.put("ratelimit.nlp.per-second", 100000);
+        properties.put("ratelimit.nlp.burst", 100000);
+        properties.put("ratelimit.api.per-second", 100000);
+        properties.put("ratelimit.api.burst", 100000);
+
+        // 요청마다 남기는 INFO 로그가 측정값을 왜곡하지 않도록
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+        return properties;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
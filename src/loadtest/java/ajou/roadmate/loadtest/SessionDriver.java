@@ -0,0 +1,160 @@
+package ajou.roadmate.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 가상 사용자별 세션 시나리오 반복: 대화(경로 의도) → POI 검색 → 경로 탐색 → 후속 질문 N회
+final class SessionDriver {
+
+    static final String CHAT = "POST /nlp/chat";
+    static final String POI_SEARCH = "POST /api/poi/search";
+    static final String ROUTE_SEARCH = "POST /api/route/search";
+
+    // 아주대학교 부근 출발
+    private static final double ORIGIN_LAT = 37.2816;
+    private static final double ORIGIN_LON = 127.0453;
+
+    private static final List<String> DESTINATIONS = List.of("강남역", "수원역", "서울역");
+    private static final List<String> FOLLOW_UPS = List.of(
+            "요금은 얼마야?",
+            "몇 번 버스 타면 돼?",
+            "얼마나 걸려?",
+            "지하철은 몇 호선이야?",
+            "엘리베이터 있어?",
+            "몇 시에 도착해?"
+    );
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final LatencyReport report;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    SessionDriver(LoadTestConfig config, String baseUrl, LatencyReport report) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.report = report;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    void run() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        long rampStepMillis = config.users() > 1 ? config.rampUpSeconds() * 1000L / config.users() : 0;
+
+        // 부하 생성 측이 병목이 되지 않도록 가상 사용자마다 가상 스레드
+        ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < config.users(); i++) {
+            int user = i;
+            users.submit(() -> {
+                sleep(user * rampStepMillis);
+                int session = 0;
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    runSession("lt-" + user + "-" + session++, "lt-guest-" + user);
+                }
+            });
+        }
+
+        users.shutdown();
+        if (!users.awaitTermination(config.durationSeconds() + config.rampUpSeconds() + 60L, TimeUnit.SECONDS)) {
+            users.shutdownNow();
+        }
+    }
+
+    private void runSession(String sessionId, String guestId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String destination = DESTINATIONS.get(random.nextInt(DESTINATIONS.size()));
+        double startLat = ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.01;
+        double startLon = ORIGIN_LON + (random.nextDouble() - 0.5) * 0.01;
+
+        if (post(CHAT, "/nlp/chat", guestId, Map.of("sessionId", sessionId, "text", destination + "까지 가는 길 알려줘")) == null) {
+            return;
+        }
+        think();
+
+        JsonNode poi = post(POI_SEARCH, "/api/poi/search", guestId,
+                Map.of("destination", destination, "currentLat", startLat, "currentLon", startLon));
+        JsonNode place = poi != null ? poi.path("places").path(0) : null;
+        if (place == null || place.isMissingNode()) {
+            return;
+        }
+        think();
+
+        JsonNode route = post(ROUTE_SEARCH, "/api/route/search", guestId, Map.of(
+                "sessionId", sessionId,
+                "startLat", startLat,
+                "startLon", startLon,
+                "startName", "현재 위치",
+                "endLat", place.path("latitude").asDouble(),
+                "endLon", place.path("longitude").asDouble(),
+                "endName", place.path("name").asText(destination)
+        ));
+        if (route == null) {
+            return;
+        }
+
+        for (int i = 0; i < config.followUps(); i++) {
+            think();
+            post(CHAT, "/nlp/chat", guestId,
+                    Map.of("sessionId", sessionId, "text", FOLLOW_UPS.get(random.nextInt(FOLLOW_UPS.size()))));
+        }
+    }
+
+    // 2xx면 응답 본문, 실패하면 null (실패도 소요 시간과 함께 기록)
+    private JsonNode post(String endpoint, String path, String guestId, Map<String, Object> body) {
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .header("X-Guest-Id", guestId)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            success = response.statusCode() / 100 == 2;
+            return success ? objectMapper.readTree(response.body()) : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            report.record(endpoint, System.nanoTime() - started, success);
+        }
+    }
+
+    // 사용자 입력/화면 확인 시간 (설정값 기준 ±50%)
+    private void think() {
+        long base = config.thinkTimeMillis();
+        if (base > 0) {
+            sleep(base / 2 + ThreadLocalRandom.current().nextLong(base + 1));
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package ajou.roadmate.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// T맵(POI/주변/대중교통)과 OpenAI chat completions를 흉내내는 로컬 HTTP 서버
+// 응답은 fixtures/ 아래 기록된 JSON을 그대로 돌려주고, 엔드포인트별 지연 분포만큼 대기한다
+final class StubUpstreamServer implements AutoCloseable {
+
+    static final String POI_PATH = "/tmap/pois";
+    static final String POI_AROUND_PATH = "/tmap/pois/search/around";
+    static final String TRANSIT_PATH = "/transit/routes";
+    static final String OPENAI_PATH = "/v1/chat/completions";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, AtomicLong> requestCounts = Map.of(
+            POI_PATH, new AtomicLong(),
+            POI_AROUND_PATH, new AtomicLong(),
+            TRANSIT_PATH, new AtomicLong(),
+            OPENAI_PATH, new AtomicLong()
+    );
+
+    private final byte[] poiResponse;
+    private final byte[] poiAroundResponse;
+    private final byte[] transitResponse;
+    private final List<IntentScript> intentScripts;
+
+    StubUpstreamServer(LoadTestConfig config) throws IOException {
+        this.poiResponse = readFixture("fixtures/tmap-poi.json");
+        this.poiAroundResponse = readFixture("fixtures/tmap-poi-around.json");
+        this.transitResponse = readFixture("fixtures/tmap-transit.json");
+        this.intentScripts = loadIntentScripts();
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        // 지연은 sleep으로 흉내내므로 요청마다 가상 스레드
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+
+        // HttpServer는 가장 긴 접두어 경로로 매칭
+        server.createContext(POI_AROUND_PATH, exchange -> respond(exchange, POI_AROUND_PATH, config.tmapPoiLatency(), poiAroundResponse));
+        server.createContext(POI_PATH, exchange -> respond(exchange, POI_PATH, config.tmapPoiLatency(), poiResponse));
+        server.createContext(TRANSIT_PATH, exchange -> respond(exchange, TRANSIT_PATH, config.tmapRouteLatency(), transitResponse));
+        server.createContext(OPENAI_PATH, exchange -> respond(exchange, OPENAI_PATH, config.openAiLatency(), chatCompletion(exchange)));
+    }
+
+    void start() {
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    Map<String, AtomicLong> requestCounts() {
+        return requestCounts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange, String path, LatencyModel latency, byte[] body) throws IOException {
+        try (exchange) {
+            requestCounts.get(path).incrementAndGet();
+            sleep(latency.sampleMillis());
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // 마지막 user 메시지에 키워드가 포함된 스크립트의 분석 결과를 chat completion 형식으로 감싼다
+    private byte[] chatCompletion(HttpExchange exchange) throws IOException {
+        JsonNode request;
+        try (InputStream in = exchange.getRequestBody()) {
+            request = objectMapper.readTree(in);
+        }
+
+        String userText = "";
+        JsonNode messages = request.path("messages");
+        for (JsonNode message : messages) {
+            if ("user".equals(message.path("role").asText())) {
+                userText = message.path("content").asText();
+            }
+        }
+
+        JsonNode analysis = null;
+        for (IntentScript script : intentScripts) {
+            if (userText.contains(script.keyword())) {
+                analysis = script.analysis();
+                break;
+            }
+        }
+        if (analysis == null) {
+            analysis = objectMapper.createObjectNode()
+                    .put("intent", "other_inquiries")
+                    .put("responseText", "죄송하지만 이해하지 못했어요.")
+                    .set("entities", objectMapper.createObjectNode());
+        }
+
+        Map<String, Object> completion = Map.of(
+                "id", "chatcmpl-loadtest",
+                "object", "chat.completion",
+                "model", request.path("model").asText("stub"),
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "finish_reason", "stop",
+                        "message", Map.of("role", "assistant", "content", objectMapper.writeValueAsString(analysis))
+                ))
+        );
+        return objectMapper.writeValueAsBytes(completion);
+    }
+
+    private List<IntentScript> loadIntentScripts() throws IOException {
+        JsonNode root = objectMapper.readTree(readFixture("fixtures/openai-intents.json"));
+        List<IntentScript> scripts = new ArrayList<>();
+        for (JsonNode node : (ArrayNode) root) {
+            scripts.add(new IntentScript(node.path("keyword").asText(), node.path("analysis")));
+        }
+        return scripts;
+    }
+
+    private static byte[] readFixture(String name) throws IOException {
+        try (InputStream in = StubUpstreamServer.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("픽스처를 찾을 수 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("stub interrupted", e));
+        }
+    }
+
+    private record IntentScript(String keyword, JsonNode analysis) {
+    }
+}
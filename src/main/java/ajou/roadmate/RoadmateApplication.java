@@ -5,13 +5,26 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 
+import java.util.Map;
+
 @SpringBootApplication(exclude = {
         DataSourceAutoConfiguration.class,
         HibernateJpaAutoConfiguration.class
 })
 public class RoadmateApplication {
 
+    // 배포 설정(application.yml 등)에 값이 있으면 그쪽이 우선
+    private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+            "management.endpoints.web.exposure.include", "health,prometheus",
+            "management.metrics.tags.application", "roadmate",
+            // Lettuce 기본 명령 타임아웃(60초) 대신 짧게 실패하도록
+            "spring.data.redis.timeout", "2s",
+            "spring.data.redis.connect-timeout", "2s"
+    );
+
     public static void main(String[] args) {
-        SpringApplication.run(RoadmateApplication.class, args);
+        SpringApplication application = new SpringApplication(RoadmateApplication.class);
+        application.setDefaultProperties(DEFAULT_PROPERTIES);
+        application.run(args);
     }
-}
\ No newline at end of file
+}
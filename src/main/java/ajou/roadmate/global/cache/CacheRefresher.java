@@ -0,0 +1,61 @@
+package ajou.roadmate.global.cache;
+
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// soft TTL이 지난 캐시 항목의 백그라운드 갱신 (키당 한 번만)
+// 노드 내 중복은 진행 중 키 집합으로, 노드 간 중복은 Redis SET NX 락으로 막음
+// 락은 해제하지 않고 만료시킴: 갱신 성공 시 항목이 다시 fresh 상태가 되고, 실패 시 업스트림을 반복 호출하지 않음
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CacheRefresher {
+
+    private static final String LOCK_PREFIX = "refresh_lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final UpstreamGuard upstreamGuard;
+    private final Executor cacheRefreshExecutor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public void refresh(String cacheKey, Runnable refresh) {
+        if (!inFlight.add(cacheKey)) {
+            return;
+        }
+
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    if (acquireLock(cacheKey)) {
+                        refresh.run();
+                        log.debug("캐시 갱신 완료: {}", cacheKey);
+                    }
+                } catch (Exception e) {
+                    log.debug("캐시 갱신 실패: {}, {}", cacheKey, e.getMessage());
+                } finally {
+                    inFlight.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("캐시 갱신 대기열 초과로 생략: {}", cacheKey);
+            inFlight.remove(cacheKey);
+        }
+    }
+
+    private boolean acquireLock(String cacheKey) {
+        Boolean acquired = upstreamGuard.call(UpstreamGuard.REDIS,
+                () -> stringRedisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + cacheKey, "1", LOCK_TTL));
+        return Boolean.TRUE.equals(acquired);
+    }
+}
@@ -0,0 +1,81 @@
+package ajou.roadmate.global.config;
+
+import ajou.roadmate.global.logging.MdcTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // virtual 프로필(spring.threads.virtual.enabled=true)이면 업스트림을 호출하는 실행기도 가상 스레드 사용
+    // 큐 크기/거절 정책은 그대로 두고 스레드만 교체 (업스트림 동시 호출 수는 UpstreamGuard 벌크헤드가 제한)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // POI 다음 페이지 선조회용 (best-effort, 큐가 차면 선조회 생략)
+    @Bean
+    public ThreadPoolTaskExecutor poiPrefetchExecutor() {
+        return upstreamExecutor("poi-prefetch-", 2, 4, 100);
+    }
+
+    // 랭킹 이벤트 로그 저장용 (best-effort, 큐가 차면 이벤트 버림)
+    @Bean
+    public ThreadPoolTaskExecutor routeEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("route-event-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    // stale 캐시 백그라운드 갱신용 (best-effort, 큐가 차면 갱신 생략하고 다음 요청에서 다시 시도)
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        return upstreamExecutor("cache-refresh-", 2, 4, 200);
+    }
+
+    // 실시간 안내 SSE 전송용 (연결은 서블릿 비동기로 유지되어 대기 중인 연결은 스레드를 점유하지 않음)
+    // 큐가 차면 NavigationStreamService가 호출 스레드에서 전송 (작업을 버리면 해당 연결의 대기 이벤트가 멈춤)
+    @Bean
+    public ThreadPoolTaskExecutor navigationStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("nav-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // 실시간 안내 연결 heartbeat (전체 연결을 스레드 하나로 순회)
+    @Bean
+    public ThreadPoolTaskScheduler navigationHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("nav-heartbeat-");
+        return scheduler;
+    }
+
+    private ThreadPoolTaskExecutor upstreamExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        // 선조회/갱신 로그와 업스트림 호출 헤더에 요청의 상관관계 ID가 이어지도록
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
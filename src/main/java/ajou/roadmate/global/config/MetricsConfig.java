@@ -0,0 +1,61 @@
+package ajou.roadmate.global.config;
+
+import ajou.roadmate.global.quota.TmapQuotaManager;
+import ajou.roadmate.route.service.GeometrySimplifier;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String METRIC_PREFIX = "roadmate.";
+
+    // roadmate.* 타이머는 Prometheus 히스토그램 버킷만 (백분위는 노드 간 합산이 안 되므로 histogram_quantile로 조회)
+    @Bean
+    public MeterFilter roadmateHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith(METRIC_PREFIX)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder geometrySimplifierMetrics(GeometrySimplifier geometrySimplifier) {
+        return registry -> Gauge.builder("roadmate.geometry.reduction.ratio", geometrySimplifier,
+                        GeometrySimplifier::getReductionRatio)
+                .description("경로 좌표 단순화 누적 감소율")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder tmapQuotaMetrics(TmapQuotaManager tmapQuotaManager) {
+        return registry -> {
+            Gauge.builder("roadmate.tmap.quota.daily.used", tmapQuotaManager, TmapQuotaManager::getDailyUsed)
+                    .description("T맵 앱 키 오늘 사용량")
+                    .register(registry);
+            Gauge.builder("roadmate.tmap.quota.daily.limit", tmapQuotaManager, TmapQuotaManager::getDailyLimit)
+                    .description("T맵 앱 키 일일 한도")
+                    .register(registry);
+            Gauge.builder("roadmate.tmap.quota.rate", tmapQuotaManager, TmapQuotaManager::getCurrentRate)
+                    .description("T맵 앱 키 현재 초당 호출 한도")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package ajou.roadmate.global.config;
+
+import ajou.roadmate.route.controller.RouteController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+// reactive 프로필의 WebFlux 설정 (MVC의 CorsConfig, WebConfig에 대응)
+@Configuration
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    // spring-boot-starter-web도 함께 있으면 Boot가 Tomcat을 먼저 선택하므로 Netty를 명시
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/api/**")
+                .allowedOriginPatterns("*")
+                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedHeaders("*")
+                .allowCredentials(true)
+                .maxAge(3600);
+    }
+
+    // polyline 응답 전용 Accept 타입도 JSON으로 직렬화
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper,
+                MediaType.APPLICATION_JSON,
+                new MediaType("application", "*+json"),
+                MediaType.parseMediaType(RouteController.POLYLINE_MEDIA_TYPE)));
+    }
+}
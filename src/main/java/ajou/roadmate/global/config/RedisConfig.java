@@ -1,12 +1,17 @@
 package ajou.roadmate.global.config;
 
 import ajou.roadmate.gpt.dto.ChatContext;
+import ajou.roadmate.poi.dto.CachedPOIPage;
 import ajou.roadmate.user.domain.User;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -29,4 +34,34 @@ public class RedisConfig {
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
         return template;
     }
+
+    @Bean
+    public RedisTemplate<String, CachedPOIPage> poiPageRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, CachedPOIPage> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        return template;
+    }
+
+    // reactive 프로필: 블로킹 템플릿과 같은 키/값 직렬화 (두 경로가 같은 데이터를 읽고 씀)
+    @Bean
+    @Profile("reactive")
+    public ReactiveRedisTemplate<String, ChatContext> reactiveChatContextRedisTemplate(ReactiveRedisConnectionFactory factory) {
+        return new ReactiveRedisTemplate<>(factory, jsonSerializationContext());
+    }
+
+    @Bean
+    @Profile("reactive")
+    public ReactiveRedisTemplate<String, CachedPOIPage> reactivePoiPageRedisTemplate(ReactiveRedisConnectionFactory factory) {
+        return new ReactiveRedisTemplate<>(factory, jsonSerializationContext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> RedisSerializationContext<String, V> jsonSerializationContext() {
+        return RedisSerializationContext.<String, V>newSerializationContext(new StringRedisSerializer())
+                .value((RedisSerializationContext.SerializationPair<V>) RedisSerializationContext.SerializationPair
+                        .fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .build();
+    }
 }
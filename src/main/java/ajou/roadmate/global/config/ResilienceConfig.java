@@ -0,0 +1,108 @@
+package ajou.roadmate.global.config;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 업스트림별 서킷 브레이커/벌크헤드 설정 (메트릭: resilience4j.circuitbreaker.*, resilience4j.bulkhead.*)
+@Configuration
+public class ResilienceConfig {
+
+    // 최대 동시 호출 수 (Tomcat 기본 200 스레드 중 한 의존성이 점유할 수 있는 상한), 느린 호출 기준
+    // 동시 호출 수는 upstream.bulkhead.<업스트림>.max-concurrent-calls로 변경 가능 (reactive 프로필)
+    private static final Map<String, Limits> LIMITS = Map.of(
+            UpstreamGuard.TMAP_ROUTE, new Limits(40, Duration.ofSeconds(3)),
+            UpstreamGuard.TMAP_POI, new Limits(40, Duration.ofSeconds(2)),
+            UpstreamGuard.OPENAI, new Limits(30, Duration.ofSeconds(8)),
+            UpstreamGuard.REDIS, new Limits(100, Duration.ofMillis(300))
+    );
+
+    // 한도 초과 시 잠깐만 대기하고 거절 (upstream.bulkhead.max-wait-ms)
+    private static final long BULKHEAD_MAX_WAIT_MILLIS = 20;
+
+    // 최근 20회 중 실패율 50% 또는 느린 호출 80% 이상이면 15초간 차단 후 3회 시험 호출
+    private static final int SLIDING_WINDOW_SIZE = 20;
+    private static final int MINIMUM_CALLS = 10;
+    private static final float FAILURE_RATE_THRESHOLD = 50f;
+    private static final float SLOW_CALL_RATE_THRESHOLD = 80f;
+    private static final Duration OPEN_STATE_WAIT = Duration.ofSeconds(15);
+    private static final int HALF_OPEN_CALLS = 3;
+
+    @Bean
+    public CircuitBreakerRegistry upstreamCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(circuitBreakerConfig(Duration.ofSeconds(3)));
+        LIMITS.forEach((upstream, limits) ->
+                registry.circuitBreaker(upstream, circuitBreakerConfig(limits.slowCallThreshold())));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry upstreamBulkheadRegistry(MeterRegistry meterRegistry, Environment environment) {
+        Duration maxWait = Duration.ofMillis(
+                environment.getProperty("upstream.bulkhead.max-wait-ms", Long.class, BULKHEAD_MAX_WAIT_MILLIS));
+        BulkheadRegistry registry = BulkheadRegistry.of(bulkheadConfig(25, maxWait));
+        LIMITS.forEach((upstream, limits) -> {
+            int maxConcurrentCalls = environment.getProperty("upstream.bulkhead." + upstream + ".max-concurrent-calls",
+                    Integer.class, limits.maxConcurrentCalls());
+            registry.bulkhead(upstream, bulkheadConfig(maxConcurrentCalls, maxWait));
+        });
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(Duration slowCallThreshold) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(SLIDING_WINDOW_SIZE)
+                .minimumNumberOfCalls(MINIMUM_CALLS)
+                .failureRateThreshold(FAILURE_RATE_THRESHOLD)
+                .slowCallRateThreshold(SLOW_CALL_RATE_THRESHOLD)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .waitDurationInOpenState(OPEN_STATE_WAIT)
+                .permittedNumberOfCallsInHalfOpenState(HALF_OPEN_CALLS)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreException(ResilienceConfig::isCallerError)
+                .build();
+    }
+
+    private BulkheadConfig bulkheadConfig(int maxConcurrentCalls, Duration maxWait) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build();
+    }
+
+    // 업스트림 상태와 무관한 실패는 실패율에서 제외 (요청 오류 4xx, 직렬화 오류, 자체 예외, 벌크헤드 거절)
+    // 429는 쿼터 초과라 장애로 집계
+    private static boolean isCallerError(Throwable e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() != 429;
+        }
+        if (e instanceof WebClientResponseException responseError) {
+            return responseError.getStatusCode().is4xxClientError() && responseError.getStatusCode().value() != 429;
+        }
+        return e instanceof SerializationException
+                || e instanceof CustomException
+                || e instanceof BulkheadFullException;
+    }
+
+    private record Limits(int maxConcurrentCalls, Duration slowCallThreshold) {
+    }
+}
@@ -1,14 +1,24 @@
 package ajou.roadmate.global.config;
 
+import ajou.roadmate.global.logging.CorrelationIdInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+    // 타임아웃이 없으면 느린 업스트림이 요청 스레드를 무기한 점유 (서킷 브레이커의 느린 호출 판정도 불가)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(@Value("${upstream.http.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                                     @Value("${upstream.http.read-timeout-ms:10000}") int readTimeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(new CorrelationIdInterceptor());
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
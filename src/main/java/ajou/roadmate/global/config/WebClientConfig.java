@@ -0,0 +1,48 @@
+package ajou.roadmate.global.config;
+
+import ajou.roadmate.global.logging.CorrelationIdExchangeFilter;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// reactive 프로필의 T맵/OpenAI 호출용 (RestTemplateConfig와 같은 타임아웃)
+// 연결은 호스트별 풀에서 재사용, 풀과 대기열이 모두 차면 바로 실패시켜 느린 업스트림 앞에 요청이 무한히 쌓이지 않도록
+@Configuration
+@Profile("reactive")
+public class WebClientConfig {
+
+    // T맵 대중교통 응답(경로 5개 + 좌표)이 기본 버퍼 한도(256KB)를 넘을 수 있음
+    private static final int MAX_RESPONSE_BYTES = 4 * 1024 * 1024;
+
+    @Bean
+    public WebClient upstreamWebClient(WebClient.Builder builder,
+                                       @Value("${upstream.http.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                                       @Value("${upstream.http.read-timeout-ms:10000}") int readTimeoutMillis,
+                                       @Value("${upstream.webclient.max-connections:1000}") int maxConnections,
+                                       @Value("${upstream.webclient.pending-acquire-max-count:4000}") int pendingAcquireMaxCount) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_RESPONSE_BYTES))
+                .filter(new CorrelationIdExchangeFilter())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package ajou.roadmate.global.config;
+
+import ajou.roadmate.route.controller.RouteController;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // polyline 응답 전용 Accept 타입도 JSON으로 직렬화 (미등록 시 406)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+                List<MediaType> mediaTypes = new ArrayList<>(jacksonConverter.getSupportedMediaTypes());
+                mediaTypes.add(MediaType.parseMediaType(RouteController.POLYLINE_MEDIA_TYPE));
+                jacksonConverter.setSupportedMediaTypes(mediaTypes);
+            }
+        }
+    }
+}
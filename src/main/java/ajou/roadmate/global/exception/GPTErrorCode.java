@@ -13,6 +13,7 @@ public enum GPTErrorCode implements ErrorCode{
     CONTEXT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 세션의 컨텍스트가 존재하지 않습니다."),
     CONTEXT_DESERIALIZE_FAIL(HttpStatus.BAD_REQUEST, "컨텍스트 역직렬화 실패"),
     CONTEXT_LOOKUP_ERROR(HttpStatus.BAD_REQUEST, "컨텍스트 조회 중 오류 발생"),
+    CONTEXT_STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "컨텍스트 저장소를 일시적으로 사용할 수 없습니다."),
     GPT_ANALYSIS_FAIL(HttpStatus.BAD_REQUEST, "GPT 분석 실패"),
     INVALID_FEEDBACK_CATEGORY(HttpStatus.BAD_REQUEST, "유효하지 않은 피드백 카테고리입니다.");
 
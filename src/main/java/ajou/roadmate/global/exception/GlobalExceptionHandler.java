@@ -0,0 +1,27 @@
+package ajou.roadmate.global.exception;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// CustomException을 ErrorCode의 상태 코드와 ErrorResponse 본문으로 응답 (503/429 등이 500으로 바뀌지 않도록)
+@Slf4j
+@RestControllerAdvice
+@Profile("!reactive")
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e, HttpServletRequest request) {
+        return toResponse(e, request.getRequestURI());
+    }
+
+    static ResponseEntity<ErrorResponse> toResponse(CustomException e, String path) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.debug("요청 실패 - 경로: {}, 코드: {}", path, errorCode.name());
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(ErrorResponse.of(errorCode, path, e.getDetails()));
+    }
+}
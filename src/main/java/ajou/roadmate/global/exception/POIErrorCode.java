@@ -10,8 +10,12 @@ public enum POIErrorCode implements ErrorCode {
     INVALID_DESTINATION(HttpStatus.BAD_REQUEST, "목적지 정보가 필요합니다"),
     INVALID_LOCATION(HttpStatus.BAD_REQUEST, "현재 위치 정보가 필요합니다"),
     TMAP_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "T맵 API 호출 중 오류가 발생했습니다"),
+    TMAP_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "T맵 장소 검색이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해 주세요"),
+    TMAP_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "장소 검색 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요"),
     NO_RESULTS_FOUND(HttpStatus.NOT_FOUND, "검색 결과를 찾을 수 없습니다"),
-    COORDINATE_PARSE_ERROR(HttpStatus.BAD_REQUEST, "좌표 정보 파싱 중 오류가 발생했습니다");
+    COORDINATE_PARSE_ERROR(HttpStatus.BAD_REQUEST, "좌표 정보 파싱 중 오류가 발생했습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다"),
+    INVALID_CATEGORY(HttpStatus.BAD_REQUEST, "검색할 카테고리 정보가 필요합니다");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,18 @@
+package ajou.roadmate.global.exception;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// reactive 프로필용 GlobalExceptionHandler
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e, ServerHttpRequest request) {
+        return GlobalExceptionHandler.toResponse(e, request.getPath().value());
+    }
+}
@@ -10,7 +10,14 @@ public enum RouteErrorCode implements ErrorCode {
     INVALID_START_LOCATION(HttpStatus.BAD_REQUEST, "출발지 정보가 올바르지 않습니다"),
     INVALID_END_LOCATION(HttpStatus.BAD_REQUEST, "목적지 정보가 올바르지 않습니다"),
     ROUTE_NOT_FOUND(HttpStatus.NOT_FOUND, "경로를 찾을 수 없습니다"),
+    ACTIVE_ROUTE_NOT_FOUND(HttpStatus.NOT_FOUND, "안내 중인 경로가 없습니다"),
+    ACTIVE_ROUTE_FORBIDDEN(HttpStatus.FORBIDDEN, "다른 사용자의 안내 세션입니다"),
+    GEOMETRY_NOT_FOUND(HttpStatus.NOT_FOUND, "경로 좌표 정보가 없거나 만료되었습니다"),
+    ALTERNATIVE_NOT_FOUND(HttpStatus.NOT_FOUND, "대안 경로 정보가 없거나 만료되었습니다"),
+    INVALID_ALTERNATIVE(HttpStatus.BAD_REQUEST, "선택할 수 없는 대안 경로입니다"),
     TMAP_ROUTE_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "T맵 경로 탐색 API 호출 중 오류가 발생했습니다"),
+    TMAP_ROUTE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "T맵 경로 탐색이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해 주세요"),
+    TMAP_ROUTE_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "경로 탐색 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요"),
     ROUTE_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "경로 데이터 파싱 중 오류가 발생했습니다");
 
     private final HttpStatus status;
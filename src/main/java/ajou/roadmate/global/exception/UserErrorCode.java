@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 public enum UserErrorCode implements ErrorCode{
     ID_GENERATE_FAIL(HttpStatus.BAD_REQUEST, "ID 생성에 실패했습니다."),
     USER_NOT_FOUNT(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
-    MISSING_GUEST_ID(HttpStatus.BAD_REQUEST, "guest id를 찾을 수 없습니다.");
+    MISSING_GUEST_ID(HttpStatus.BAD_REQUEST, "guest id를 찾을 수 없습니다."),
+    INVALID_BIRTH_DATE(HttpStatus.BAD_REQUEST, "생년월일 형식이 올바르지 않습니다. (yyyy-MM-dd)"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,31 @@
+package ajou.roadmate.global.logging;
+
+import org.slf4j.MDC;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// 요청 하나(대화 한 턴)와 그 요청이 부른 T맵/OpenAI 호출, 백그라운드 작업의 로그를 묶는 ID
+public final class CorrelationId {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    // 클라이언트가 보낸 값은 형식이 맞을 때만 사용 (로그 주입 방지)
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private CorrelationId() {
+    }
+
+    public static String resolve(String requested) {
+        if (requested != null && VALID.matcher(requested).matches()) {
+            return requested;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    // 현재 스레드의 ID (없으면 null)
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+}
@@ -0,0 +1,32 @@
+package ajou.roadmate.global.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+// WebClient용 CorrelationIdInterceptor (ID는 ReactiveCorrelationIdFilter가 넣은 Reactor Context에서)
+@Slf4j
+public class CorrelationIdExchangeFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            String correlationId = context.getOrDefault(CorrelationId.MDC_KEY, null);
+            ClientRequest tagged = correlationId == null ? request : ClientRequest.from(request)
+                    .header(CorrelationId.HEADER, correlationId)
+                    .build();
+
+            long start = System.nanoTime();
+            return next.exchange(tagged)
+                    .doOnNext(response -> log.info(LogEvents.SAMPLED, "업스트림 호출 - {} {}{}, 상태: {}, {}ms, correlationId: {}",
+                            request.method(), request.url().getHost(), request.url().getPath(),
+                            response.statusCode().value(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            correlationId));
+        });
+    }
+}
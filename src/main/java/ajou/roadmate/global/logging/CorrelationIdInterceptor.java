@@ -0,0 +1,32 @@
+package ajou.roadmate.global.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// RestTemplate 업스트림 호출에 상관관계 ID 헤더를 붙이고 호출 결과를 샘플링 로그로 기록
+@Slf4j
+public class CorrelationIdInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String correlationId = CorrelationId.current();
+        if (correlationId != null) {
+            request.getHeaders().set(CorrelationId.HEADER, correlationId);
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        // 쿼리 문자열(검색어 등)은 남기지 않음
+        log.info(LogEvents.SAMPLED, "업스트림 호출 - {} {}{}, 상태: {}, {}ms",
+                request.getMethod(), request.getURI().getHost(), request.getURI().getPath(),
+                response.getStatusCode().value(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+    }
+}
@@ -0,0 +1,29 @@
+package ajou.roadmate.global.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+// 요청마다 남는 로그 공통 처리
+public final class LogEvents {
+
+    // 이 마커가 붙은 INFO 이하 로그는 logging.sample-rate 비율의 요청만 기록 (SamplingTurboFilter)
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 500;
+
+    private LogEvents() {
+    }
+
+    // 응답 본문 등 긴 값은 앞부분만 (원래 길이 표시)
+    public static String truncate(Object payload) {
+        return truncate(payload, DEFAULT_MAX_PAYLOAD_LENGTH);
+    }
+
+    public static String truncate(Object payload, int maxLength) {
+        String text = String.valueOf(payload);
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        return text.substring(0, maxLength) + "...(" + text.length() + "자)";
+    }
+}
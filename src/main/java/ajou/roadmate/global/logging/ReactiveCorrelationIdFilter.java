@@ -0,0 +1,26 @@
+package ajou.roadmate.global.logging;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// reactive 프로필용 CorrelationIdFilter
+// 이벤트 루프에서는 스레드가 요청마다 바뀌므로 MDC 대신 Reactor Context로 전달 (WebClient 호출 헤더에 사용)
+@Component
+@Profile("reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReactiveCorrelationIdFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String correlationId = CorrelationId.resolve(exchange.getRequest().getHeaders().getFirst(CorrelationId.HEADER));
+        exchange.getResponse().getHeaders().set(CorrelationId.HEADER, correlationId);
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(CorrelationId.MDC_KEY, correlationId));
+    }
+}
@@ -0,0 +1,37 @@
+package ajou.roadmate.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// LogEvents.SAMPLED 마커가 붙은 INFO 이하 로그를 sampleRate 비율만 남김 (WARN 이상은 항상 기록)
+// 로그 이벤트를 만들기 전에 판단하므로 버려지는 로그는 메시지 포맷/큐 적재 비용이 없음
+// 같은 상관관계 ID의 로그는 모두 남기거나 모두 버려 샘플된 요청은 업스트림 호출까지 이어서 볼 수 있음
+public class SamplingTurboFilter extends TurboFilter {
+
+    private double sampleRate = 0.01;
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(LogEvents.SAMPLED) || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return isSampled() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled() {
+        String correlationId = CorrelationId.current();
+        double draw = correlationId != null
+                ? (correlationId.hashCode() & Integer.MAX_VALUE) / (double) Integer.MAX_VALUE
+                : ThreadLocalRandom.current().nextDouble();
+        return draw < sampleRate;
+    }
+}
@@ -0,0 +1,92 @@
+package ajou.roadmate.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 외부 호출/Redis/파이프라인 단계 소요 시간 (outcome=success|error 태그 자동 추가)
+// 히스토그램 설정은 MetricsConfig에서 roadmate.* 전체에 적용
+@Component
+@RequiredArgsConstructor
+public class PipelineMetrics {
+
+    public static final String UPSTREAM = "roadmate.upstream.requests";
+    public static final String REDIS = "roadmate.redis.operations";
+    public static final String ROUTE_STAGE = "roadmate.route.stage";
+    public static final String NLP = "roadmate.nlp.requests";
+
+    // 같은 이름의 Timer는 태그 키가 같아야 하므로 (Prometheus) intent가 없는 T맵 호출에도 intent 태그를 붙임
+    public static final String NO_INTENT = "none";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    // 이름 + 태그 조합별 Timer (호출마다 builder/register 조회를 반복하지 않음)
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public <T> T record(String name, Supplier<T> body, String... tags) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
+        try {
+            T result = body.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            stop(sample, name, outcome, tags);
+        }
+    }
+
+    public <T> T recordCall(String name, Callable<T> body, String... tags) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
+        try {
+            T result = body.call();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            stop(sample, name, outcome, tags);
+        }
+    }
+
+    public void recordRun(String name, Runnable body, String... tags) {
+        record(name, () -> {
+            body.run();
+            return null;
+        }, tags);
+    }
+
+    // 리액티브 경로용: 구독부터 완료/오류까지 (취소된 호출은 기록하지 않음)
+    public <T> Mono<T> recordMono(String name, Mono<T> body, String... tags) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return body.doOnSuccess(result -> stop(sample, name, SUCCESS, tags))
+                    .doOnError(e -> stop(sample, name, ERROR, tags));
+        });
+    }
+
+    // 결과를 보고 태그를 정해야 하는 경우 (예: NLP intent)
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String name, String outcome, String... tags) {
+        sample.stop(timers.computeIfAbsent(new TimerKey(name, outcome, List.of(tags)),
+                key -> Timer.builder(name)
+                        .tags(Tags.of(tags).and("outcome", outcome))
+                        .register(meterRegistry)));
+    }
+
+    private record TimerKey(String name, String outcome, List<String> tags) {
+    }
+}
@@ -0,0 +1,328 @@
+package ajou.roadmate.global.quota;
+
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// T맵 앱 키(경로/POI 공용)의 초당·일일 호출 한도를 노드 간 공유하는 토큰 버킷 (Redis Lua로 원자적 처리, 시각은 Redis TIME 기준)
+// - INTERACTIVE(사용자 요청): 토큰이 없으면 max-wait-ms까지 대기 후 호출, 넘으면 429로 거절
+// - BACKGROUND(선조회, 캐시 갱신): 버킷 절반과 일일 한도 20%를 사용자 요청 몫으로 남기고, 대기 없이 생략
+// - T맵 429 응답을 받으면 버킷을 비우고 속도를 절반으로 낮춘 뒤 초당 5%씩 회복
+// - Redis 장애 시 사용자 요청은 통과시키고 후순위 호출은 생략
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TmapQuotaManager {
+
+    public enum Priority {
+        INTERACTIVE, BACKGROUND
+    }
+
+    // 메트릭 api 태그
+    public static final String ROUTE = "route";
+    public static final String POI = "poi";
+    public static final String POI_AROUND = "poi_around";
+
+    // 두 키를 한 스크립트에서 다루므로 해시 태그로 같은 슬롯에 둠 (Redis Cluster CROSSSLOT 방지)
+    private static final String BUCKET_KEY = "{tmap_quota}:bucket";
+    private static final String DAILY_PREFIX = "{tmap_quota}:daily:";
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final Duration DAILY_TTL = Duration.ofDays(2);
+
+    private static final double BACKGROUND_TOKEN_RESERVE = 0.5;
+    private static final double BACKGROUND_DAILY_RESERVE = 0.2;
+    private static final double RECOVERY_PER_SECOND = 0.05;
+    private static final double MIN_RATE_RATIO = 0.1;
+
+    // 노드당 토큰을 기다리는 요청 스레드 상한 (넘으면 대기 없이 거절)
+    private static final int MAX_WAITERS = 50;
+
+    // 결과: "허가(0/1):대기ms(-1이면 일일 한도 소진):오늘 사용량:현재 속도(초당, x1000)"
+    private static final RedisScript<String> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = redis.call('TIME')
+            local nowMs = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+            local maxRate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local recovery = tonumber(ARGV[3])
+            local dailyLimit = tonumber(ARGV[4])
+            local tokenReserve = tonumber(ARGV[5])
+            local dailyReserve = tonumber(ARGV[6])
+
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'rate')
+            local tokens = tonumber(state[1]) or burst
+            local ts = tonumber(state[2]) or nowMs
+            local rate = tonumber(state[3]) or maxRate
+            local elapsed = math.max(0, nowMs - ts) / 1000
+            rate = math.min(maxRate, rate + recovery * elapsed)
+            tokens = math.min(burst, tokens + rate * elapsed)
+
+            local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local granted = 0
+            local waitMs = 0
+            if used >= dailyLimit - dailyReserve then
+                waitMs = -1
+            elseif tokens - 1 >= tokenReserve then
+                granted = 1
+                tokens = tokens - 1
+                used = redis.call('INCR', KEYS[2])
+                if used == 1 then
+                    redis.call('EXPIRE', KEYS[2], ARGV[7])
+                end
+            else
+                waitMs = math.ceil((1 + tokenReserve - tokens) / rate * 1000)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(nowMs), 'rate', tostring(rate))
+            redis.call('PEXPIRE', KEYS[1], 60000)
+            return granted .. ':' .. waitMs .. ':' .. used .. ':' .. math.floor(rate * 1000)
+            """, String.class);
+
+    // 동시에 받은 429는 1초에 한 번만 반영, 결과는 낮춘 속도(초당, x1000)
+    private static final RedisScript<Long> THROTTLE_SCRIPT = new DefaultRedisScript<>("""
+            local now = redis.call('TIME')
+            local nowMs = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'rate', 'cut')
+            local rate = tonumber(state[1]) or tonumber(ARGV[2])
+            local cut = tonumber(state[2]) or 0
+            if nowMs - cut >= 1000 then
+                rate = math.max(tonumber(ARGV[1]), rate / 2)
+                redis.call('HSET', KEYS[1], 'tokens', '0', 'ts', tostring(nowMs), 'rate', tostring(rate), 'cut', tostring(nowMs))
+                redis.call('PEXPIRE', KEYS[1], 60000)
+            end
+            return math.floor(rate * 1000)
+            """, Long.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final UpstreamGuard upstreamGuard;
+    private final MeterRegistry meterRegistry;
+
+    // reactive 프로필용
+    @Autowired(required = false)
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Value("${tmap.quota.per-second:20}")
+    private double perSecond;
+
+    @Value("${tmap.quota.burst:40}")
+    private int burst;
+
+    @Value("${tmap.quota.daily:100000}")
+    private long dailyLimit;
+
+    @Value("${tmap.quota.max-wait-ms:500}")
+    private long maxWaitMillis;
+
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final AtomicLong dailyUsed = new AtomicLong();
+    private final AtomicLong rateMillis = new AtomicLong(-1);
+
+    // 허가되면 true, 한도 초과로 호출하지 말아야 하면 false
+    public boolean acquire(String api, Priority priority) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        boolean waiting = false;
+        try {
+            while (true) {
+                Decision decision = tryAcquire(priority);
+                long waitMillis = allowedWait(decision, priority, deadline);
+                if (decision.granted() || waitMillis < 0) {
+                    record(api, priority, decision.outcome(waiting));
+                    return decision.granted();
+                }
+                if (!waiting) {
+                    if (waiters.incrementAndGet() > MAX_WAITERS) {
+                        waiters.decrementAndGet();
+                        record(api, priority, "shed");
+                        return false;
+                    }
+                    waiting = true;
+                }
+                Thread.sleep(waitMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(api, priority, "shed");
+            return false;
+        } finally {
+            if (waiting) {
+                waiters.decrementAndGet();
+            }
+        }
+    }
+
+    // 리액티브 경로용: 대기는 타이머로 (스레드 점유 없음)
+    public Mono<Boolean> acquireReactive(String api, Priority priority) {
+        return Mono.defer(() -> acquireReactive(api, priority,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis), false));
+    }
+
+    private Mono<Boolean> acquireReactive(String api, Priority priority, long deadline, boolean waited) {
+        return tryAcquireReactive(priority).flatMap(decision -> {
+            long waitMillis = allowedWait(decision, priority, deadline);
+            if (decision.granted() || waitMillis < 0) {
+                record(api, priority, decision.outcome(waited));
+                return Mono.just(decision.granted());
+            }
+            return Mono.delay(Duration.ofMillis(waitMillis))
+                    .then(Mono.defer(() -> acquireReactive(api, priority, deadline, true)));
+        });
+    }
+
+    // T맵이 429를 반환한 경우: 모든 노드의 버킷을 비우고 속도를 낮춤
+    public void onThrottled(String api) {
+        meterRegistry.counter("roadmate.tmap.quota.throttled", "api", api).increment();
+        try {
+            Long rate = upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> stringRedisTemplate.execute(THROTTLE_SCRIPT, List.of(BUCKET_KEY), throttleArgs()));
+            updateRate(rate);
+            log.warn("T맵 호출 한도 초과 응답 - api: {}, 초당 호출 한도 {}로 낮춤", api, getCurrentRate());
+        } catch (Exception e) {
+            log.warn("T맵 호출 한도 조정 실패: {}", e.getMessage());
+        }
+    }
+
+    public Mono<Void> onThrottledReactive(String api) {
+        return Mono.defer(() -> {
+                    meterRegistry.counter("roadmate.tmap.quota.throttled", "api", api).increment();
+                    return upstreamGuard.mono(UpstreamGuard.REDIS,
+                            reactiveStringRedisTemplate.execute(THROTTLE_SCRIPT, List.of(BUCKET_KEY), throttleArgs()).next());
+                })
+                .doOnNext(rate -> {
+                    updateRate(rate);
+                    log.warn("T맵 호출 한도 초과 응답 - api: {}, 초당 호출 한도 {}로 낮춤", api, getCurrentRate());
+                })
+                .onErrorResume(e -> {
+                    log.warn("T맵 호출 한도 조정 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public static boolean isThrottled(Throwable e) {
+        if (e instanceof HttpStatusCodeException statusError) {
+            return statusError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof WebClientResponseException responseError
+                && responseError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    // 오늘 사용량 (이 노드가 마지막으로 확인한 값)
+    public long getDailyUsed() {
+        return dailyUsed.get();
+    }
+
+    public long getDailyLimit() {
+        return dailyLimit;
+    }
+
+    // 429 반영 후 현재 초당 호출 한도
+    public double getCurrentRate() {
+        long rate = rateMillis.get();
+        return rate >= 0 ? rate / 1000.0 : perSecond;
+    }
+
+    private Decision tryAcquire(Priority priority) {
+        try {
+            String result = upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> stringRedisTemplate.execute(ACQUIRE_SCRIPT, keys(), acquireArgs(priority)));
+            return parse(result);
+        } catch (Exception e) {
+            log.warn("T맵 호출 한도 확인 실패: {}", e.getMessage());
+            return Decision.failOpen(priority);
+        }
+    }
+
+    private Mono<Decision> tryAcquireReactive(Priority priority) {
+        return Mono.defer(() -> upstreamGuard.mono(UpstreamGuard.REDIS,
+                        reactiveStringRedisTemplate.execute(ACQUIRE_SCRIPT, keys(), acquireArgs(priority)).next()))
+                .map(this::parse)
+                .onErrorResume(e -> {
+                    log.warn("T맵 호출 한도 확인 실패: {}", e.getMessage());
+                    return Mono.just(Decision.failOpen(priority));
+                });
+    }
+
+    // 기다릴 수 있으면 대기 시간, 아니면 -1 (후순위 호출과 일일 한도 소진은 대기 없음)
+    private long allowedWait(Decision decision, Priority priority, long deadline) {
+        if (decision.granted() || decision.failOpen() || priority == Priority.BACKGROUND || decision.waitMillis() < 0) {
+            return -1;
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        return decision.waitMillis() <= remainingMillis ? Math.max(1, decision.waitMillis()) : -1;
+    }
+
+    private List<String> keys() {
+        return List.of(BUCKET_KEY, DAILY_PREFIX + LocalDate.now(QUOTA_ZONE));
+    }
+
+    private List<String> acquireArgs(Priority priority) {
+        boolean background = priority == Priority.BACKGROUND;
+        return List.of(
+                String.valueOf(perSecond),
+                String.valueOf(burst),
+                String.valueOf(perSecond * RECOVERY_PER_SECOND),
+                String.valueOf(dailyLimit),
+                String.valueOf(background ? burst * BACKGROUND_TOKEN_RESERVE : 0),
+                String.valueOf(background ? (long) (dailyLimit * BACKGROUND_DAILY_RESERVE) : 0),
+                String.valueOf(DAILY_TTL.toSeconds()));
+    }
+
+    private List<String> throttleArgs() {
+        return List.of(String.valueOf(perSecond * MIN_RATE_RATIO), String.valueOf(perSecond));
+    }
+
+    private Decision parse(String result) {
+        String[] parts = result.split(":");
+        dailyUsed.set(Long.parseLong(parts[2]));
+        updateRate(Long.parseLong(parts[3]));
+        return new Decision("1".equals(parts[0]), Long.parseLong(parts[1]), false);
+    }
+
+    private void updateRate(Long rate) {
+        if (rate != null) {
+            rateMillis.set(rate);
+        }
+    }
+
+    private void record(String api, Priority priority, String outcome) {
+        meterRegistry.counter("roadmate.tmap.quota.requests",
+                "api", api, "priority", priority.name().toLowerCase(), "outcome", outcome).increment();
+    }
+
+    // waitMillis: 다음 토큰까지 대기 시간, -1이면 일일 한도 소진, failOpen: Redis 장애로 한도 확인 불가
+    private record Decision(boolean granted, long waitMillis, boolean failOpen) {
+
+        static Decision failOpen(Priority priority) {
+            return new Decision(priority == Priority.INTERACTIVE, 0, true);
+        }
+
+        String outcome(boolean waited) {
+            if (failOpen) {
+                return granted ? "fail_open" : "shed";
+            }
+            if (granted) {
+                return waited ? "waited" : "granted";
+            }
+            return waitMillis < 0 ? "daily_exhausted" : "shed";
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package ajou.roadmate.global.ratelimit;
+
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// 클라이언트별 요청 한도 — 노드 간 공유하는 Redis 토큰 버킷
+// - 로그인 세션으로 확인된 사용자는 user:{id}, 그 외(게스트)는 guest:{접속 IP}
+//   (X-Guest-Id는 요청마다 바꿀 수 있고 사용자 ID와 겹칠 수 있으므로 키로 쓰지 않음)
+// - 접속 IP: 직접 연결한 주소가 ratelimit.trusted-proxies(로드밸런서 등)에 있으면 X-Forwarded-For에서
+//   신뢰 프록시가 아닌 가장 오른쪽 주소 (신뢰하지 않는 연결의 X-Forwarded-For는 위조될 수 있으므로 무시)
+// - nlp: /nlp/** (OpenAI 호출), api: /api/** (T맵 호출)
+// - Redis가 거절하면 재시도 가능 시각까지 이 노드에서 바로 거절 (같은 클라이언트의 연속 요청에 Redis를 다시 호출하지 않음)
+// - Redis 장애 시 통과
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ClientRateLimiter {
+
+    public static final String NLP = "nlp";
+    public static final String API = "api";
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    // 로컬 거절 목록 상한 (넘으면 만료된 항목 정리)
+    private static final int MAX_LOCAL_KEYS = 10_000;
+
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f.:]+");
+
+    // 결과: "허용(0/1):남은 요청 수:재시도까지 ms"
+    private static final RedisScript<String> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local now = redis.call('TIME')
+            local nowMs = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or burst
+            local ts = tonumber(state[2]) or nowMs
+            tokens = math.min(burst, tokens + math.max(0, nowMs - ts) / 1000 * rate)
+
+            local allowed = 0
+            local retryMs = 0
+            if tokens >= 1 then
+                allowed = 1
+                tokens = tokens - 1
+            else
+                retryMs = math.ceil((1 - tokens) / rate * 1000)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(nowMs))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst / rate * 1000) + 1000)
+            return allowed .. ':' .. math.floor(tokens) .. ':' .. retryMs
+            """, String.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final UpstreamGuard upstreamGuard;
+    private final MeterRegistry meterRegistry;
+
+    // reactive 프로필용
+    @Autowired(required = false)
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Value("${ratelimit.nlp.per-second:1}")
+    private double nlpPerSecond;
+
+    @Value("${ratelimit.nlp.burst:10}")
+    private int nlpBurst;
+
+    @Value("${ratelimit.api.per-second:5}")
+    private double apiPerSecond;
+
+    @Value("${ratelimit.api.burst:30}")
+    private int apiBurst;
+
+    // 신뢰하는 프록시 주소 (IP 또는 CIDR, 예: 10.0.0.0/8)
+    @Value("${ratelimit.trusted-proxies:}")
+    private List<String> trustedProxies = List.of();
+
+    // 한도 초과 클라이언트 (scope:clientKey → 재시도 가능 시각, nanoTime)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    // 요청 경로의 한도 구분, 대상이 아니면 null
+    public static String scopeOf(String path) {
+        if (path.startsWith("/nlp/")) {
+            return NLP;
+        }
+        if (path.startsWith("/api/")) {
+            return API;
+        }
+        return null;
+    }
+
+    public static String clientKey(String sessionUserId, String remoteAddress) {
+        return sessionUserId != null ? "user:" + sessionUserId : "guest:" + remoteAddress;
+    }
+
+    // 게스트 키에 쓸 클라이언트 주소
+    public String clientAddress(String remoteAddress, String forwardedFor) {
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(remoteAddress)) {
+            return remoteAddress;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddress;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (address == null) {
+            return false;
+        }
+        for (String proxy : trustedProxies) {
+            if (matches(proxy.trim(), address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String proxy, String address) {
+        if (proxy.isEmpty()) {
+            return false;
+        }
+        int slash = proxy.indexOf('/');
+        if (slash < 0) {
+            return proxy.equals(address);
+        }
+        // 헤더 값이 호스트 이름이면 DNS 조회가 일어나므로 IP 리터럴만 비교
+        if (!IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+
+        try {
+            byte[] network = InetAddress.getByName(proxy.substring(0, slash)).getAddress();
+            byte[] candidate = InetAddress.getByName(address).getAddress();
+            if (network.length != candidate.length) {
+                return false;
+            }
+            int prefix = Integer.parseInt(proxy.substring(slash + 1));
+            for (int i = 0; i < network.length && prefix > 0; i++, prefix -= 8) {
+                int mask = prefix >= 8 ? 0xff : (0xff << (8 - prefix)) & 0xff;
+                if ((network[i] & mask) != (candidate[i] & mask)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (UnknownHostException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public Decision check(String scope, String clientKey) {
+        Decision local = checkLocal(scope, clientKey);
+        if (local != null) {
+            return local;
+        }
+
+        try {
+            String result = upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys(scope, clientKey), args(scope)));
+            return apply(scope, clientKey, result);
+        } catch (Exception e) {
+            return failOpen(scope, e);
+        }
+    }
+
+    public Mono<Decision> checkReactive(String scope, String clientKey) {
+        Decision local = checkLocal(scope, clientKey);
+        if (local != null) {
+            return Mono.just(local);
+        }
+
+        return Mono.defer(() -> upstreamGuard.mono(UpstreamGuard.REDIS,
+                        reactiveStringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys(scope, clientKey), args(scope)).next()))
+                .map(result -> apply(scope, clientKey, result))
+                .onErrorResume(e -> Mono.just(failOpen(scope, e)));
+    }
+
+    Decision checkLocal(String scope, String clientKey) {
+        String localKey = scope + ":" + clientKey;
+        Long until = blockedUntil.get(localKey);
+        if (until == null) {
+            return null;
+        }
+
+        long remainingNanos = until - System.nanoTime();
+        if (remainingNanos <= 0) {
+            blockedUntil.remove(localKey, until);
+            return null;
+        }
+        record(scope, "local_limited");
+        return new Decision(false, 0, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+    }
+
+    Decision apply(String scope, String clientKey, String result) {
+        String[] parts = result.split(":");
+        Decision decision = new Decision("1".equals(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        if (decision.allowed()) {
+            record(scope, "allowed");
+            return decision;
+        }
+
+        if (blockedUntil.size() >= MAX_LOCAL_KEYS) {
+            long now = System.nanoTime();
+            blockedUntil.values().removeIf(until -> until - now <= 0);
+        }
+        blockedUntil.put(scope + ":" + clientKey,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(decision.retryAfterMillis()));
+        record(scope, "limited");
+        return decision;
+    }
+
+    private Decision failOpen(String scope, Throwable e) {
+        log.warn("요청 한도 확인 실패, 통과: {}", e.getMessage());
+        record(scope, "fail_open");
+        return new Decision(true, -1, 0);
+    }
+
+    private List<String> keys(String scope, String clientKey) {
+        return List.of(KEY_PREFIX + scope + ":" + clientKey);
+    }
+
+    private List<String> args(String scope) {
+        return NLP.equals(scope)
+                ? List.of(String.valueOf(nlpPerSecond), String.valueOf(nlpBurst))
+                : List.of(String.valueOf(apiPerSecond), String.valueOf(apiBurst));
+    }
+
+    private void record(String scope, String outcome) {
+        meterRegistry.counter("roadmate.ratelimit.requests", "scope", scope, "outcome", outcome).increment();
+    }
+
+    // remaining: 남은 요청 수 (-1이면 확인하지 못함)
+    public record Decision(boolean allowed, long remaining, long retryAfterMillis) {
+
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ajou.roadmate.global.ratelimit;
+
+import ajou.roadmate.global.exception.ErrorResponse;
+import ajou.roadmate.global.exception.UserErrorCode;
+import ajou.roadmate.global.utils.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+// /api/**, /nlp/** 요청을 컨트롤러 전에 사용자별 한도로 제한 (초과 시 429)
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final UserContext userContext;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || ClientRateLimiter.scopeOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String scope = ClientRateLimiter.scopeOf(request.getRequestURI());
+        String remoteAddress = clientRateLimiter.clientAddress(request.getRemoteAddr(), request.getHeader(FORWARDED_FOR));
+        String clientKey = ClientRateLimiter.clientKey(userContext.findSessionUserId(request), remoteAddress);
+        ClientRateLimiter.Decision decision = clientRateLimiter.check(scope, clientKey);
+
+        if (decision.remaining() >= 0) {
+            response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        }
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(UserErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(UserErrorCode.TOO_MANY_REQUESTS,
+                request.getRequestURI(), Map.of("retryAfterSeconds", decision.retryAfterSeconds())));
+    }
+}
@@ -0,0 +1,66 @@
+package ajou.roadmate.global.ratelimit;
+
+import ajou.roadmate.global.exception.ErrorResponse;
+import ajou.roadmate.global.exception.UserErrorCode;
+import ajou.roadmate.global.utils.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+// reactive 프로필용 RateLimitFilter
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final UserContext userContext;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        String scope = ClientRateLimiter.scopeOf(path);
+        if (scope == null || HttpMethod.OPTIONS.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        String remoteAddress = clientRateLimiter.clientAddress(request.getRemoteAddress() != null
+                        ? request.getRemoteAddress().getAddress().getHostAddress() : "unknown",
+                request.getHeaders().getFirst(RateLimitFilter.FORWARDED_FOR));
+        return userContext.findSessionUserId(request)
+                .map(userId -> ClientRateLimiter.clientKey(userId, remoteAddress))
+                .defaultIfEmpty(ClientRateLimiter.clientKey(null, remoteAddress))
+                .flatMap(clientKey -> clientRateLimiter.checkReactive(scope, clientKey))
+                .flatMap(decision -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    if (decision.remaining() >= 0) {
+                        response.getHeaders().set(RateLimitFilter.REMAINING_HEADER, String.valueOf(decision.remaining()));
+                    }
+                    if (decision.allowed()) {
+                        return chain.filter(exchange);
+                    }
+
+                    response.setStatusCode(UserErrorCode.TOO_MANY_REQUESTS.getStatus());
+                    response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    ErrorResponse body = ErrorResponse.of(UserErrorCode.TOO_MANY_REQUESTS, path,
+                            Map.of("retryAfterSeconds", decision.retryAfterSeconds()));
+                    return response.writeWith(Mono.fromCallable(
+                            () -> response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body))));
+                });
+    }
+}
@@ -0,0 +1,63 @@
+package ajou.roadmate.global.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+// 외부 의존성별 서킷 브레이커 + 세마포어 벌크헤드 (설정은 ResilienceConfig)
+// 한 의존성이 느려져도 요청 스레드는 동시 호출 한도만큼만 묶이고, 실패/지연이 누적되면 호출 없이 바로 거절
+@Component
+@RequiredArgsConstructor
+public class UpstreamGuard {
+
+    public static final String TMAP_ROUTE = "tmap_route";
+    public static final String TMAP_POI = "tmap_poi";
+    public static final String OPENAI = "openai";
+    public static final String REDIS = "redis";
+
+    private final CircuitBreakerRegistry upstreamCircuitBreakerRegistry;
+    private final BulkheadRegistry upstreamBulkheadRegistry;
+
+    public <T> T call(String upstream, Supplier<T> body) {
+        CircuitBreaker circuitBreaker = upstreamCircuitBreakerRegistry.circuitBreaker(upstream);
+        Bulkhead bulkhead = upstreamBulkheadRegistry.bulkhead(upstream);
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, body)).get();
+    }
+
+    public <T> T callChecked(String upstream, Callable<T> body) throws Exception {
+        CircuitBreaker circuitBreaker = upstreamCircuitBreakerRegistry.circuitBreaker(upstream);
+        Bulkhead bulkhead = upstreamBulkheadRegistry.bulkhead(upstream);
+        return CircuitBreaker.decorateCallable(circuitBreaker, Bulkhead.decorateCallable(bulkhead, body)).call();
+    }
+
+    public void run(String upstream, Runnable body) {
+        call(upstream, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    // 리액티브 경로용: 구독 시 허가를 얻고 완료/오류/취소 시 반환 (대기 없이 거절)
+    public <T> Mono<T> mono(String upstream, Mono<T> body) {
+        CircuitBreaker circuitBreaker = upstreamCircuitBreakerRegistry.circuitBreaker(upstream);
+        Bulkhead bulkhead = upstreamBulkheadRegistry.bulkhead(upstream);
+        return body.transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    // 실제 호출 없이 거절된 경우 (서킷 열림, 동시 호출 한도 초과)
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+}
@@ -0,0 +1,31 @@
+package ajou.roadmate.global.utils;
+
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    private GeoUtils() {
+    }
+
+    // 하버사인 거리(미터)
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    // 위도 1도당 미터
+    public static double metersPerDegreeLat() {
+        return Math.PI * EARTH_RADIUS_METERS / 180.0;
+    }
+
+    // 해당 위도에서 경도 1도당 미터
+    public static double metersPerDegreeLon(double lat) {
+        return metersPerDegreeLat() * Math.cos(Math.toRadians(lat));
+    }
+}
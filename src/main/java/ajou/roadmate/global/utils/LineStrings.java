@@ -0,0 +1,118 @@
+package ajou.roadmate.global.utils;
+
+import java.util.Arrays;
+
+// T맵 linestring("lon,lat lon,lat ...")을 좌표 배열로 한 번에 파싱
+// 각 좌표의 원본 문자열 위치도 함께 보관해 원문 그대로 다시 이어 붙일 수 있음
+public final class LineStrings {
+
+    private LineStrings() {
+    }
+
+    public static Coordinates parse(CharSequence lineString) {
+        int length = lineString.length();
+        int capacity = Math.max(4, length / 18);
+        Coordinates coordinates = new Coordinates(capacity);
+
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(lineString.charAt(i))) {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+
+            int tokenStart = i;
+            int commaIndex = -1;
+            while (i < length && !Character.isWhitespace(lineString.charAt(i))) {
+                if (lineString.charAt(i) == ',' && commaIndex < 0) {
+                    commaIndex = i;
+                }
+                i++;
+            }
+
+            if (commaIndex < 0) {
+                throw new IllegalArgumentException("잘못된 linestring 좌표 형식 (위치 " + tokenStart + ")");
+            }
+            double lon = parseNumber(lineString, tokenStart, commaIndex);
+            double lat = parseNumber(lineString, commaIndex + 1, i);
+            coordinates.add(lon, lat, tokenStart, i);
+        }
+        return coordinates;
+    }
+
+    private static double parseNumber(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+
+        double integerPart = 0.0;
+        double fraction = 0.0;
+        double scale = 1.0;
+        boolean seenDigit = false;
+        boolean seenDot = false;
+
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (seenDot) {
+                    scale *= 10.0;
+                    fraction = fraction * 10.0 + (c - '0');
+                } else {
+                    integerPart = integerPart * 10.0 + (c - '0');
+                }
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                throw new IllegalArgumentException("잘못된 linestring 좌표 형식 (위치 " + i + ")");
+            }
+        }
+
+        if (!seenDigit) {
+            throw new IllegalArgumentException("잘못된 linestring 좌표 형식 (위치 " + start + ")");
+        }
+        double value = integerPart + fraction / scale;
+        return negative ? -value : value;
+    }
+
+    public static final class Coordinates {
+        private double[] lons;
+        private double[] lats;
+        private int[] tokenStarts;
+        private int[] tokenEnds;
+        private int size;
+
+        private Coordinates(int capacity) {
+            lons = new double[capacity];
+            lats = new double[capacity];
+            tokenStarts = new int[capacity];
+            tokenEnds = new int[capacity];
+        }
+
+        private void add(double lon, double lat, int tokenStart, int tokenEnd) {
+            if (size == lons.length) {
+                int capacity = size * 2;
+                lons = Arrays.copyOf(lons, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                tokenStarts = Arrays.copyOf(tokenStarts, capacity);
+                tokenEnds = Arrays.copyOf(tokenEnds, capacity);
+            }
+            lons[size] = lon;
+            lats[size] = lat;
+            tokenStarts[size] = tokenStart;
+            tokenEnds[size] = tokenEnd;
+            size++;
+        }
+
+        public int size() { return size; }
+        public double lon(int index) { return lons[index]; }
+        public double lat(int index) { return lats[index]; }
+        public int tokenStart(int index) { return tokenStarts[index]; }
+        public int tokenEnd(int index) { return tokenEnds[index]; }
+    }
+}
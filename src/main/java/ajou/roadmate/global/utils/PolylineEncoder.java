@@ -0,0 +1,109 @@
+package ajou.roadmate.global.utils;
+
+// T맵 linestring("lon,lat lon,lat ...")을 Google encoded polyline(정밀도 1e5, 위도 먼저)으로 변환
+// 중간 문자열/배열 없이 입력을 한 번만 읽으면서 바로 인코딩
+public final class PolylineEncoder {
+
+    private static final double PRECISION = 1e5;
+    private static final int MAX_FRACTION_DIGITS = 12;
+    private static final double[] POW10 = new double[MAX_FRACTION_DIGITS + 1];
+
+    static {
+        POW10[0] = 1.0;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10.0;
+        }
+    }
+
+    private PolylineEncoder() {
+    }
+
+    public static String encode(CharSequence lineString) {
+        StringBuilder out = new StringBuilder(Math.max(16, lineString.length() / 3));
+        encodeTo(lineString, out);
+        return out.toString();
+    }
+
+    public static void encodeTo(CharSequence lineString, StringBuilder out) {
+        int length = lineString.length();
+        int[] pos = {0};
+        long prevLat = 0;
+        long prevLon = 0;
+
+        while (true) {
+            skipWhitespace(lineString, pos);
+            if (pos[0] >= length) {
+                return;
+            }
+
+            long lon = parseE5(lineString, pos);
+            if (pos[0] >= length || lineString.charAt(pos[0]) != ',') {
+                throw new IllegalArgumentException("잘못된 linestring 좌표 형식 (위치 " + pos[0] + ")");
+            }
+            pos[0]++;
+            long lat = parseE5(lineString, pos);
+
+            encodeValue(lat - prevLat, out);
+            encodeValue(lon - prevLon, out);
+            prevLat = lat;
+            prevLon = lon;
+        }
+    }
+
+    private static void skipWhitespace(CharSequence s, int[] pos) {
+        while (pos[0] < s.length() && Character.isWhitespace(s.charAt(pos[0]))) {
+            pos[0]++;
+        }
+    }
+
+    // "127.04526" → 12704526 (Math.round(value * 1e5)과 동일)
+    private static long parseE5(CharSequence s, int[] pos) {
+        int i = pos[0];
+        int length = s.length();
+        boolean negative = false;
+
+        if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean seenDigit = false;
+        boolean seenDot = false;
+
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (!seenDot) {
+                    mantissa = mantissa * 10 + (c - '0');
+                } else if (fractionDigits < MAX_FRACTION_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!seenDigit) {
+            throw new IllegalArgumentException("잘못된 linestring 좌표 형식 (위치 " + pos[0] + ")");
+        }
+        pos[0] = i;
+
+        long value = Math.round(mantissa / POW10[fractionDigits] * PRECISION);
+        return negative ? -value : value;
+    }
+
+    private static void encodeValue(long value, StringBuilder out) {
+        long v = value < 0 ? ~(value << 1) : (value << 1);
+        while (v >= 0x20) {
+            out.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        out.append((char) (v + 63));
+    }
+}
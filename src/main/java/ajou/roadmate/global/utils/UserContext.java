@@ -6,7 +6,10 @@ import ajou.roadmate.user.domain.User;
 import ajou.roadmate.user.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Component
 @RequiredArgsConstructor
@@ -15,16 +18,103 @@ public class UserContext {
     private final AuthService authService;
 
     public String resolveUserId(HttpServletRequest request) {
-        String token = request.getHeader("Authorization");
+        return resolveUserId(request.getHeader("Authorization"), request.getHeader("X-Guest-Id"));
+    }
+
+    // 리액티브 컨트롤러용: 로그인 세션 조회(블로킹 Redis)는 이벤트 루프 밖에서
+    public Mono<String> resolveUserId(ServerHttpRequest request) {
+        String token = request.getHeaders().getFirst("Authorization");
+        String guestId = request.getHeaders().getFirst("X-Guest-Id");
+        Mono<String> userId = Mono.fromCallable(() -> resolveUserId(token, guestId));
+        return token != null && !token.isEmpty() ? userId.subscribeOn(Schedulers.boundedElastic()) : userId;
+    }
+
+    private String resolveUserId(String token, String guestId) {
         if (token != null && !token.isEmpty()) {
             User user = authService.getUserBySession(token);
             return user.getId();
         } else {
-            String guestId = request.getHeader("X-Guest-Id");
             if (guestId == null || guestId.isEmpty()) {
                 throw new CustomException(UserErrorCode.MISSING_GUEST_ID);
             }
             return guestId;
         }
     }
+
+    // 식별 헤더가 없거나 세션이 유효하지 않으면 null (개인화가 선택 사항인 API용)
+    public String findUserId(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        String guestId = request.getHeader("X-Guest-Id");
+        if ((token == null || token.isEmpty()) && (guestId == null || guestId.isEmpty())) {
+            return null;
+        }
+
+        try {
+            return resolveUserId(request);
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+
+    // 로그인 세션으로 확인된 사용자 ID만 (X-Guest-Id는 클라이언트가 임의로 정하므로 제외), 없거나 유효하지 않으면 null
+    public String findSessionUserId(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return resolveUserId(token, null);
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+
+    public Mono<String> findSessionUserId(ServerHttpRequest request) {
+        String token = request.getHeaders().getFirst("Authorization");
+        if (token == null || token.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> resolveUserId(token, null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(CustomException.class, e -> Mono.empty());
+    }
+
+    // 식별 헤더가 없거나 세션이 유효하지 않으면 빈 Mono
+    public Mono<String> findUserId(ServerHttpRequest request) {
+        String token = request.getHeaders().getFirst("Authorization");
+        String guestId = request.getHeaders().getFirst("X-Guest-Id");
+        if ((token == null || token.isEmpty()) && (guestId == null || guestId.isEmpty())) {
+            return Mono.empty();
+        }
+
+        return resolveUserId(request).onErrorResume(CustomException.class, e -> Mono.empty());
+    }
+
+    // 사용자별 데이터 저장 키: 로그인 사용자는 사용자 ID, 게스트는 guest:{X-Guest-Id}
+    // (게스트 ID는 임의로 정할 수 있으므로 순차 발급되는 사용자 ID와 같은 키를 쓰지 않도록)
+    public String resolveOwnerKey(HttpServletRequest request) {
+        return ownerKey(request.getHeader("Authorization"), resolveUserId(request));
+    }
+
+    public Mono<String> resolveOwnerKey(ServerHttpRequest request) {
+        String token = request.getHeaders().getFirst("Authorization");
+        return resolveUserId(request).map(userId -> ownerKey(token, userId));
+    }
+
+    // 식별 헤더가 없거나 세션이 유효하지 않으면 null
+    public String findOwnerKey(HttpServletRequest request) {
+        String userId = findUserId(request);
+        return userId != null ? ownerKey(request.getHeader("Authorization"), userId) : null;
+    }
+
+    public Mono<String> findOwnerKey(ServerHttpRequest request) {
+        String token = request.getHeaders().getFirst("Authorization");
+        return findUserId(request).map(userId -> ownerKey(token, userId));
+    }
+
+    private static String ownerKey(String token, String userId) {
+        return token != null && !token.isEmpty() ? userId : "guest:" + userId;
+    }
 }
@@ -6,18 +6,22 @@ import ajou.roadmate.gpt.dto.NlpResponseDto;
 import ajou.roadmate.gpt.service.NlpOrchestrationService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+// reactive 프로필에서는 ReactiveNlpController가 같은 경로를 처리
 @RestController
+@Profile("!reactive")
 @RequestMapping("/nlp")
 @RequiredArgsConstructor
 public class NlpController {
 
     private final NlpOrchestrationService orchestrationService;
+    private final UserContext userContext;
 
     @PostMapping("/chat")
     public ResponseEntity<NlpResponseDto> handleChat(HttpServletRequest request, @RequestBody NlpRequestDto requestDto) {
@@ -28,7 +32,7 @@ public class NlpController {
                             .status(NlpResponseDto.Status.ERROR)
                             .build());
         }
-        NlpResponseDto response = orchestrationService.orchestrate(requestDto);
+        NlpResponseDto response = orchestrationService.orchestrate(requestDto, userContext.findUserId(request));
         return ResponseEntity.ok(response);
     }
 
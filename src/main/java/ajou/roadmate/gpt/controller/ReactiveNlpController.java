@@ -0,0 +1,44 @@
+package ajou.roadmate.gpt.controller;
+
+import ajou.roadmate.global.utils.UserContext;
+import ajou.roadmate.gpt.dto.NlpRequestDto;
+import ajou.roadmate.gpt.dto.NlpResponseDto;
+import ajou.roadmate.gpt.service.ReactiveNlpOrchestrationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+// reactive 프로필의 NlpController
+@RestController
+@Profile("reactive")
+@RequestMapping("/nlp")
+@RequiredArgsConstructor
+public class ReactiveNlpController {
+
+    private final ReactiveNlpOrchestrationService reactiveNlpOrchestrationService;
+    private final UserContext userContext;
+
+    @PostMapping("/chat")
+    public Mono<ResponseEntity<NlpResponseDto>> handleChat(ServerHttpRequest request, @RequestBody NlpRequestDto requestDto) {
+        if (requestDto.getSessionId() == null || requestDto.getSessionId().isBlank()) {
+            return Mono.just(ResponseEntity.badRequest().body(
+                    NlpResponseDto.builder()
+                            .responseMessage("sessionId는 필수입니다.")
+                            .status(NlpResponseDto.Status.ERROR)
+                            .build()));
+        }
+        return userContext.findUserId(request)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(userId -> reactiveNlpOrchestrationService.orchestrate(requestDto, userId.orElse(null)))
+                .map(ResponseEntity::ok);
+    }
+}
@@ -20,10 +20,12 @@ public class ChatContext {
     private LocationInfo extractedLocations;
     private List<Message> conversationHistory;
     private RouteResponse routeResponse;
+    private RouteSummary routeSummary;
 
     public void reset() {
         this.extractedLocations = null;
         this.routeResponse = null;
+        this.routeSummary = null;
         if (this.conversationHistory != null) {
             this.conversationHistory.clear();
         }
@@ -42,4 +44,18 @@ public class ChatContext {
         this.conversationHistory.add(message);
     }
 
+    // 경로와 안내 질의용 요약을 함께 갱신
+    public void updateRoute(RouteResponse routeResponse) {
+        this.routeResponse = routeResponse;
+        this.routeSummary = RouteSummary.of(routeResponse);
+    }
+
+    // 요약 없이 저장된 이전 컨텍스트는 조회 시 생성
+    public RouteSummary resolveRouteSummary() {
+        if (this.routeSummary == null && this.routeResponse != null) {
+            this.routeSummary = RouteSummary.of(this.routeResponse);
+        }
+        return this.routeSummary;
+    }
+
 }
\ No newline at end of file
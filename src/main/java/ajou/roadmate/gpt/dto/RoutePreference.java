@@ -0,0 +1,44 @@
+package ajou.roadmate.gpt.dto;
+
+import java.util.Map;
+
+// 사용자 경로 선호 가중치를 정규화 계수로 미리 계산해 둔 값 (점수 = 계수 · 원시 값)
+public record RoutePreference(double walkCoef, double transferCoef, double totalTimeCoef,
+                              double elevatorCoef, double escalatorCoef) {
+
+    private static final double MAX_WALK_TIME = 1800.0;
+    private static final double MAX_TOTAL_TIME = 7200.0;
+    private static final double MAX_TRANSFER_COUNT = 5.0;
+
+    // 피드백 조회가 불가능할 때 쓰는 기본 가중치 (도보 2, 환승 0, 총 시간 3, 엘리베이터 2, 에스컬레이터 2)
+    public static final RoutePreference DEFAULT = fromWeights(2, 0, 3, 2, 2);
+
+    public static RoutePreference fromWeights(int walkWeight, int transferWeight, int totalTimeWeight,
+                                              int elevatorWeight, int escalatorWeight) {
+        return new RoutePreference(
+                walkWeight / MAX_WALK_TIME,
+                transferWeight / MAX_TRANSFER_COUNT,
+                totalTimeWeight / MAX_TOTAL_TIME,
+                elevatorWeight,
+                escalatorWeight);
+    }
+
+    public static RoutePreference fromFeedbackCounts(Map<String, Integer> counts) {
+        return fromWeights(
+                counts.getOrDefault("walk", 2),
+                counts.getOrDefault("transfer", 0),
+                counts.getOrDefault("totalTime", 3),
+                counts.getOrDefault("elevator", 2),
+                counts.getOrDefault("escalator", 2));
+    }
+
+    // 낮을수록 좋은 경로
+    public double score(double walkTime, double transferCount, double totalTime,
+                        double elevatorRatio, double escalatorRatio) {
+        return walkTime * walkCoef
+                + transferCount * transferCoef
+                + totalTime * totalTimeCoef
+                - elevatorRatio * elevatorCoef
+                - escalatorRatio * escalatorCoef;
+    }
+}
@@ -0,0 +1,104 @@
+package ajou.roadmate.gpt.dto;
+
+import ajou.roadmate.route.dto.RouteResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 경로 안내 질의 응답용 요약 (경로를 컨텍스트에 저장할 때 한 번만 생성)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RouteSummary {
+
+    private List<String> busNumbers;
+    private List<String> subwayLines;
+    private List<String> busBoardingStations;
+    private List<String> busAlightingStations;
+    private List<String> subwayBoardingStations;
+    private List<String> subwayAlightingStations;
+
+    // 교통수단별 구간 소요 시간 합계(초)
+    private Map<String, Integer> sectionTimes;
+
+    // 역별 엘리베이터/에스컬레이터 안내 (줄바꿈 구분, 정보가 없으면 null)
+    private String accessibilityText;
+
+    public static RouteSummary of(RouteResponse route) {
+        if (route == null || route.getGuides() == null) {
+            return null;
+        }
+
+        Set<String> busNumbers = new LinkedHashSet<>();
+        Set<String> subwayLines = new LinkedHashSet<>();
+        Set<String> busBoarding = new LinkedHashSet<>();
+        Set<String> busAlighting = new LinkedHashSet<>();
+        Set<String> subwayBoarding = new LinkedHashSet<>();
+        Set<String> subwayAlighting = new LinkedHashSet<>();
+        Map<String, Integer> sectionTimes = new LinkedHashMap<>();
+        Map<String, String> accessibility = new LinkedHashMap<>();
+
+        for (RouteResponse.GuideInfo guide : route.getGuides()) {
+            String type = guide.getTransportType();
+            boolean bus = "BUS".equalsIgnoreCase(type);
+            boolean subway = "SUBWAY".equalsIgnoreCase(type);
+
+            if (bus) {
+                if (guide.getBusNumber() != null) {
+                    busNumbers.add(guide.getBusNumber());
+                }
+                if (guide.getStartLocation() != null) {
+                    busBoarding.add(guide.getStartLocation().getName());
+                }
+                if (guide.getEndLocation() != null) {
+                    busAlighting.add(guide.getEndLocation().getName());
+                }
+            } else if (subway) {
+                if (guide.getRouteName() != null) {
+                    subwayLines.add(guide.getRouteName());
+                }
+                if (guide.getStartLocation() != null) {
+                    subwayBoarding.add(guide.getStartLocation().getName());
+                }
+                if (guide.getEndLocation() != null) {
+                    subwayAlighting.add(guide.getEndLocation().getName());
+                }
+            }
+
+            if (type != null) {
+                sectionTimes.merge(type, guide.getTime() != null ? guide.getTime() : 0, Integer::sum);
+            }
+
+            RouteResponse.StationAccessibility acc = guide.getStationAccessibility();
+            if (acc != null && guide.getStartLocation() != null) {
+                String stationName = guide.getStartLocation().getName();
+                accessibility.putIfAbsent(stationName, stationName + "역에는 엘리베이터가 "
+                        + (acc.getHasElevator() ? "있습니다." : "없습니다.")
+                        + ", 에스컬레이터가 "
+                        + (acc.getHasEscalator() ? "있습니다." : "없습니다."));
+            }
+        }
+
+        return RouteSummary.builder()
+                .busNumbers(new ArrayList<>(busNumbers))
+                .subwayLines(new ArrayList<>(subwayLines))
+                .busBoardingStations(new ArrayList<>(busBoarding))
+                .busAlightingStations(new ArrayList<>(busAlighting))
+                .subwayBoardingStations(new ArrayList<>(subwayBoarding))
+                .subwayAlightingStations(new ArrayList<>(subwayAlighting))
+                .sectionTimes(sectionTimes)
+                .accessibilityText(accessibility.isEmpty() ? null : String.join("\n", accessibility.values()))
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package ajou.roadmate.gpt.service;
 
 import ajou.roadmate.global.exception.CustomException;
 import ajou.roadmate.global.exception.GPTErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.resilience.UpstreamGuard;
 import ajou.roadmate.gpt.dto.ChatContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +19,19 @@ import java.time.Duration;
 public class ContextService {
 
     private final RedisTemplate<String, ChatContext> chatContextRedisTemplate;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
 
-    private static final String CONTEXT_PREFIX = "nlp_context:";
-    private static final Duration CONTEXT_TTL = Duration.ofMinutes(30);
+    // ReactiveContextService와 같은 키/TTL
+    static final String CONTEXT_PREFIX = "nlp_context:";
+    static final Duration CONTEXT_TTL = Duration.ofMinutes(30);
 
     public ChatContext getContext(String sessionId) {
         try {
-            ChatContext context = chatContextRedisTemplate.opsForValue().get(CONTEXT_PREFIX + sessionId);
+            ChatContext context = upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> pipelineMetrics.record(PipelineMetrics.REDIS,
+                            () -> chatContextRedisTemplate.opsForValue().get(CONTEXT_PREFIX + sessionId),
+                            "store", "context", "operation", "get"));
 
             if (context == null) {
                 throw new CustomException(GPTErrorCode.CONTEXT_NOT_FOUND);
@@ -38,6 +46,10 @@ public class ContextService {
         } catch (CustomException e) {
             throw e;
         } catch (Exception e) {
+            if (UpstreamGuard.isRejected(e)) {
+                log.warn("ChatContext 조회 거절 - 세션: {}, {}", sessionId, e.getMessage());
+                throw new CustomException(GPTErrorCode.CONTEXT_STORE_UNAVAILABLE);
+            }
             log.error("ChatContext 조회 중 오류 - 세션: {}", sessionId, e);
             throw new CustomException(GPTErrorCode.CONTEXT_LOOKUP_ERROR);
         }
@@ -45,9 +57,17 @@ public class ContextService {
 
     public void saveContext(ChatContext context) {
         try {
-            chatContextRedisTemplate.opsForValue().set(CONTEXT_PREFIX + context.getSessionId(), context, CONTEXT_TTL);
+            upstreamGuard.run(UpstreamGuard.REDIS,
+                    () -> pipelineMetrics.recordRun(PipelineMetrics.REDIS,
+                            () -> chatContextRedisTemplate.opsForValue().set(CONTEXT_PREFIX + context.getSessionId(), context, CONTEXT_TTL),
+                            "store", "context", "operation", "set"));
             log.debug("컨텍스트 저장 완료: sessionId={}", context.getSessionId());
         } catch (Exception e) {
+            // Redis 차단 중에는 저장을 건너뛰고 응답은 그대로 반환 (대화 이력만 유실)
+            if (UpstreamGuard.isRejected(e)) {
+                log.warn("컨텍스트 저장 거절: sessionId={}, {}", context.getSessionId(), e.getMessage());
+                return;
+            }
             log.error("컨텍스트 저장 실패: sessionId={}", context.getSessionId(), e);
             throw new RuntimeException("컨텍스트 저장 중 오류가 발생했습니다.", e);
         }
@@ -55,7 +75,10 @@ public class ContextService {
 
     public void deleteContext(String sessionId) {
         try {
-            Boolean deleted = chatContextRedisTemplate.delete(CONTEXT_PREFIX + sessionId);
+            Boolean deleted = upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> pipelineMetrics.record(PipelineMetrics.REDIS,
+                            () -> chatContextRedisTemplate.delete(CONTEXT_PREFIX + sessionId),
+                            "store", "context", "operation", "delete"));
             log.debug("컨텍스트 삭제: sessionId={}, deleted={}", sessionId, deleted);
         } catch (Exception e) {
             log.error("컨텍스트 삭제 실패: sessionId={}", sessionId, e);
@@ -2,20 +2,31 @@ package ajou.roadmate.gpt.service;
 
 import ajou.roadmate.global.exception.CustomException;
 import ajou.roadmate.global.exception.GPTErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.gpt.dto.RoutePreference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class FeedbackService {
 
+    // 다른 인스턴스에서 들어온 피드백은 TTL 이후 반영
+    private static final long PREFERENCE_TTL_MILLIS = 5 * 60 * 1000L;
+    private static final int MAX_CACHED_PREFERENCES = 10000;
+
     private final RedisTemplate<String, String> stringRedisTemplate;
+    private final PipelineMetrics pipelineMetrics;
+
+    private final Map<String, CachedPreference> preferenceCache = new ConcurrentHashMap<>();
 
     public void submitFeedback(String userId, String feedbackCategory) {
         Set<String> validCategories = Set.of("walk", "transfer", "totalTime", "elevator", "escalator");
@@ -25,12 +36,50 @@ public class FeedbackService {
         }
 
         String key = "feedback_count:" + userId;
-        stringRedisTemplate.opsForHash().increment(key, feedbackCategory, 1);
+        pipelineMetrics.record(PipelineMetrics.REDIS,
+                () -> stringRedisTemplate.opsForHash().increment(key, feedbackCategory, 1),
+                "store", "feedback", "operation", "increment");
+        preferenceCache.remove(String.valueOf(userId));
+    }
+
+    public RoutePreference getRoutePreference(String userId) {
+        String cacheKey = String.valueOf(userId);
+        long now = System.currentTimeMillis();
+
+        CachedPreference cached = preferenceCache.get(cacheKey);
+        if (cached != null && now - cached.loadedAt() < PREFERENCE_TTL_MILLIS) {
+            return cached.preference();
+        }
+
+        RoutePreference preference = RoutePreference.fromFeedbackCounts(getFeedbackCounts(userId));
+        evictIfFull(now);
+        preferenceCache.put(cacheKey, new CachedPreference(preference, now));
+        return preference;
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 오래 전에 불러온 항목부터 최대 개수의 90%까지 제거
+    private void evictIfFull(long now) {
+        if (preferenceCache.size() < MAX_CACHED_PREFERENCES) {
+            return;
+        }
+        preferenceCache.values().removeIf(cached -> now - cached.loadedAt() >= PREFERENCE_TTL_MILLIS);
+
+        int excess = preferenceCache.size() - MAX_CACHED_PREFERENCES * 9 / 10;
+        if (excess > 0) {
+            List<Map.Entry<String, Long>> byAge = new ArrayList<>(preferenceCache.size());
+            preferenceCache.forEach((key, cached) -> byAge.add(Map.entry(key, cached.loadedAt())));
+            byAge.sort(Map.Entry.comparingByValue());
+            for (int i = 0; i < Math.min(excess, byAge.size()); i++) {
+                preferenceCache.remove(byAge.get(i).getKey());
+            }
+        }
     }
 
     public Map<String, Integer> getFeedbackCounts(String userId) {
         String key = "feedback_count:" + userId;
-        Map<Object, Object> raw = stringRedisTemplate.opsForHash().entries(key);
+        Map<Object, Object> raw = pipelineMetrics.record(PipelineMetrics.REDIS,
+                () -> stringRedisTemplate.opsForHash().entries(key),
+                "store", "feedback", "operation", "entries");
 
         Map<String, Integer> result = new HashMap<>();
         List<String> allCategories = List.of("walk", "transfer", "totalTime", "elevator", "escalator");
@@ -49,4 +98,7 @@ public class FeedbackService {
         }
         return result;
     }
+
+    private record CachedPreference(RoutePreference preference, long loadedAt) {
+    }
 }
@@ -0,0 +1,97 @@
+package ajou.roadmate.gpt.service;
+
+import ajou.roadmate.gpt.dto.NlpAnalysisResult;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// OpenAI 호출이 실패/거절될 때 쓰는 키워드 기반 의도 분류 (자주 쓰는 질문만, 나머지는 null)
+@Component
+public class LocalIntentClassifier {
+
+    // "서울역에서 강남역 가는 길", "강남역까지 어떻게 가", "강남역 가고싶어"
+    // 장소명 뒤 조사(까지/으로)는 추출 후 제거 ("종로" 같은 이름이 잘리지 않도록 "로"는 제외)
+    private static final Pattern ROUTE_WITH_ORIGIN = Pattern.compile("(\\S+)에서\\s*(\\S+)\\s*(?:가는|가려면|가고|어떻게)");
+    private static final Pattern ROUTE = Pattern.compile("(\\S+)\\s*(?:가는\\s*길|가려면|가고\\s*싶|가고싶|어떻게\\s*가)");
+    private static final Pattern PLACE_PARTICLE = Pattern.compile("(까지|으로)$");
+    private static final Pattern BUS_NUMBER = Pattern.compile("([0-9A-Za-z-]+)번\\s*버스");
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("real_time_bus_arrival", Pattern.compile("버스.*(언제\\s*와|언제\\s*오|도착\\s*정보|몇\\s*분\\s*남)"), "버스 도착 정보를 확인해볼게요."),
+            new Rule("real_time_subway_arrival", Pattern.compile("(지하철|열차|전철).*(언제\\s*와|언제\\s*오|도착\\s*정보|몇\\s*분\\s*남)"), "지하철 도착 정보를 확인해볼게요."),
+            new Rule("accessibility_info", Pattern.compile("엘리베이터|에스컬레이터|휠체어|계단"), "역 편의시설 정보를 알려드릴게요."),
+            new Rule("estimated_arrival_time", Pattern.compile("몇\\s*시.*도착|언제\\s*도착|도착\\s*예정"), "도착 예정 시간을 알려드릴게요."),
+            new Rule("total_fare", Pattern.compile("요금|얼마\\s*(야|예요|에요|나와|들어)|교통비"), "요금 정보를 알려드릴게요."),
+            new Rule("total_route_distance", Pattern.compile("거리|몇\\s*(km|킬로|미터)"), "총 거리를 알려드릴게요."),
+            new Rule("total_route_time", Pattern.compile("얼마나\\s*걸|몇\\s*분\\s*걸|소요\\s*시간|시간\\s*얼마"), "소요 시간을 알려드릴게요."),
+            new Rule("subway_line_info", Pattern.compile("몇\\s*호선|무슨\\s*호선|어떤\\s*(지하철|노선)"), "이용할 지하철 노선을 알려드릴게요."),
+            new Rule("bus_number_info", Pattern.compile("몇\\s*번\\s*버스|어떤\\s*버스|무슨\\s*버스|버스\\s*어디서"), "타야 할 버스를 안내드릴게요."),
+            new Rule("current_location", Pattern.compile("여기\\s*어디|현재\\s*위치|내\\s*위치"), "현재 위치를 확인해볼게요.")
+    );
+
+    public NlpAnalysisResult classify(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        NlpAnalysisResult route = classifyRoute(text);
+        if (route != null) {
+            return route;
+        }
+
+        for (Rule rule : RULES) {
+            if (rule.pattern().matcher(text).find()) {
+                Map<String, String> entities = new HashMap<>();
+                if (rule.intent().equals("real_time_bus_arrival")) {
+                    Matcher busNumber = BUS_NUMBER.matcher(text);
+                    if (busNumber.find()) {
+                        entities.put("bus_number", busNumber.group(1));
+                    }
+                }
+                return result(rule.intent(), entities, rule.responseText());
+            }
+        }
+        return null;
+    }
+
+    private NlpAnalysisResult classifyRoute(String text) {
+        Matcher withOrigin = ROUTE_WITH_ORIGIN.matcher(text);
+        if (withOrigin.find()) {
+            Map<String, String> entities = new HashMap<>();
+            String origin = withOrigin.group(1);
+            String destination = place(withOrigin.group(2));
+            entities.put("origin", origin);
+            entities.put("destination", destination);
+            return result("extract_route", entities, origin + "에서 " + destination + "까지의 경로를 찾아볼게요.");
+        }
+
+        Matcher route = ROUTE.matcher(text);
+        if (route.find()) {
+            Map<String, String> entities = new HashMap<>();
+            String destination = place(route.group(1));
+            entities.put("origin", null);
+            entities.put("destination", destination);
+            return result("extract_route", entities, "현재 위치에서 " + destination + "까지의 경로를 찾아볼게요.");
+        }
+        return null;
+    }
+
+    private String place(String word) {
+        return PLACE_PARTICLE.matcher(word).replaceFirst("");
+    }
+
+    private NlpAnalysisResult result(String intent, Map<String, String> entities, String responseText) {
+        NlpAnalysisResult result = new NlpAnalysisResult();
+        result.setIntent(intent);
+        result.setEntities(entities);
+        result.setResponseText(responseText);
+        return result;
+    }
+
+    private record Rule(String intent, Pattern pattern, String responseText) {
+    }
+}
@@ -2,16 +2,15 @@ package ajou.roadmate.gpt.service;
 
 import ajou.roadmate.global.exception.CustomException;
 import ajou.roadmate.global.exception.GPTErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
 import ajou.roadmate.gpt.dto.*;
-import ajou.roadmate.route.dto.RouteResponse.GuideInfo;
-import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.service.RouteRankingEventLogger;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,22 +20,61 @@ public class NlpOrchestrationService {
     private final OpenAiNlpService openAiNlpService;
     private final RouteInfoService routeInfoService;
     private final FeedbackService feedbackService;
+    private final RouteRankingEventLogger routeRankingEventLogger;
+    private final PipelineMetrics pipelineMetrics;
+
+    // userId: 요청 헤더로 확인한 사용자 ID (없으면 null, 피드백 저장/이벤트 기록용)
+    public NlpResponseDto orchestrate(NlpRequestDto request, String userId) {
+        Timer.Sample sample = pipelineMetrics.start();
+        String intentTag = "unknown";
+        String outcome = PipelineMetrics.ERROR;
+        try {
+            NlpResponseDto response = handle(request, userId);
+            intentTag = OpenAiNlpService.intentTag(response.getIntent());
+            outcome = PipelineMetrics.SUCCESS;
+            return response;
+        } finally {
+            pipelineMetrics.stop(sample, PipelineMetrics.NLP, outcome, "intent", intentTag);
+        }
+    }
 
-    public NlpResponseDto orchestrate(NlpRequestDto request) {
+    private NlpResponseDto handle(NlpRequestDto request, String userId) {
         ChatContext context;
+        boolean saveContext = true;
 
         try {
             context = contextService.getContext(request.getSessionId());
         } catch (CustomException e) {
-            if (e.getErrorCode() == GPTErrorCode.CONTEXT_NOT_FOUND) {
+            if (startsNewConversation(e)) {
                 context = new ChatContext(request.getSessionId());
+                // 조회가 거절된 경우 저장된 대화/경로가 남아 있을 수 있으므로 빈 컨텍스트로 덮어쓰지 않음
+                saveContext = !isLookupRejected(e);
             } else {
                 throw e;
             }
         }
 
         NlpAnalysisResult analysis = openAiNlpService.analyze(context.getConversationHistory(), request.getText());
+        NlpResponseDto response = respond(context, analysis, userId);
+
+        if (saveContext) {
+            updateAndSaveContext(context, request.getText(), response);
+        }
+        return response;
+    }
+
+    // Redis 차단 중에는 이력 없이 새 대화로 처리
+    static boolean startsNewConversation(CustomException e) {
+        return e.getErrorCode() == GPTErrorCode.CONTEXT_NOT_FOUND
+                || e.getErrorCode() == GPTErrorCode.CONTEXT_STORE_UNAVAILABLE;
+    }
+
+    static boolean isLookupRejected(CustomException e) {
+        return e.getErrorCode() == GPTErrorCode.CONTEXT_STORE_UNAVAILABLE;
+    }
 
+    // 의도별 응답 구성 (ReactiveNlpOrchestrationService와 공유, feedback 의도만 Redis 호출)
+    NlpResponseDto respond(ChatContext context, NlpAnalysisResult analysis, String userId) {
         String intent = analysis.getIntent();
         NlpResponseDto response;
 
@@ -52,7 +90,7 @@ public class NlpOrchestrationService {
         } else if ("current_location".equals(intent)) {
             response = handleCurrentLocation(context);
         } else if ("feedback".equals(intent)) {
-            response = handleFeedback(context, analysis);
+            response = handleFeedback(context, analysis, userId);
         } else {
             response = NlpResponseDto.builder()
                     .sessionId(context.getSessionId())
@@ -62,7 +100,6 @@ public class NlpOrchestrationService {
                     .build();
         }
 
-        updateAndSaveContext(context, request.getText(), response);
         return response;
     }
 
@@ -88,7 +125,7 @@ public class NlpOrchestrationService {
 
     private NlpResponseDto handleRouteExtraction(ChatContext context, NlpAnalysisResult analysis) {
         if ("research_route".equals(analysis.getIntent())) {
-            context.setRouteResponse(null);
+            context.updateRoute(null);
         }
 
         LocationInfo newLocations = new LocationInfo(
@@ -134,7 +171,8 @@ public class NlpOrchestrationService {
     }
 
     private NlpResponseDto handleInfoRequest(ChatContext context, NlpAnalysisResult analysis) {
-        String answer = routeInfoService.getAnswerForIntent(analysis.getIntent(), context.getRouteResponse(), analysis.getEntities());
+        String answer = routeInfoService.getAnswerForIntent(analysis.getIntent(), context.getRouteResponse(),
+                context.resolveRouteSummary(), analysis.getEntities());
 
         return NlpResponseDto.builder()
                 .sessionId(context.getSessionId())
@@ -165,7 +203,7 @@ public class NlpOrchestrationService {
 
     private NlpResponseDto handleGuidanceInfo(ChatContext context, NlpAnalysisResult analysis) {
         String intent = analysis.getIntent();
-        RouteResponse route = context.getRouteResponse();
+        RouteSummary route = context.resolveRouteSummary();
         Map<String, String> entities = analysis.getEntities();
         String answer;
 
@@ -196,7 +234,7 @@ public class NlpOrchestrationService {
                 .build();
     }
 
-    private NlpResponseDto handleFeedback(ChatContext context, NlpAnalysisResult analysis) {
+    private NlpResponseDto handleFeedback(ChatContext context, NlpAnalysisResult analysis, String userId) {
         Map<String, String> entities = analysis.getEntities();
         String category = entities != null ? entities.get("category") : null;
 
@@ -210,7 +248,11 @@ public class NlpOrchestrationService {
         }
 
         try {
-            feedbackService.submitFeedback(context.getSessionId(), category);
+            // 경로 탐색이 사용자 ID로 선호도를 읽으므로 같은 키로 저장 (식별할 수 없는 요청은 반영하지 않음)
+            if (userId != null) {
+                feedbackService.submitFeedback(userId, category);
+            }
+            routeRankingEventLogger.logFeedback(context.getSessionId(), userId, category);
         } catch (IllegalArgumentException e) {
             return NlpResponseDto.builder()
                     .sessionId(context.getSessionId())
@@ -237,12 +279,8 @@ public class NlpOrchestrationService {
                 .build();
     }
 
-    private String getBusNumber(RouteResponse route) {
-        List<String> busNumbers = route.getGuides().stream()
-                .filter(g -> "BUS".equalsIgnoreCase(g.getTransportType()) && g.getBusNumber() != null)
-                .map(GuideInfo::getBusNumber)
-                .distinct()
-                .toList();
+    private String getBusNumber(RouteSummary route) {
+        List<String> busNumbers = route.getBusNumbers();
 
         if (busNumbers.isEmpty()) {
             return "현재 경로에는 버스 관련 정보가 없습니다.";
@@ -251,12 +289,8 @@ public class NlpOrchestrationService {
         return "버스 번호는 " + String.join(", ", busNumbers) + "입니다.";
     }
 
-    private String getSubwayLine(RouteResponse route) {
-        List<String> subwayLines = route.getGuides().stream()
-                .filter(g -> "SUBWAY".equalsIgnoreCase(g.getTransportType()) && g.getRouteName() != null)
-                .map(GuideInfo::getRouteName)
-                .distinct()
-                .toList();
+    private String getSubwayLine(RouteSummary route) {
+        List<String> subwayLines = route.getSubwayLines();
 
         if(subwayLines.isEmpty()){
             return "현재 경로에는 지하철 관련 정보가 없습니다.";
@@ -265,7 +299,7 @@ public class NlpOrchestrationService {
         return "지하철 노선은 " + String.join(", ", subwayLines) + "입니다. 승차역과 하차역은 추가로 질문해주세요.";
     }
 
-    private String getBusStationInfo(RouteResponse route, Map<String, String> entities){
+    private String getBusStationInfo(RouteSummary route, Map<String, String> entities){
         if (entities == null || entities.isEmpty()) {
             return "버스 정류장 정보를 확인할 수 없습니다. 출발 또는 도착 여부를 명시해주세요.";
         }
@@ -279,35 +313,27 @@ public class NlpOrchestrationService {
         }
     }
 
-    private String getStartBusStationInfo(RouteResponse route) {
-        List<String> stationDescriptions = route.getGuides().stream()
-                .filter(g -> "BUS".equalsIgnoreCase(g.getTransportType()) && g.getStartLocation() != null)
-                .map(g -> String.format("%s에서 승차", g.getStartLocation().getName()))
-                .distinct()
-                .toList();
+    private String getStartBusStationInfo(RouteSummary route) {
+        List<String> stations = route.getBusBoardingStations();
 
-        if (stationDescriptions.isEmpty()) {
+        if (stations.isEmpty()) {
             return "현재 경로에서 이용 가능한 버스 승차 위치 정보를 찾을 수 없습니다.";
         }
 
-        return "버스 승차 정류장은 " + String.join(", ", stationDescriptions) + "입니다.";
+        return "버스 승차 정류장은 " + joinStations(stations, "", "에서 승차") + "입니다.";
     }
 
-    private String getEndBusStationInfo(RouteResponse route) {
-        List<String> stationDescriptions = route.getGuides().stream()
-                .filter(g -> "BUS".equalsIgnoreCase(g.getTransportType()) && g.getEndLocation() != null)
-                .map(g -> String.format("%s에서 하차", g.getEndLocation().getName()))
-                .distinct()
-                .toList();
+    private String getEndBusStationInfo(RouteSummary route) {
+        List<String> stations = route.getBusAlightingStations();
 
-        if (stationDescriptions.isEmpty()) {
+        if (stations.isEmpty()) {
             return "현재 경로에서 이용 가능한 버스 하차 위치 정보를 찾을 수 없습니다.";
         }
 
-        return "버스 하차 정류장은 " + String.join(", ", stationDescriptions) + "입니다.";
+        return "버스 하차 정류장은 " + joinStations(stations, "", "에서 하차") + "입니다.";
     }
 
-    private String getSubwayStationInfo(RouteResponse route, Map<String, String> entities){
+    private String getSubwayStationInfo(RouteSummary route, Map<String, String> entities){
         if (entities == null || entities.isEmpty()) {
             return "지하철 정보를 확인할 수 없습니다. 출발 또는 도착 여부를 명시해주세요.";
         }
@@ -321,63 +347,53 @@ public class NlpOrchestrationService {
         }
     }
 
-    private String getStartSubwayStationInfo(RouteResponse route) {
-        List<String> stationDescriptions = route.getGuides().stream()
-                .filter(g -> "SUBWAY".equalsIgnoreCase(g.getTransportType()) && g.getStartLocation() != null)
-                .map(g -> String.format("지하철은 %s역에서 탑승합니다.", g.getStartLocation().getName()))
-                .distinct()
-                .toList();
+    private String getStartSubwayStationInfo(RouteSummary route) {
+        List<String> stations = route.getSubwayBoardingStations();
 
-        if (stationDescriptions.isEmpty()) {
+        if (stations.isEmpty()) {
             return "현재 경로에서 이용 가능한 지하철 승차 위치 정보를 찾을 수 없습니다.";
         }
 
-        return "지하철 승차역은 " + String.join(", ", stationDescriptions) + "입니다.";
+        return "지하철 승차역은 " + joinStations(stations, "지하철은 ", "역에서 탑승합니다.") + "입니다.";
     }
 
-    private String getEndSubwayStationInfo(RouteResponse route) {
-        List<String> stationDescriptions = route.getGuides().stream()
-                .filter(g -> "SUBWAY".equalsIgnoreCase(g.getTransportType()) && g.getEndLocation() != null)
-                .map(g -> String.format("지하철은 %s역에서 하차합니다.", g.getEndLocation().getName()))
-                .distinct()
-                .toList();
+    private String getEndSubwayStationInfo(RouteSummary route) {
+        List<String> stations = route.getSubwayAlightingStations();
 
-        if (stationDescriptions.isEmpty()) {
+        if (stations.isEmpty()) {
             return "현재 경로에서 이용 가능한 지하철 하차 위치 정보를 찾을 수 없습니다.";
         }
 
-        return "지하철 하차역은 " + String.join(", ", stationDescriptions) + "입니다.";
+        return "지하철 하차역은 " + joinStations(stations, "지하철은 ", "역에서 하차합니다.") + "입니다.";
     }
 
-    private String getAccessibilityInfo(RouteResponse route) {
-        Map<String, String> stationToDescription = route.getGuides().stream()
-                .filter(g -> g.getStationAccessibility() != null && g.getStartLocation() != null)
-                .collect(Collectors.toMap(
-                        g -> g.getStartLocation().getName(),
-                        g -> {
-                            var acc = g.getStationAccessibility();
-                            return String.format(
-                                    "%s역에는 엘리베이터가 %s, 에스컬레이터가 %s",
-                                    g.getStartLocation().getName(),
-                                    acc.getHasElevator() ? "있습니다." : "없습니다.",
-                                    acc.getHasEscalator() ? "있습니다." : "없습니다."
-                            );
-                        },
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
-
-        if (stationToDescription.isEmpty()) {
+    private String getAccessibilityInfo(RouteSummary route) {
+        if (route.getAccessibilityText() == null) {
             return "역의 접근성 정보가 없습니다.";
         }
 
-        return String.join("\n", stationToDescription.values());
+        return route.getAccessibilityText();
+    }
+
+    private String joinStations(List<String> stations, String prefix, String suffix) {
+        StringBuilder builder = new StringBuilder();
+        for (String station : stations) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(prefix).append(station).append(suffix);
+        }
+        return builder.toString();
     }
 
     private void updateAndSaveContext(ChatContext context, String userText, NlpResponseDto response) {
+        addTurn(context, userText, response);
+        contextService.saveContext(context);
+    }
+
+    static void addTurn(ChatContext context, String userText, NlpResponseDto response) {
         context.addMessage(new Message("user", userText));
         context.addMessage(new Message("assistant", response.getResponseMessage()));
-        contextService.saveContext(context);
     }
 
 }
\ No newline at end of file
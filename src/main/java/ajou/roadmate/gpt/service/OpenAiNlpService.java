@@ -1,6 +1,10 @@
 package ajou.roadmate.gpt.service;
 
+import ajou.roadmate.global.logging.LogEvents;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.resilience.UpstreamGuard;
 import ajou.roadmate.gpt.dto.*;
+import io.micrometer.core.instrument.Timer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +18,7 @@ import org.springframework.web.client.RestTemplate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -22,6 +27,17 @@ public class OpenAiNlpService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+    private final LocalIntentClassifier localIntentClassifier;
+
+    // 메트릭 태그용 (모델이 목록 밖 intent를 내면 other로 묶음)
+    private static final Set<String> KNOWN_INTENTS = Set.of(
+            "extract_route", "research_route", "real_time_bus_arrival", "real_time_subway_arrival",
+            "total_route_time", "section_time_by_mode", "estimated_arrival_time", "total_fare",
+            "total_route_distance", "bus_number_info", "subway_line_info", "bus_station_info",
+            "subway_station_info", "accessibility_info", "current_location", "feedback",
+            "other_inquiries", "error");
 
     @Value("${gpt.api.key}")
     private String openaiApiKey;
@@ -31,37 +47,79 @@ public class OpenAiNlpService {
     private String model;
 
     public NlpAnalysisResult analyze(List<Message> conversationHistory, String newUserInput) {
-        List<Message> messages = new ArrayList<>();
-        messages.add(new Message("system", getSystemPrompt()));
-        messages.addAll(conversationHistory);
-        messages.add(new Message("user", newUserInput));
+        List<Message> messages = buildMessages(conversationHistory, newUserInput);
 
         try {
-            return callOpenAiApi(messages);
+            return upstreamGuard.callChecked(UpstreamGuard.OPENAI, () -> {
+                Timer.Sample sample = pipelineMetrics.start();
+                try {
+                    NlpAnalysisResult result = callOpenAiApi(messages);
+                    pipelineMetrics.stop(sample, PipelineMetrics.UPSTREAM, PipelineMetrics.SUCCESS,
+                            "upstream", "openai", "intent", intentTag(result.getIntent()));
+                    return result;
+                } catch (Exception e) {
+                    pipelineMetrics.stop(sample, PipelineMetrics.UPSTREAM, PipelineMetrics.ERROR,
+                            "upstream", "openai", "intent", "unknown");
+                    throw e;
+                }
+            });
         } catch (Exception e) {
-            log.error("Error calling OpenAI API", e);
-            NlpAnalysisResult errorResult = new NlpAnalysisResult();
-            errorResult.setIntent("error");
-            errorResult.setResponseText("죄송합니다, 요청을 이해하는 데 실패했습니다.");
-            return errorResult;
+            if (UpstreamGuard.isRejected(e)) {
+                log.warn("OpenAI 호출 거절: {}", e.getMessage());
+            } else {
+                log.error("Error calling OpenAI API", e);
+            }
+            return fallback(newUserInput);
         }
     }
 
-    private NlpAnalysisResult callOpenAiApi(List<Message> messages) throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiApiKey);
+    // 자주 쓰는 질문은 로컬 분류로 응답
+    NlpAnalysisResult fallback(String newUserInput) {
+        NlpAnalysisResult fallback = localIntentClassifier.classify(newUserInput);
+        if (fallback != null) {
+            return fallback;
+        }
+
+        NlpAnalysisResult errorResult = new NlpAnalysisResult();
+        errorResult.setIntent("error");
+        errorResult.setResponseText("죄송합니다, 요청을 이해하는 데 실패했습니다.");
+        return errorResult;
+    }
 
-        Map<String, Object> requestBody = Map.of(
+    public static String intentTag(String intent) {
+        return intent != null && KNOWN_INTENTS.contains(intent) ? intent : "other";
+    }
+
+    // ReactiveOpenAiNlpService와 요청/응답 형식을 공유
+    List<Message> buildMessages(List<Message> conversationHistory, String newUserInput) {
+        List<Message> messages = new ArrayList<>();
+        messages.add(new Message("system", getSystemPrompt()));
+        messages.addAll(conversationHistory);
+        messages.add(new Message("user", newUserInput));
+        return messages;
+    }
+
+    Map<String, Object> buildRequestBody(List<Message> messages) {
+        return Map.of(
                 "model", model,
                 "messages", messages,
                 "response_format", Map.of("type", "json_object")
         );
+    }
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+    private NlpAnalysisResult callOpenAiApi(List<Message> messages) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(openaiApiKey);
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildRequestBody(messages), headers);
         String response = restTemplate.postForObject(openaiApiUrl, entity, String.class);
-        log.info("OpenAI API Response: {}", response);
+        log.debug("OpenAI 응답: {}", LogEvents.truncate(response));
+
+        return parseResponse(response);
+    }
 
+    NlpAnalysisResult parseResponse(String response) throws Exception {
         Map<String, Object> responseMap = objectMapper.readValue(response, Map.class);
         List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
 
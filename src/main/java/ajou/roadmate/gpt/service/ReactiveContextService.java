@@ -0,0 +1,82 @@
+package ajou.roadmate.gpt.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.GPTErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.gpt.dto.ChatContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+// reactive 프로필의 대화 컨텍스트 저장소 (키/직렬화/오류 코드는 ContextService와 같음)
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveContextService {
+
+    private final ReactiveRedisTemplate<String, ChatContext> reactiveChatContextRedisTemplate;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+
+    public Mono<ChatContext> getContext(String sessionId) {
+        Mono<ChatContext> get = pipelineMetrics.recordMono(PipelineMetrics.REDIS,
+                reactiveChatContextRedisTemplate.opsForValue().get(ContextService.CONTEXT_PREFIX + sessionId),
+                "store", "context", "operation", "get");
+
+        return upstreamGuard.mono(UpstreamGuard.REDIS, get)
+                .switchIfEmpty(Mono.error(() -> new CustomException(GPTErrorCode.CONTEXT_NOT_FOUND)))
+                .onErrorResume(e -> !(e instanceof CustomException), e -> {
+                    if (e instanceof SerializationException) {
+                        log.error("ChatContext 역직렬화 실패 - 세션: {}", sessionId, e);
+                        return deleteContext(sessionId)
+                                .then(Mono.error(new CustomException(GPTErrorCode.CONTEXT_DESERIALIZE_FAIL)));
+                    }
+                    if (UpstreamGuard.isRejected(e)) {
+                        log.warn("ChatContext 조회 거절 - 세션: {}, {}", sessionId, e.getMessage());
+                        return Mono.error(new CustomException(GPTErrorCode.CONTEXT_STORE_UNAVAILABLE));
+                    }
+                    log.error("ChatContext 조회 중 오류 - 세션: {}", sessionId, e);
+                    return Mono.error(new CustomException(GPTErrorCode.CONTEXT_LOOKUP_ERROR));
+                });
+    }
+
+    public Mono<Void> saveContext(ChatContext context) {
+        Mono<Boolean> set = pipelineMetrics.recordMono(PipelineMetrics.REDIS,
+                reactiveChatContextRedisTemplate.opsForValue()
+                        .set(ContextService.CONTEXT_PREFIX + context.getSessionId(), context, ContextService.CONTEXT_TTL),
+                "store", "context", "operation", "set");
+
+        return upstreamGuard.mono(UpstreamGuard.REDIS, set)
+                .doOnSuccess(saved -> log.debug("컨텍스트 저장 완료: sessionId={}", context.getSessionId()))
+                .onErrorResume(e -> {
+                    // Redis 차단 중에는 저장을 건너뛰고 응답은 그대로 반환 (대화 이력만 유실)
+                    if (UpstreamGuard.isRejected(e)) {
+                        log.warn("컨텍스트 저장 거절: sessionId={}, {}", context.getSessionId(), e.getMessage());
+                        return Mono.empty();
+                    }
+                    log.error("컨텍스트 저장 실패: sessionId={}", context.getSessionId(), e);
+                    return Mono.error(new RuntimeException("컨텍스트 저장 중 오류가 발생했습니다.", e));
+                })
+                .then();
+    }
+
+    public Mono<Void> deleteContext(String sessionId) {
+        Mono<Boolean> delete = pipelineMetrics.recordMono(PipelineMetrics.REDIS,
+                reactiveChatContextRedisTemplate.opsForValue().delete(ContextService.CONTEXT_PREFIX + sessionId),
+                "store", "context", "operation", "delete");
+
+        return upstreamGuard.mono(UpstreamGuard.REDIS, delete)
+                .doOnSuccess(deleted -> log.debug("컨텍스트 삭제: sessionId={}, deleted={}", sessionId, deleted))
+                .onErrorResume(e -> {
+                    log.error("컨텍스트 삭제 실패: sessionId={}", sessionId, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
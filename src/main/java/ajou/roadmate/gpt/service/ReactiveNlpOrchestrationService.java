@@ -0,0 +1,67 @@
+package ajou.roadmate.gpt.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.gpt.dto.ChatContext;
+import ajou.roadmate.gpt.dto.NlpAnalysisResult;
+import ajou.roadmate.gpt.dto.NlpRequestDto;
+import ajou.roadmate.gpt.dto.NlpResponseDto;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// reactive 프로필의 /nlp/chat 처리: 컨텍스트 조회 → 의도 분석 → 응답 구성 → 컨텍스트 저장
+// 의도별 응답 구성은 NlpOrchestrationService를 그대로 사용
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveNlpOrchestrationService {
+
+    private final ReactiveContextService reactiveContextService;
+    private final ReactiveOpenAiNlpService reactiveOpenAiNlpService;
+    private final NlpOrchestrationService nlpOrchestrationService;
+    private final PipelineMetrics pipelineMetrics;
+
+    public Mono<NlpResponseDto> orchestrate(NlpRequestDto request, String userId) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = pipelineMetrics.start();
+            return handle(request, userId)
+                    .doOnSuccess(response -> pipelineMetrics.stop(sample, PipelineMetrics.NLP, PipelineMetrics.SUCCESS,
+                            "intent", OpenAiNlpService.intentTag(response.getIntent())))
+                    .doOnError(e -> pipelineMetrics.stop(sample, PipelineMetrics.NLP, PipelineMetrics.ERROR,
+                            "intent", "unknown"));
+        });
+    }
+
+    private Mono<NlpResponseDto> handle(NlpRequestDto request, String userId) {
+        return reactiveContextService.getContext(request.getSessionId())
+                .map(context -> new LoadedContext(context, true))
+                .onErrorResume(CustomException.class, e -> NlpOrchestrationService.startsNewConversation(e)
+                        // 조회가 거절된 경우 저장된 대화/경로가 남아 있을 수 있으므로 빈 컨텍스트로 덮어쓰지 않음
+                        ? Mono.just(new LoadedContext(new ChatContext(request.getSessionId()),
+                                !NlpOrchestrationService.isLookupRejected(e)))
+                        : Mono.error(e))
+                .flatMap(loaded -> reactiveOpenAiNlpService.analyze(loaded.context().getConversationHistory(), request.getText())
+                        .flatMap(analysis -> respond(loaded.context(), analysis, userId))
+                        .flatMap(response -> {
+                            if (!loaded.save()) {
+                                return Mono.just(response);
+                            }
+                            NlpOrchestrationService.addTurn(loaded.context(), request.getText(), response);
+                            return reactiveContextService.saveContext(loaded.context()).thenReturn(response);
+                        }));
+    }
+
+    // 피드백 저장(블로킹 Redis)만 이벤트 루프 밖에서
+    private Mono<NlpResponseDto> respond(ChatContext context, NlpAnalysisResult analysis, String userId) {
+        Mono<NlpResponseDto> response = Mono.fromCallable(() -> nlpOrchestrationService.respond(context, analysis, userId));
+        return "feedback".equals(analysis.getIntent()) ? response.subscribeOn(Schedulers.boundedElastic()) : response;
+    }
+
+    // save: 처리 후 컨텍스트를 저장할지 여부
+    private record LoadedContext(ChatContext context, boolean save) {
+    }
+}
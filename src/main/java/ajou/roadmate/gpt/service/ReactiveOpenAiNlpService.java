@@ -0,0 +1,77 @@
+package ajou.roadmate.gpt.service;
+
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.gpt.dto.Message;
+import ajou.roadmate.gpt.dto.NlpAnalysisResult;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// reactive 프로필의 OpenAI 호출 (요청/응답 형식과 대체 응답은 OpenAiNlpService와 같음)
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveOpenAiNlpService {
+
+    private final WebClient upstreamWebClient;
+    private final OpenAiNlpService openAiNlpService;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+
+    @Value("${gpt.api.key}")
+    private String openaiApiKey;
+    @Value("${gpt.api.url}")
+    private String openaiApiUrl;
+
+    public Mono<NlpAnalysisResult> analyze(List<Message> conversationHistory, String newUserInput) {
+        List<Message> messages = openAiNlpService.buildMessages(conversationHistory, newUserInput);
+
+        Mono<NlpAnalysisResult> call = Mono.defer(() -> {
+            Timer.Sample sample = pipelineMetrics.start();
+            return callOpenAiApi(messages)
+                    .doOnSuccess(result -> pipelineMetrics.stop(sample, PipelineMetrics.UPSTREAM, PipelineMetrics.SUCCESS,
+                            "upstream", "openai", "intent", OpenAiNlpService.intentTag(result.getIntent())))
+                    .doOnError(e -> pipelineMetrics.stop(sample, PipelineMetrics.UPSTREAM, PipelineMetrics.ERROR,
+                            "upstream", "openai", "intent", "unknown"));
+        });
+
+        return upstreamGuard.mono(UpstreamGuard.OPENAI, call)
+                .onErrorResume(e -> {
+                    if (UpstreamGuard.isRejected(e)) {
+                        log.warn("OpenAI 호출 거절: {}", e.getMessage());
+                    } else {
+                        log.error("Error calling OpenAI API", e);
+                    }
+                    return Mono.just(openAiNlpService.fallback(newUserInput));
+                });
+    }
+
+    private Mono<NlpAnalysisResult> callOpenAiApi(List<Message> messages) {
+        return upstreamWebClient.post()
+                .uri(openaiApiUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> headers.setBearerAuth(openaiApiKey))
+                .bodyValue(openAiNlpService.buildRequestBody(messages))
+                .retrieve()
+                .bodyToMono(String.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("OpenAI 응답이 비어있습니다.")))
+                .handle((response, sink) -> {
+                    log.debug("OpenAI API Response: {}", response);
+                    try {
+                        sink.next(openAiNlpService.parseResponse(response));
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                });
+    }
+}
@@ -1,18 +1,18 @@
 package ajou.roadmate.gpt.service;
 
+import ajou.roadmate.gpt.dto.RouteSummary;
 import ajou.roadmate.route.dto.RouteResponse;
-import ajou.roadmate.route.dto.RouteResponse.GuideInfo;
+import ajou.roadmate.route.service.FareService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class RouteInfoService {
 
-    public String getAnswerForIntent(String intent, RouteResponse routeResponse, Map<String, String> entities) {
+    public String getAnswerForIntent(String intent, RouteResponse routeResponse, RouteSummary routeSummary,
+                                     Map<String, String> entities) {
         if (routeResponse == null) {
             return "경로 정보가 없습니다. 경로를 먼저 설정해주세요.";
         }
@@ -27,7 +27,7 @@ public class RouteInfoService {
             case "estimated_arrival_time":
                 return getEstimatedArrivalTime(routeResponse);
             case "section_time_by_mode":
-                return getSectionTime(routeResponse, entities);
+                return getSectionTime(routeSummary, entities);
             default:
                 return "지원하지 않는 정보 요청입니다.";
         }
@@ -47,22 +47,24 @@ public class RouteInfoService {
     private String getTotalFare(RouteResponse route) {
         if(route.getTotalFare()==null)
             return "현재 경로에 요금이 존재하지 않습니다.";
+        RouteResponse.FareInfo fareInfo = route.getFareInfo();
+        if (fareInfo != null && FareService.SENIOR.equals(fareInfo.getCategory())) {
+            return "만 65세 이상 지하철 무임이 적용되어 총 요금은 약 " + route.getTotalFare()
+                    + "원입니다. (일반 요금 " + fareInfo.getRegularFare() + "원)";
+        }
         return "총 요금은 약 " + route.getTotalFare() + "원입니다.";
     }
 
-    private String getSectionTime(RouteResponse route, Map<String, String> entities) {
+    private String getSectionTime(RouteSummary summary, Map<String, String> entities) {
         if (entities == null || !entities.containsKey("transportType")) {
             return "교통 수단 정보를 찾을 수 없습니다.";
         }
 
         String transportType = entities.get("transportType").toUpperCase();
-        List<GuideInfo> filtered = route.getGuides().stream()
-                .filter(g -> transportType.equals(g.getTransportType()))
-                .collect(Collectors.toList());
+        Integer totalSeconds = summary != null ? summary.getSectionTimes().get(transportType) : null;
 
-        if (filtered.isEmpty()) return "해당 교통수단에 대한 구간 정보가 없습니다.";
+        if (totalSeconds == null) return "해당 교통수단에 대한 구간 정보가 없습니다.";
 
-        int totalSeconds = filtered.stream().mapToInt(GuideInfo::getTime).sum();
         int minutes = totalSeconds / 60;
 
         return String.format("%s 구간의 총 소요 시간은 약 %d분입니다.", transportType, minutes);
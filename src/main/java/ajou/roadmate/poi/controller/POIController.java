@@ -1,7 +1,12 @@
 package ajou.roadmate.poi.controller;
 
+import ajou.roadmate.global.utils.UserContext;
+import ajou.roadmate.poi.dto.NearbySearchRequest;
 import ajou.roadmate.poi.dto.POISearchRequest;
 import ajou.roadmate.poi.dto.POISearchResponse;
+import ajou.roadmate.poi.dto.POISelectionRequest;
+import ajou.roadmate.poi.service.POIHistoryService;
+import ajou.roadmate.poi.service.POIRankingService;
 import ajou.roadmate.poi.service.TmapPOIService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,15 +16,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 
+// reactive 프로필에서는 ReactivePOIController가 같은 경로를 처리
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/poi")
 @RequiredArgsConstructor
 @Slf4j
@@ -28,10 +37,13 @@ import jakarta.validation.Valid;
 public class POIController {
 
     private final TmapPOIService tmapPOIService;
+    private final POIRankingService poiRankingService;
+    private final POIHistoryService poiHistoryService;
+    private final UserContext userContext;
 
     @Operation(
             summary = "POI 검색",
-            description = "사용자의 현재 위치를 기준으로 주변 관심지점을 검색합니다. T맵 API를 활용하여 거리순으로 정렬된 결과를 제공합니다."
+            description = "사용자의 현재 위치를 기준으로 주변 관심지점을 검색합니다. T맵 API를 활용하여 거리순으로 정렬된 결과를 20개 단위 페이지로 제공하며, 응답의 nextCursor로 다음 페이지를 요청할 수 있습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -54,12 +66,63 @@ public class POIController {
     @PostMapping("/search")
     public ResponseEntity<POISearchResponse> searchPOI(
             @Parameter(description = "POI 검색 요청 정보", required = true)
-            @Valid @RequestBody POISearchRequest request) {
+            @Valid @RequestBody POISearchRequest request,
+            HttpServletRequest httpRequest) {
 
-        log.info("POI 검색 요청 - 목적지: {}, 현재위치: ({}, {})",
+        log.debug("POI 검색 요청 - 목적지: {}, 현재위치: ({}, {})",
                 request.getDestination(), request.getCurrentLat(), request.getCurrentLon());
 
         POISearchResponse response = tmapPOIService.searchPOI(request);
+        poiRankingService.rank(userContext.findOwnerKey(httpRequest), response);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "목적지 선택 기록",
+            description = "사용자가 검색 결과에서 선택한 목적지를 기록합니다. 이후 같은 이름의 장소가 여러 개 검색될 때 순위와 추천에 반영됩니다."
+    )
+    @PostMapping("/select")
+    public ResponseEntity<Void> selectPOI(
+            @Parameter(description = "선택한 장소 정보", required = true)
+            @Valid @RequestBody POISelectionRequest request,
+            HttpServletRequest httpRequest) {
+
+        String ownerKey = userContext.resolveOwnerKey(httpRequest);
+        poiHistoryService.recordSelection(ownerKey, request.getId(), request.getCategory());
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(
+            summary = "주변 카테고리 검색",
+            description = "현재 위치 반경 내에서 업종 카테고리(예: 약국, 화장실)에 해당하는 장소를 거리순으로 검색합니다. 최근 조회된 영역은 서버 공간 인덱스에서 바로 응답합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "검색 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = POISearchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 - 필수 파라미터 누락 또는 반경 범위 초과"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류"
+            )
+    })
+    @PostMapping("/nearby")
+    public ResponseEntity<POISearchResponse> searchNearby(
+            @Parameter(description = "주변 검색 요청 정보", required = true)
+            @Valid @RequestBody NearbySearchRequest request) {
+
+        log.debug("주변 검색 요청 - 카테고리: {}, 반경: {}m, 현재위치: ({}, {})",
+                request.getCategory(), request.getRadius(), request.getCurrentLat(), request.getCurrentLon());
+
+        POISearchResponse response = tmapPOIService.searchNearby(request);
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package ajou.roadmate.poi.controller;
+
+import ajou.roadmate.global.utils.UserContext;
+import ajou.roadmate.poi.dto.NearbySearchRequest;
+import ajou.roadmate.poi.dto.POISearchRequest;
+import ajou.roadmate.poi.dto.POISearchResponse;
+import ajou.roadmate.poi.dto.POISelectionRequest;
+import ajou.roadmate.poi.service.POIHistoryService;
+import ajou.roadmate.poi.service.POIRankingService;
+import ajou.roadmate.poi.service.ReactiveTmapPOIService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// reactive 프로필의 POIController (개인화 순위/선택 기록은 블로킹 Redis라 boundedElastic에서)
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/poi")
+@RequiredArgsConstructor
+@Validated
+public class ReactivePOIController {
+
+    private final ReactiveTmapPOIService reactiveTmapPOIService;
+    private final POIRankingService poiRankingService;
+    private final POIHistoryService poiHistoryService;
+    private final UserContext userContext;
+
+    @PostMapping("/search")
+    public Mono<ResponseEntity<POISearchResponse>> searchPOI(
+            @Valid @RequestBody POISearchRequest request,
+            ServerHttpRequest httpRequest) {
+
+        return reactiveTmapPOIService.searchPOI(request)
+                .flatMap(response -> userContext.findOwnerKey(httpRequest)
+                        .flatMap(ownerKey -> Mono.fromRunnable(() -> poiRankingService.rank(ownerKey, response))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .thenReturn(response))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/select")
+    public Mono<ResponseEntity<Void>> selectPOI(
+            @Valid @RequestBody POISelectionRequest request,
+            ServerHttpRequest httpRequest) {
+
+        return userContext.resolveOwnerKey(httpRequest)
+                .flatMap(ownerKey -> Mono.fromRunnable(() ->
+                                poiHistoryService.recordSelection(ownerKey, request.getId(), request.getCategory()))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .then(Mono.just(ResponseEntity.ok().<Void>build()));
+    }
+
+    @PostMapping("/nearby")
+    public Mono<ResponseEntity<POISearchResponse>> searchNearby(@Valid @RequestBody NearbySearchRequest request) {
+        return reactiveTmapPOIService.searchNearby(request).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,14 @@
+package ajou.roadmate.poi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Redis에 저장하는 T맵 POI 페이지 (cachedAt: 저장 시각 epoch ms)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedPOIPage {
+    private long cachedAt;
+    private TmapPOIResponse response;
+}
@@ -0,0 +1,36 @@
+package ajou.roadmate.poi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "주변 카테고리 검색 요청 데이터")
+public class NearbySearchRequest {
+
+    @NotBlank(message = "검색할 카테고리가 필요합니다")
+    @Schema(description = "업종 카테고리 (upperBizName/middleBizName 기준)", example = "약국", required = true)
+    private String category;
+
+    @NotNull(message = "현재 위치의 위도가 필요합니다")
+    @Schema(description = "현재 위치의 위도", example = "37.2816", required = true)
+    private Double currentLat;
+
+    @NotNull(message = "현재 위치의 경도가 필요합니다")
+    @Schema(description = "현재 위치의 경도", example = "127.0453", required = true)
+    private Double currentLon;
+
+    @Min(value = 100, message = "검색 반경은 100m 이상이어야 합니다")
+    @Max(value = 3000, message = "검색 반경은 3000m 이하여야 합니다")
+    @Schema(description = "검색 반경(미터)", example = "500", defaultValue = "1000")
+    private Integer radius;
+}
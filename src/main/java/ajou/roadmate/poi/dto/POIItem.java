@@ -13,6 +13,9 @@ import lombok.NoArgsConstructor;
 @Schema(description = "개별 장소 정보")
 public class POIItem {
 
+    @Schema(description = "T맵 POI ID", example = "1128493")
+    private String id;
+
     @Schema(description = "장소명", example = "스타벅스 아주대점", required = true)
     private String name;
 
@@ -26,4 +26,7 @@ public class POISearchRequest {
     @NotNull(message = "현재 위치의 경도가 필요합니다")
     @Schema(description = "현재 위치의 경도", example = "127.0453", required = true)
     private Double currentLon;
+
+    @Schema(description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 생략)", example = "3f2a9c0d1e4b5a6c7d8e9f0a1b2c3d4e:2")
+    private String cursor;
 }
\ No newline at end of file
@@ -20,4 +20,16 @@ public class POISearchResponse {
 
     @Schema(description = "전체 검색 결과 수", example = "3800", required = true)
     private int totalCount;
+
+    @Schema(description = "현재 페이지 번호", example = "1", required = true)
+    private int page;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true", required = true)
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청용 커서 (마지막 페이지면 null)", example = "3f2a9c0d1e4b5a6c7d8e9f0a1b2c3d4e:2")
+    private String nextCursor;
+
+    @Schema(description = "사용자 이력 기반 추천 장소 (점수 차이가 충분히 클 때만, 첫 페이지에서 제공)")
+    private POIItem recommendedPlace;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package ajou.roadmate.poi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "사용자가 선택한 목적지 정보")
+public class POISelectionRequest {
+
+    @NotBlank(message = "선택한 장소의 ID가 필요합니다")
+    @Schema(description = "T맵 POI ID", example = "1128493", required = true)
+    private String id;
+
+    @Schema(description = "장소명", example = "스타벅스 아주대점")
+    private String name;
+
+    @Schema(description = "카테고리", example = "생활편의 > 카페 > 커피전문점")
+    private String category;
+}
@@ -0,0 +1,111 @@
+package ajou.roadmate.poi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class POIHistoryService {
+
+    // 사용자별 선택 이력: ZSET(member=POI ID 또는 카테고리, score=선택 횟수)
+    // userId는 UserContext의 저장 키 (게스트는 guest:{X-Guest-Id})
+    private static final String PLACE_PREFIX = "poi_history:";
+    // 장소별 마지막 선택 시각 (score=epoch ms), MAX_PLACES를 넘으면 가장 오래 선택하지 않은 장소부터 제거
+    private static final String PLACE_TIME_PREFIX = "poi_history_ts:";
+    private static final String CATEGORY_PREFIX = "poi_history_cat:";
+    private static final int MAX_PLACES = 100;
+    private static final Duration HISTORY_TTL = Duration.ofDays(90);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    public void recordSelection(String userId, String poiId, String category) {
+        try {
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+
+            String placeKey = PLACE_PREFIX + userId;
+            String timeKey = PLACE_TIME_PREFIX + userId;
+            zSet.incrementScore(placeKey, poiId, 1);
+            zSet.add(timeKey, poiId, System.currentTimeMillis());
+
+            // 최근 선택한 MAX_PLACES개만 유지 (선택 횟수로 자르면 새 장소가 바로 밀려남)
+            Set<String> stale = zSet.range(timeKey, 0, -(MAX_PLACES + 1));
+            if (stale != null && !stale.isEmpty()) {
+                zSet.remove(placeKey, stale.toArray());
+                zSet.remove(timeKey, stale.toArray());
+            }
+            stringRedisTemplate.expire(placeKey, HISTORY_TTL);
+            stringRedisTemplate.expire(timeKey, HISTORY_TTL);
+
+            String categoryKey = categoryKey(category);
+            if (categoryKey != null) {
+                zSet.incrementScore(CATEGORY_PREFIX + userId, categoryKey, 1);
+                stringRedisTemplate.expire(CATEGORY_PREFIX + userId, HISTORY_TTL);
+            }
+        } catch (Exception e) {
+            log.warn("POI 선택 이력 저장 실패 - 사용자: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    // 후보 POI ID 순서대로 선택 횟수 (없으면 0)
+    public double[] getPlaceCounts(String userId, List<String> poiIds) {
+        double[] counts = new double[poiIds.size()];
+        if (poiIds.isEmpty()) {
+            return counts;
+        }
+
+        try {
+            List<Double> scores = stringRedisTemplate.opsForZSet()
+                    .score(PLACE_PREFIX + userId, poiIds.toArray());
+            if (scores != null) {
+                for (int i = 0; i < counts.length && i < scores.size(); i++) {
+                    Double score = scores.get(i);
+                    counts[i] = score != null ? score : 0.0;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("POI 선택 이력 조회 실패 - 사용자: {}, {}", userId, e.getMessage());
+        }
+        return counts;
+    }
+
+    public Map<String, Double> getCategoryCounts(String userId) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    stringRedisTemplate.opsForZSet().rangeWithScores(CATEGORY_PREFIX + userId, 0, -1);
+            if (tuples == null) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, Double> result = new HashMap<>();
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    result.put(tuple.getValue(), tuple.getScore());
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("카테고리 선택 이력 조회 실패 - 사용자: {}, {}", userId, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    // "생활편의 > 카페 > 커피전문점" → "생활편의 > 카페"
+    public String categoryKey(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        String[] levels = category.split(" > ");
+        return levels.length >= 2 ? levels[0] + " > " + levels[1] : levels[0];
+    }
+}
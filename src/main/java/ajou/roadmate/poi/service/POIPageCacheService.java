@@ -0,0 +1,89 @@
+package ajou.roadmate.poi.service;
+
+import ajou.roadmate.global.cache.CacheRefresher;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.poi.dto.CachedPOIPage;
+import ajou.roadmate.poi.dto.TmapPOIResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 검색어+좌표별 T맵 POI 페이지 (stale-while-revalidate)
+// ~10분: 그대로 사용 / 10분~6시간: 저장된 페이지로 바로 응답하고 백그라운드에서 한 번만 갱신 / 이후 만료
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class POIPageCacheService {
+
+    private static final String PAGE_PREFIX = "poi_page:v2:";
+    private static final Duration SOFT_TTL = Duration.ofMinutes(10);
+    private static final Duration HARD_TTL = Duration.ofHours(6);
+
+    private final RedisTemplate<String, CachedPOIPage> poiPageRedisTemplate;
+    private final UpstreamGuard upstreamGuard;
+    private final CacheRefresher cacheRefresher;
+
+    // ReactiveTmapPOIService용 (reactive 프로필)
+    @Autowired(required = false)
+    private ReactiveRedisTemplate<String, CachedPOIPage> reactivePoiPageRedisTemplate;
+
+    public CachedPOIPage getPage(String queryKey, int page) {
+        try {
+            return upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> poiPageRedisTemplate.opsForValue().get(pageKey(queryKey, page)));
+        } catch (Exception e) {
+            // 캐시 장애 시 T맵 직접 호출로 진행
+            log.warn("POI 페이지 캐시 조회 실패: queryKey={}, page={}, {}", queryKey, page, e.getMessage());
+            return null;
+        }
+    }
+
+    public void savePage(String queryKey, int page, TmapPOIResponse response) {
+        try {
+            CachedPOIPage cached = new CachedPOIPage(System.currentTimeMillis(), response);
+            upstreamGuard.run(UpstreamGuard.REDIS,
+                    () -> poiPageRedisTemplate.opsForValue().set(pageKey(queryKey, page), cached, HARD_TTL));
+        } catch (Exception e) {
+            log.warn("POI 페이지 캐시 저장 실패: queryKey={}, page={}, {}", queryKey, page, e.getMessage());
+        }
+    }
+
+    // 리액티브 경로용 get/save (캐시 장애는 캐시 미스로 처리)
+    public Mono<CachedPOIPage> findPage(String queryKey, int page) {
+        return upstreamGuard.mono(UpstreamGuard.REDIS, reactivePoiPageRedisTemplate.opsForValue().get(pageKey(queryKey, page)))
+                .onErrorResume(e -> {
+                    log.warn("POI 페이지 캐시 조회 실패: queryKey={}, page={}, {}", queryKey, page, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> storePage(String queryKey, int page, TmapPOIResponse response) {
+        CachedPOIPage cached = new CachedPOIPage(System.currentTimeMillis(), response);
+        return upstreamGuard.mono(UpstreamGuard.REDIS,
+                        reactivePoiPageRedisTemplate.opsForValue().set(pageKey(queryKey, page), cached, HARD_TTL))
+                .onErrorResume(e -> {
+                    log.warn("POI 페이지 캐시 저장 실패: queryKey={}, page={}, {}", queryKey, page, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public boolean isFresh(CachedPOIPage cached) {
+        return System.currentTimeMillis() - cached.getCachedAt() < SOFT_TTL.toMillis();
+    }
+
+    public void refresh(String queryKey, int page, Supplier<TmapPOIResponse> loader) {
+        cacheRefresher.refresh(pageKey(queryKey, page), () -> savePage(queryKey, page, loader.get()));
+    }
+
+    private String pageKey(String queryKey, int page) {
+        return PAGE_PREFIX + queryKey + ":" + page;
+    }
+}
@@ -0,0 +1,96 @@
+package ajou.roadmate.poi.service;
+
+import ajou.roadmate.poi.dto.POIItem;
+import ajou.roadmate.poi.dto.POISearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class POIRankingService {
+
+    private static final double HISTORY_WEIGHT = 0.5;
+    private static final double CATEGORY_WEIGHT = 0.2;
+    private static final double DISTANCE_WEIGHT = 0.3;
+    private static final double TMAP_RANK_WEIGHT = 0.1;
+
+    // 1, 2위 점수 차이가 이 이상이면 되묻지 않고 바로 추천
+    private static final double CONFIDENT_MARGIN = 0.25;
+
+    private final POIHistoryService poiHistoryService;
+
+    public void rank(String userId, POISearchResponse response) {
+        List<POIItem> places = response.getPlaces();
+        if (userId == null || places == null || places.isEmpty()) {
+            return;
+        }
+
+        int size = places.size();
+        List<String> poiIds = new ArrayList<>(size);
+        for (POIItem place : places) {
+            poiIds.add(place.getId() != null ? place.getId() : "");
+        }
+
+        double[] placeCounts = poiHistoryService.getPlaceCounts(userId, poiIds);
+        Map<String, Double> categoryCounts = poiHistoryService.getCategoryCounts(userId);
+
+        double maxPlaceCount = 0.0;
+        for (double count : placeCounts) {
+            maxPlaceCount = Math.max(maxPlaceCount, count);
+        }
+        double totalCategoryCount = 0.0;
+        for (double count : categoryCounts.values()) {
+            totalCategoryCount += count;
+        }
+
+        double[] scores = new double[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            POIItem place = places.get(i);
+
+            double historyScore = maxPlaceCount > 0 ? Math.log1p(placeCounts[i]) / Math.log1p(maxPlaceCount) : 0.0;
+
+            double categoryScore = 0.0;
+            String categoryKey = poiHistoryService.categoryKey(place.getCategory());
+            if (categoryKey != null && totalCategoryCount > 0) {
+                categoryScore = categoryCounts.getOrDefault(categoryKey, 0.0) / totalCategoryCount;
+            }
+
+            double distance = place.getDistance() != null ? place.getDistance() : 0.0;
+            double distanceScore = 1.0 / (1.0 + distance / 1000.0);
+
+            // T맵 검색 순서(검색어 일치도)도 약하게 반영
+            double tmapRankScore = 1.0 - (double) i / size;
+
+            scores[i] = HISTORY_WEIGHT * historyScore
+                    + CATEGORY_WEIGHT * categoryScore
+                    + DISTANCE_WEIGHT * distanceScore
+                    + TMAP_RANK_WEIGHT * tmapRankScore;
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        List<POIItem> ranked = new ArrayList<>(size);
+        for (Integer index : order) {
+            ranked.add(places.get(index));
+        }
+        response.setPlaces(ranked);
+
+        // 이전에 선택한 적 있는 장소가 1위일 때만 추천 (이력 없이 거리만으로는 확정하지 않음)
+        if (response.getPage() <= 1 && placeCounts[order[0]] > 0) {
+            double margin = size == 1 ? Double.MAX_VALUE : scores[order[0]] - scores[order[1]];
+            if (margin >= CONFIDENT_MARGIN) {
+                response.setRecommendedPlace(ranked.get(0));
+                log.debug("POI 추천 확정 - 사용자: {}, 장소: {}, 점수 차: {}", userId, ranked.get(0).getName(), margin);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ajou.roadmate.poi.service;
+
+import ajou.roadmate.global.utils.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 최근 조회한 주변 POI를 위경도 격자(약 500m) 단위로 보관하는 인메모리 공간 인덱스
+// 격자마다 카테고리별 커버리지(조회 중심, 보장 반경, 조회 시각)를 기록하고,
+// 요청 원이 만료되지 않은 커버리지 안에 완전히 들어올 때만 인덱스에서 응답
+@Component
+@Slf4j
+public class POISpatialIndex {
+
+    private static final double CELL_SIZE_DEG = 0.005;
+
+    @Value("${poi.nearby.coverage-ttl-minutes:30}")
+    private long coverageTtlMinutes;
+
+    @Value("${poi.nearby.max-cells:20000}")
+    private int maxCells;
+
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    // 반경 내 POI를 거리순으로 반환, 커버리지가 없거나 만료되었으면 null
+    public List<IndexedPoi> findNearby(double lat, double lon, int radiusMeters, String category) {
+        long now = System.currentTimeMillis();
+        Cell centerCell = cells.get(cellId(lat, lon));
+        if (centerCell == null || !centerCell.isCovered(category, lat, lon, radiusMeters, now, ttlMillis())) {
+            return null;
+        }
+
+        List<IndexedPoi> result = new ArrayList<>();
+        double latSpan = radiusMeters / GeoUtils.metersPerDegreeLat();
+        double lonSpan = radiusMeters / GeoUtils.metersPerDegreeLon(lat);
+        long minRow = cellIndex(lat - latSpan);
+        long maxRow = cellIndex(lat + latSpan);
+        long minCol = cellIndex(lon - lonSpan);
+        long maxCol = cellIndex(lon + lonSpan);
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Cell cell = cells.get(cellKey(row, col));
+                if (cell == null) {
+                    continue;
+                }
+                for (IndexedPoi poi : cell.pois.values()) {
+                    if (now - poi.indexedAt() > ttlMillis() || !poi.matches(category)) {
+                        continue;
+                    }
+                    if (GeoUtils.distanceMeters(lat, lon, poi.lat(), poi.lon()) <= radiusMeters) {
+                        result.add(poi);
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(poi -> GeoUtils.distanceMeters(lat, lon, poi.lat(), poi.lon())));
+        return result;
+    }
+
+    // coveredRadiusMeters: 결과가 잘리지 않았다고 보장할 수 있는 반경
+    public void index(double centerLat, double centerLon, double coveredRadiusMeters,
+                      String category, List<IndexedPoi> pois) {
+        evictIfFull();
+
+        for (IndexedPoi poi : pois) {
+            Cell cell = cells.computeIfAbsent(cellId(poi.lat(), poi.lon()), k -> new Cell());
+            cell.pois.merge(poi.id(), poi, IndexedPoi::mergeTags);
+        }
+
+        Cell centerCell = cells.computeIfAbsent(cellId(centerLat, centerLon), k -> new Cell());
+        centerCell.coverages.put(category,
+                new Coverage(centerLat, centerLon, coveredRadiusMeters, System.currentTimeMillis()));
+    }
+
+    // 만료된 격자를 먼저 지우고, 그래도 가득 차 있으면 오래 갱신되지 않은 격자부터 최대 개수의 90%까지 제거
+    private void evictIfFull() {
+        if (cells.size() < maxCells) {
+            return;
+        }
+        long threshold = System.currentTimeMillis() - ttlMillis();
+        cells.values().removeIf(cell -> cell.lastUpdatedAt() < threshold);
+
+        int excess = cells.size() - maxCells * 9 / 10;
+        if (excess > 0) {
+            List<Map.Entry<Long, Long>> byAge = new ArrayList<>(cells.size());
+            cells.forEach((key, cell) -> byAge.add(Map.entry(key, cell.lastUpdatedAt())));
+            byAge.sort(Map.Entry.comparingByValue());
+            for (int i = 0; i < Math.min(excess, byAge.size()); i++) {
+                cells.remove(byAge.get(i).getKey());
+            }
+        }
+        log.debug("POI 공간 인덱스 정리 - 남은 격자 수: {}", cells.size());
+    }
+
+    private long ttlMillis() {
+        return coverageTtlMinutes * 60_000L;
+    }
+
+    private long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE_DEG);
+    }
+
+    private long cellId(double lat, double lon) {
+        return cellKey(cellIndex(lat), cellIndex(lon));
+    }
+
+    private long cellKey(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+
+    private static class Cell {
+        private final Map<String, IndexedPoi> pois = new ConcurrentHashMap<>();
+        private final Map<String, Coverage> coverages = new ConcurrentHashMap<>();
+
+        boolean isCovered(String category, double lat, double lon, int radiusMeters, long now, long ttlMillis) {
+            Coverage coverage = coverages.get(category);
+            if (coverage == null || now - coverage.fetchedAt() > ttlMillis) {
+                return false;
+            }
+            double offset = GeoUtils.distanceMeters(lat, lon, coverage.lat(), coverage.lon());
+            return offset + radiusMeters <= coverage.radiusMeters();
+        }
+
+        long lastUpdatedAt() {
+            long latest = 0;
+            for (Coverage coverage : coverages.values()) {
+                latest = Math.max(latest, coverage.fetchedAt());
+            }
+            for (IndexedPoi poi : pois.values()) {
+                latest = Math.max(latest, poi.indexedAt());
+            }
+            return latest;
+        }
+    }
+
+    private record Coverage(double lat, double lon, double radiusMeters, long fetchedAt) {
+    }
+
+    public record IndexedPoi(String id, String name, String address, double lat, double lon, String tel,
+                             String category, String upperBizName, String middleBizName, String lowerBizName,
+                             Set<String> queriedCategories, long indexedAt) {
+
+        boolean matches(String category) {
+            return queriedCategories.contains(category)
+                    || contains(upperBizName, category)
+                    || contains(middleBizName, category)
+                    || contains(lowerBizName, category);
+        }
+
+        IndexedPoi mergeTags(IndexedPoi newer) {
+            Set<String> merged = ConcurrentHashMap.newKeySet();
+            merged.addAll(queriedCategories);
+            merged.addAll(newer.queriedCategories);
+            return new IndexedPoi(newer.id, newer.name, newer.address, newer.lat, newer.lon, newer.tel,
+                    newer.category, newer.upperBizName, newer.middleBizName, newer.lowerBizName,
+                    merged, newer.indexedAt);
+        }
+
+        private static boolean contains(String bizName, String category) {
+            return bizName != null && bizName.contains(category);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ajou.roadmate.poi.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.POIErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.quota.TmapQuotaManager;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.poi.dto.CachedPOIPage;
+import ajou.roadmate.poi.dto.NearbySearchRequest;
+import ajou.roadmate.poi.dto.POISearchRequest;
+import ajou.roadmate.poi.dto.POISearchResponse;
+import ajou.roadmate.poi.dto.TmapPOIResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// reactive 프로필의 POI 검색 (페이지 캐시, 다음 페이지 선조회, 오류 코드는 TmapPOIService.searchPOI와 같음)
+// 선조회는 실행기 대신 구독만 해두고, 진행 중인 선조회 수로 상한을 둠
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveTmapPOIService {
+
+    private static final int MAX_PREFETCH_IN_FLIGHT = 1000;
+
+    @Value("${tmap.api.key}")
+    private String tmapApiKey;
+
+    private final WebClient upstreamWebClient;
+    private final TmapPOIService tmapPOIService;
+    private final POIPageCacheService poiPageCacheService;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+    private final TmapQuotaManager tmapQuotaManager;
+
+    // 진행 중인 다음 페이지 선조회 (queryKey:page → 결과를 공유하는 Mono)
+    private final Map<String, Mono<TmapPOIResponse>> prefetchInFlight = new ConcurrentHashMap<>();
+
+    public Mono<POISearchResponse> searchPOI(POISearchRequest request) {
+        return Mono.fromCallable(() -> {
+                    tmapPOIService.validateRequest(request);
+                    String queryKey = tmapPOIService.buildQueryKey(request);
+                    return new PageTarget(queryKey, tmapPOIService.resolvePage(request.getCursor(), queryKey));
+                })
+                .flatMap(target -> loadPage(request, target.queryKey(), target.page())
+                        .map(tmapResponse -> tmapPOIService.processTmapResponse(tmapResponse, request, target.queryKey(), target.page()))
+                        .doOnNext(response -> {
+                            if (response.isHasNext()) {
+                                prefetchPage(request, target.queryKey(), target.page() + 1);
+                            }
+                        }))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("POI 검색 중 예상치 못한 오류 발생: ", e);
+                    return new CustomException(POIErrorCode.TMAP_API_ERROR);
+                });
+    }
+
+    // 주변 검색은 대부분 메모리 공간 인덱스에서 응답하므로 기존 서비스를 boundedElastic에서 호출
+    public Mono<POISearchResponse> searchNearby(NearbySearchRequest request) {
+        return Mono.fromCallable(() -> tmapPOIService.searchNearby(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<TmapPOIResponse> loadPage(POISearchRequest request, String queryKey, int page) {
+        Mono<TmapPOIResponse> fetch = Mono.defer(() -> fetchAndStore(request, queryKey, page, TmapQuotaManager.Priority.INTERACTIVE));
+
+        return poiPageCacheService.findPage(queryKey, page)
+                .map(cached -> {
+                    log.debug("POI 페이지 캐시 적중: page={}", page);
+                    // soft TTL이 지났으면 저장된 페이지로 바로 응답하고 백그라운드에서 갱신 (갱신 실행기 스레드에서 대기)
+                    if (!poiPageCacheService.isFresh(cached)) {
+                        poiPageCacheService.refresh(queryKey, page, () -> callTmapAPI(request, page, TmapQuotaManager.Priority.BACKGROUND).block());
+                    }
+                    return cached.getResponse();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    // 선조회가 진행 중이면 새로 호출하지 않고 그 결과를 기다림
+                    Mono<TmapPOIResponse> inFlight = prefetchInFlight.get(queryKey + ":" + page);
+                    if (inFlight == null) {
+                        return fetch;
+                    }
+                    return inFlight.timeout(Duration.ofSeconds(TmapPOIService.PREFETCH_WAIT_SECONDS))
+                            .onErrorResume(e -> {
+                                log.debug("선조회 결과 대기 실패, 직접 호출: page={}", page);
+                                return fetch;
+                            });
+                }));
+    }
+
+    private void prefetchPage(POISearchRequest request, String queryKey, int page) {
+        String inFlightKey = queryKey + ":" + page;
+        if (prefetchInFlight.size() >= MAX_PREFETCH_IN_FLIGHT || prefetchInFlight.containsKey(inFlightKey)) {
+            return;
+        }
+
+        Mono<TmapPOIResponse> prefetch = poiPageCacheService.findPage(queryKey, page)
+                .map(CachedPOIPage::getResponse)
+                .switchIfEmpty(Mono.defer(() -> fetchAndStore(request, queryKey, page, TmapQuotaManager.Priority.BACKGROUND)))
+                .doFinally(signal -> prefetchInFlight.remove(inFlightKey))
+                .cache();
+        if (prefetchInFlight.putIfAbsent(inFlightKey, prefetch) != null) {
+            return;
+        }
+
+        prefetch.subscribe(response -> { },
+                e -> log.debug("POI 다음 페이지 선조회 실패: page={}, {}", page, e.getMessage()));
+    }
+
+    private Mono<TmapPOIResponse> fetchAndStore(POISearchRequest request, String queryKey, int page,
+                                                TmapQuotaManager.Priority priority) {
+        return callTmapAPI(request, page, priority)
+                .flatMap(response -> poiPageCacheService.storePage(queryKey, page, response).thenReturn(response));
+    }
+
+    private Mono<TmapPOIResponse> callTmapAPI(POISearchRequest request, int page, TmapQuotaManager.Priority priority) {
+        Mono<TmapPOIResponse> call = upstreamWebClient.get()
+                .uri(tmapPOIService.buildSearchUrl(request, page))
+                .accept(MediaType.APPLICATION_JSON)
+                .header("appKey", tmapApiKey)
+                .retrieve()
+                .bodyToMono(TmapPOIResponse.class)
+                .switchIfEmpty(Mono.error(() -> new CustomException(POIErrorCode.NO_RESULTS_FOUND)));
+
+        Mono<TmapPOIResponse> guarded = upstreamGuard.mono(UpstreamGuard.TMAP_POI,
+                        pipelineMetrics.recordMono(PipelineMetrics.UPSTREAM, call,
+                                "upstream", "tmap_poi", "intent", PipelineMetrics.NO_INTENT))
+                .onErrorResume(TmapQuotaManager::isThrottled,
+                        e -> tmapQuotaManager.onThrottledReactive(TmapQuotaManager.POI).then(Mono.error(e)))
+                .onErrorMap(TmapPOIService::toPoiException);
+
+        // 앱 키 한도 초과는 T맵 장애가 아니므로 서킷 브레이커 밖에서 거절
+        return tmapQuotaManager.acquireReactive(TmapQuotaManager.POI, priority)
+                .flatMap(granted -> granted
+                        ? guarded
+                        : Mono.error(new CustomException(POIErrorCode.TMAP_QUOTA_EXCEEDED)));
+    }
+
+    private record PageTarget(String queryKey, int page) {
+    }
+}
@@ -2,6 +2,11 @@ package ajou.roadmate.poi.service;
 
 import ajou.roadmate.global.exception.CustomException;
 import ajou.roadmate.global.exception.POIErrorCode;
+import ajou.roadmate.global.logging.LogEvents;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.quota.TmapQuotaManager;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.global.utils.GeoUtils;
 import ajou.roadmate.poi.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,11 +14,22 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,20 +43,43 @@ public class TmapPOIService {
     @Value("${tmap.api.url}")
     private String tmapApiUrl;
 
+    @Value("${tmap.poi.around.url:https://apis.openapi.sk.com/tmap/pois/search/around}")
+    private String tmapAroundApiUrl;
+
+    private static final int PAGE_SIZE = 20;
+    static final long PREFETCH_WAIT_SECONDS = 5;
+    private static final int DEFAULT_NEARBY_RADIUS = 1000;
+    private static final int AROUND_FETCH_COUNT = 200;
+
     @Qualifier("tmapRestTemplate")
     private final RestTemplate restTemplate;
 
+    private final POIPageCacheService poiPageCacheService;
+    private final POISpatialIndex poiSpatialIndex;
+    private final Executor poiPrefetchExecutor;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+    private final TmapQuotaManager tmapQuotaManager;
+
+    // 진행 중인 다음 페이지 선조회 (queryKey:page → future)
+    private final Map<String, CompletableFuture<TmapPOIResponse>> prefetchInFlight = new ConcurrentHashMap<>();
+
     public POISearchResponse searchPOI(POISearchRequest request) {
         try {
             validateRequest(request);
 
-            log.info("=== T맵 POI 검색 시작 ===");
-            log.info("요청 데이터: {}", request);
+            String queryKey = buildQueryKey(request);
+            int page = resolvePage(request.getCursor(), queryKey);
 
-            TmapPOIResponse tmapResponse = callTmapAPI(request);
-            POISearchResponse response = processTmapResponse(tmapResponse, request);
+            TmapPOIResponse tmapResponse = loadPage(request, queryKey, page);
+            POISearchResponse response = processTmapResponse(tmapResponse, request, queryKey, page);
 
-            log.info("검색 완료 - 결과 수: {}", response.getTotalCount());
+            if (response.isHasNext()) {
+                prefetchPage(request, queryKey, page + 1);
+            }
+
+            log.info(LogEvents.SAMPLED, "POI 검색 완료 - 검색어: {}, 페이지: {}, 결과 수: {}",
+                    LogEvents.truncate(request.getDestination(), 50), page, response.getTotalCount());
             return response;
 
         } catch (CustomException e) {
@@ -51,9 +90,46 @@ public class TmapPOIService {
         }
     }
 
-    private void validateRequest(POISearchRequest request) {
-        if (request.getDestination() == null || request.getDestination().trim().isEmpty()) {
-            throw new CustomException(POIErrorCode.INVALID_DESTINATION);
+    public POISearchResponse searchNearby(NearbySearchRequest request) {
+        try {
+            validateNearbyRequest(request);
+
+            double lat = request.getCurrentLat();
+            double lon = request.getCurrentLon();
+            int radius = request.getRadius() != null ? request.getRadius() : DEFAULT_NEARBY_RADIUS;
+            String category = request.getCategory().trim();
+
+            List<POISpatialIndex.IndexedPoi> pois = poiSpatialIndex.findNearby(lat, lon, radius, category);
+            if (pois != null) {
+                log.debug("주변 검색 인덱스 적중 - 카테고리: {}, 반경: {}m, 결과 수: {}", category, radius, pois.size());
+            } else {
+                pois = fetchAndIndexNearby(lat, lon, radius, category);
+            }
+
+            List<POIItem> places = pois.stream()
+                    .map(poi -> toPoiItem(poi, lat, lon))
+                    .sorted(Comparator.comparingDouble(POIItem::getDistance))
+                    .collect(Collectors.toList());
+
+            log.info(LogEvents.SAMPLED, "주변 검색 완료 - 카테고리: {}, 반경: {}m, 결과 수: {}", category, radius, places.size());
+            return POISearchResponse.builder()
+                    .places(places)
+                    .totalCount(places.size())
+                    .page(1)
+                    .hasNext(false)
+                    .build();
+
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("주변 검색 중 예상치 못한 오류 발생: ", e);
+            throw new CustomException(POIErrorCode.TMAP_API_ERROR);
+        }
+    }
+
+    private void validateNearbyRequest(NearbySearchRequest request) {
+        if (request.getCategory() == null || request.getCategory().trim().isEmpty()) {
+            throw new CustomException(POIErrorCode.INVALID_CATEGORY);
         }
 
         if (request.getCurrentLat() == null || request.getCurrentLon() == null) {
@@ -61,17 +137,51 @@ public class TmapPOIService {
         }
     }
 
-    private TmapPOIResponse callTmapAPI(POISearchRequest request) {
-        String url = UriComponentsBuilder.fromHttpUrl(tmapApiUrl)
+    private List<POISpatialIndex.IndexedPoi> fetchAndIndexNearby(double lat, double lon, int radius, String category) {
+        // T맵 주변 검색은 km 단위 반경만 지원하므로 올림해서 조회 후 로컬에서 거리 필터링
+        int radiusKm = (int) Math.ceil(radius / 1000.0);
+        TmapPOIResponse tmapResponse = callTmapAroundAPI(lat, lon, radiusKm, category);
+
+        List<POISpatialIndex.IndexedPoi> fetched = new ArrayList<>();
+        if (tmapResponse.getSearchPoiInfo() != null
+                && tmapResponse.getSearchPoiInfo().getPois() != null
+                && tmapResponse.getSearchPoiInfo().getPois().getPoi() != null) {
+            long now = System.currentTimeMillis();
+            for (TmapPOIResponse.Poi poi : tmapResponse.getSearchPoiInfo().getPois().getPoi()) {
+                fetched.add(toIndexedPoi(poi, category, now));
+            }
+        }
+
+        // 결과가 잘렸으면 가장 먼 결과까지만 커버된 것으로 기록
+        double coveredRadius = radiusKm * 1000.0;
+        if (fetched.size() >= AROUND_FETCH_COUNT) {
+            coveredRadius = fetched.stream()
+                    .mapToDouble(poi -> GeoUtils.distanceMeters(lat, lon, poi.lat(), poi.lon()))
+                    .max()
+                    .orElse(0.0);
+        }
+        poiSpatialIndex.index(lat, lon, coveredRadius, category, fetched);
+
+        return fetched.stream()
+                .filter(poi -> GeoUtils.distanceMeters(lat, lon, poi.lat(), poi.lon()) <= radius)
+                .collect(Collectors.toList());
+    }
+
+    private TmapPOIResponse callTmapAroundAPI(double lat, double lon, int radiusKm, String category) {
+        if (!tmapQuotaManager.acquire(TmapQuotaManager.POI_AROUND, TmapQuotaManager.Priority.INTERACTIVE)) {
+            throw new CustomException(POIErrorCode.TMAP_QUOTA_EXCEEDED);
+        }
+
+        String url = UriComponentsBuilder.fromUriString(tmapAroundApiUrl)
                 .queryParam("version", "1")
-                .queryParam("searchKeyword", request.getDestination())
-                .queryParam("searchType", "all")
-                .queryParam("page", "1")
-                .queryParam("count", "20")
+                .queryParam("categories", category)
+                .queryParam("centerLat", lat)
+                .queryParam("centerLon", lon)
+                .queryParam("radius", radiusKm)
+                .queryParam("page", 1)
+                .queryParam("count", AROUND_FETCH_COUNT)
                 .queryParam("resCoordType", "WGS84GEO")
                 .queryParam("reqCoordType", "WGS84GEO")
-                .queryParam("centerLat", request.getCurrentLat())
-                .queryParam("centerLon", request.getCurrentLon())
                 .build()
                 .toUriString();
 
@@ -79,11 +189,171 @@ public class TmapPOIService {
         headers.set("Accept", "application/json");
         headers.set("appKey", tmapApiKey);
 
+        try {
+            ResponseEntity<TmapPOIResponse> response = upstreamGuard.call(UpstreamGuard.TMAP_POI,
+                    () -> pipelineMetrics.record(PipelineMetrics.UPSTREAM,
+                            () -> restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), TmapPOIResponse.class),
+                            "upstream", "tmap_poi_around", "intent", PipelineMetrics.NO_INTENT));
+
+            // 주변 결과가 없으면 T맵이 빈 본문을 주므로 빈 응답으로 처리
+            return response.getBody() != null ? response.getBody() : new TmapPOIResponse();
+
+        } catch (Exception e) {
+            if (TmapQuotaManager.isThrottled(e)) {
+                tmapQuotaManager.onThrottled(TmapQuotaManager.POI_AROUND);
+                throw new CustomException(POIErrorCode.TMAP_QUOTA_EXCEEDED);
+            }
+            if (UpstreamGuard.isRejected(e)) {
+                log.warn("T맵 주변 검색 호출 거절: {}", e.getMessage());
+                throw new CustomException(POIErrorCode.TMAP_UNAVAILABLE);
+            }
+            log.error("T맵 주변 검색 API 호출 실패: ", e);
+            throw new CustomException(POIErrorCode.TMAP_API_ERROR);
+        }
+    }
+
+    private POISpatialIndex.IndexedPoi toIndexedPoi(TmapPOIResponse.Poi poi, String category, long indexedAt) {
+        double lat = parseDouble(poi.getFrontLat());
+        double lon = parseDouble(poi.getFrontLon());
+        String id = poi.getId() != null ? poi.getId() : poi.getName() + "@" + lat + "," + lon;
+
+        return new POISpatialIndex.IndexedPoi(
+                id, poi.getName(), buildAddress(poi), lat, lon, poi.getTelNo(), buildCategory(poi),
+                poi.getUpperBizName(), poi.getMiddleBizName(), poi.getLowerBizName(),
+                Set.of(category), indexedAt);
+    }
+
+    private POIItem toPoiItem(POISpatialIndex.IndexedPoi poi, double currentLat, double currentLon) {
+        return POIItem.builder()
+                .id(poi.id())
+                .name(poi.name())
+                .address(poi.address())
+                .latitude(poi.lat())
+                .longitude(poi.lon())
+                .distance(GeoUtils.distanceMeters(currentLat, currentLon, poi.lat(), poi.lon()))
+                .category(poi.category())
+                .tel(poi.tel())
+                .build();
+    }
+
+    void validateRequest(POISearchRequest request) {
+        if (request.getDestination() == null || request.getDestination().trim().isEmpty()) {
+            throw new CustomException(POIErrorCode.INVALID_DESTINATION);
+        }
+
+        if (request.getCurrentLat() == null || request.getCurrentLon() == null) {
+            throw new CustomException(POIErrorCode.INVALID_LOCATION);
+        }
+    }
+
+    // 검색어 + 중심 좌표(약 100m 단위)로 커서/캐시 키 생성
+    String buildQueryKey(POISearchRequest request) {
+        String raw = String.format(Locale.ROOT, "%s|%.3f|%.3f",
+                request.getDestination().trim(), request.getCurrentLat(), request.getCurrentLon());
+        return DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    int resolvePage(String cursor, String queryKey) {
+        if (cursor == null || cursor.isBlank()) {
+            return 1;
+        }
+
+        int separator = cursor.lastIndexOf(':');
+        if (separator <= 0 || !cursor.substring(0, separator).equals(queryKey)) {
+            throw new CustomException(POIErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+            int page = Integer.parseInt(cursor.substring(separator + 1));
+            if (page < 1) {
+                throw new CustomException(POIErrorCode.INVALID_CURSOR);
+            }
+            return page;
+        } catch (NumberFormatException e) {
+            throw new CustomException(POIErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private TmapPOIResponse loadPage(POISearchRequest request, String queryKey, int page) {
+        CachedPOIPage cached = poiPageCacheService.getPage(queryKey, page);
+        if (cached != null) {
+            log.debug("POI 페이지 캐시 적중: page={}", page);
+            // soft TTL이 지났으면 저장된 페이지로 바로 응답하고 백그라운드에서 갱신
+            if (!poiPageCacheService.isFresh(cached)) {
+                poiPageCacheService.refresh(queryKey, page, () -> callTmapAPI(request, page, TmapQuotaManager.Priority.BACKGROUND));
+            }
+            return cached.getResponse();
+        }
+
+        // 선조회가 진행 중이면 새로 호출하지 않고 그 결과를 기다림
+        CompletableFuture<TmapPOIResponse> inFlight = prefetchInFlight.get(queryKey + ":" + page);
+        if (inFlight != null) {
+            try {
+                return inFlight.get(PREFETCH_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.debug("선조회 결과 대기 실패, 직접 호출: page={}", page);
+            }
+        }
+
+        TmapPOIResponse response = callTmapAPI(request, page, TmapQuotaManager.Priority.INTERACTIVE);
+        poiPageCacheService.savePage(queryKey, page, response);
+        return response;
+    }
+
+    private void prefetchPage(POISearchRequest request, String queryKey, int page) {
+        String inFlightKey = queryKey + ":" + page;
+        CompletableFuture<TmapPOIResponse> future = new CompletableFuture<>();
+        if (prefetchInFlight.putIfAbsent(inFlightKey, future) != null) {
+            return;
+        }
+
+        try {
+            poiPrefetchExecutor.execute(() -> {
+                try {
+                    CachedPOIPage cached = poiPageCacheService.getPage(queryKey, page);
+                    TmapPOIResponse response;
+                    if (cached != null) {
+                        response = cached.getResponse();
+                    } else {
+                        response = callTmapAPI(request, page, TmapQuotaManager.Priority.BACKGROUND);
+                        poiPageCacheService.savePage(queryKey, page, response);
+                    }
+                    future.complete(response);
+                } catch (Exception e) {
+                    log.debug("POI 다음 페이지 선조회 실패: page={}, {}", page, e.getMessage());
+                    future.completeExceptionally(e);
+                } finally {
+                    prefetchInFlight.remove(inFlightKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("POI 선조회 대기열 초과로 생략: page={}", page);
+            prefetchInFlight.remove(inFlightKey);
+            future.cancel(false);
+        }
+    }
+
+    private TmapPOIResponse callTmapAPI(POISearchRequest request, int page, TmapQuotaManager.Priority priority) {
+        // 앱 키 한도 초과는 T맵 장애가 아니므로 서킷 브레이커 밖에서 거절
+        if (!tmapQuotaManager.acquire(TmapQuotaManager.POI, priority)) {
+            throw new CustomException(POIErrorCode.TMAP_QUOTA_EXCEEDED);
+        }
+
+        String url = buildSearchUrl(request, page);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Accept", "application/json");
+        headers.set("appKey", tmapApiKey);
+
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<TmapPOIResponse> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, TmapPOIResponse.class);
+            ResponseEntity<TmapPOIResponse> response = upstreamGuard.call(UpstreamGuard.TMAP_POI,
+                    () -> pipelineMetrics.record(PipelineMetrics.UPSTREAM,
+                            () -> restTemplate.exchange(url, HttpMethod.GET, entity, TmapPOIResponse.class),
+                            "upstream", "tmap_poi", "intent", PipelineMetrics.NO_INTENT));
 
             if (response.getBody() == null) {
                 throw new CustomException(POIErrorCode.NO_RESULTS_FOUND);
@@ -92,12 +362,45 @@ public class TmapPOIService {
             return response.getBody();
 
         } catch (Exception e) {
-            log.error("T맵 API 호출 실패: ", e);
-            throw new CustomException(POIErrorCode.TMAP_API_ERROR);
+            if (TmapQuotaManager.isThrottled(e)) {
+                tmapQuotaManager.onThrottled(TmapQuotaManager.POI);
+            }
+            throw toPoiException(e);
+        }
+    }
+
+    // ReactiveTmapPOIService와 공유
+    String buildSearchUrl(POISearchRequest request, int page) {
+        return UriComponentsBuilder.fromUriString(tmapApiUrl)
+                .queryParam("version", "1")
+                .queryParam("searchKeyword", request.getDestination())
+                .queryParam("searchType", "all")
+                .queryParam("page", page)
+                .queryParam("count", PAGE_SIZE)
+                .queryParam("resCoordType", "WGS84GEO")
+                .queryParam("reqCoordType", "WGS84GEO")
+                .queryParam("centerLat", request.getCurrentLat())
+                .queryParam("centerLon", request.getCurrentLon())
+                .build()
+                .toUriString();
+    }
+
+    // T맵 POI 호출 실패를 응답 오류 코드로 (거절은 503, 앱 키 한도 초과는 429)
+    static CustomException toPoiException(Throwable e) {
+        if (TmapQuotaManager.isThrottled(e)) {
+            log.warn("T맵 POI 검색 호출 한도 초과: {}", e.getMessage());
+            return new CustomException(POIErrorCode.TMAP_QUOTA_EXCEEDED);
+        }
+        if (UpstreamGuard.isRejected(e)) {
+            log.warn("T맵 POI 검색 호출 거절: {}", e.getMessage());
+            return new CustomException(POIErrorCode.TMAP_UNAVAILABLE);
         }
+        log.error("T맵 API 호출 실패: ", e);
+        return new CustomException(POIErrorCode.TMAP_API_ERROR);
     }
 
-    private POISearchResponse processTmapResponse(TmapPOIResponse tmapResponse, POISearchRequest request) {
+    POISearchResponse processTmapResponse(TmapPOIResponse tmapResponse, POISearchRequest request,
+                                          String queryKey, int page) {
         if (tmapResponse == null ||
                 tmapResponse.getSearchPoiInfo() == null ||
                 tmapResponse.getSearchPoiInfo().getPois() == null ||
@@ -105,6 +408,8 @@ public class TmapPOIService {
             return POISearchResponse.builder()
                     .places(new ArrayList<>())
                     .totalCount(0)
+                    .page(page)
+                    .hasNext(false)
                     .build();
         }
 
@@ -115,10 +420,14 @@ public class TmapPOIService {
                 .collect(Collectors.toList());
 
         int totalCount = parseInteger(tmapResponse.getSearchPoiInfo().getTotalCount());
+        boolean hasNext = !places.isEmpty() && (long) page * PAGE_SIZE < totalCount;
 
         return POISearchResponse.builder()
                 .places(places)
                 .totalCount(totalCount)
+                .page(page)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? queryKey + ":" + (page + 1) : null)
                 .build();
     }
 
@@ -132,6 +441,7 @@ public class TmapPOIService {
             String category = buildCategory(poi);
 
             return POIItem.builder()
+                    .id(poi.getId())
                     .name(poi.getName())
                     .address(address)
                     .latitude(lat)
@@ -197,7 +507,7 @@ public class TmapPOIService {
         }
     }
 
-    private Double calculateDistance(Double lat1, Double lon1, Double lat2, Double lon2) {
+    Double calculateDistance(Double lat1, Double lon1, Double lat2, Double lon2) {
         if (lat1 == null || lon1 == null || lat2 == null || lon2 == null) {
             return 0.0;
         }
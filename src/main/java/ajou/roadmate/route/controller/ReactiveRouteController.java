@@ -0,0 +1,125 @@
+package ajou.roadmate.route.controller;
+
+import ajou.roadmate.global.utils.UserContext;
+import ajou.roadmate.route.dto.RerouteRequest;
+import ajou.roadmate.route.dto.RouteGeometryResponse;
+import ajou.roadmate.route.dto.RouteRequest;
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.RouteSelectRequest;
+import ajou.roadmate.route.dto.TrackRequest;
+import ajou.roadmate.route.dto.TrackResponse;
+import ajou.roadmate.route.service.FareService;
+import ajou.roadmate.route.service.ReactiveTmapRouteService;
+import ajou.roadmate.route.service.RerouteService;
+import ajou.roadmate.route.service.RouteGeometryService;
+import ajou.roadmate.route.service.RouteTrackingService;
+import ajou.roadmate.route.service.TmapRouteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+// reactive 프로필의 RouteController (경로 탐색은 논블로킹, 나머지는 Redis 조회 위주라 블로킹 서비스를 boundedElastic에서 호출)
+// 실시간 안내 스트림(SSE)은 서블릿 비동기 기반이라 MVC 모드에서만 제공, Swagger UI도 MVC 모드에서만 제공
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/route")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveRouteController {
+
+    private final ReactiveTmapRouteService reactiveTmapRouteService;
+    private final TmapRouteService tmapRouteService;
+    private final RouteGeometryService routeGeometryService;
+    private final RerouteService rerouteService;
+    private final RouteTrackingService routeTrackingService;
+    private final FareService fareService;
+    private final UserContext userContext;
+
+    @PostMapping("/search")
+    public Mono<ResponseEntity<RouteResponse>> searchRoute(
+            @Valid @RequestBody RouteRequest request,
+            ServerHttpRequest httpRequest) {
+
+        request.setGeometryFormat(RouteController.resolveGeometryFormat(request.getGeometryFormat(), accept(httpRequest)));
+
+        return Mono.zip(userContext.resolveUserId(httpRequest), fareCategory(httpRequest))
+                .flatMap(ids -> reactiveTmapRouteService.searchRoute(request, ids.getT1(), ids.getT2()))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{routeId}/geometry")
+    public Mono<ResponseEntity<RouteGeometryResponse>> getGeometry(
+            @PathVariable String routeId,
+            @RequestParam(required = false) Integer index,
+            @RequestParam(required = false) String format,
+            ServerHttpRequest httpRequest) {
+
+        String resolvedFormat = RouteController.resolveGeometryFormat(format, accept(httpRequest));
+        return blocking(() -> routeGeometryService.getGeometry(routeId, index, resolvedFormat));
+    }
+
+    @PostMapping("/{routeId}/select")
+    public Mono<ResponseEntity<RouteResponse>> selectAlternative(
+            @PathVariable String routeId,
+            @Valid @RequestBody RouteSelectRequest request,
+            ServerHttpRequest httpRequest) {
+
+        request.setGeometryFormat(RouteController.resolveGeometryFormat(request.getGeometryFormat(), accept(httpRequest)));
+
+        return Mono.zip(userContext.resolveUserId(httpRequest), fareCategory(httpRequest))
+                .flatMap(ids -> blocking(() -> tmapRouteService.selectAlternative(routeId, request, ids.getT1(), ids.getT2())));
+    }
+
+    @PostMapping("/reroute")
+    public Mono<ResponseEntity<RouteResponse>> reroute(
+            @Valid @RequestBody RerouteRequest request,
+            ServerHttpRequest httpRequest) {
+
+        request.setGeometryFormat(RouteController.resolveGeometryFormat(request.getGeometryFormat(), accept(httpRequest)));
+
+        return userContext.resolveUserId(httpRequest)
+                .flatMap(userId -> blocking(() -> rerouteService.reroute(request, userId)));
+    }
+
+    @PostMapping("/track")
+    public Mono<ResponseEntity<TrackResponse>> track(
+            @Valid @RequestBody TrackRequest request,
+            ServerHttpRequest httpRequest) {
+        return userContext.findUserId(httpRequest)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(userId -> blocking(() -> routeTrackingService.track(request, userId.orElse(null))));
+    }
+
+    @GetMapping("/health")
+    public Mono<ResponseEntity<String>> health() {
+        return Mono.just(ResponseEntity.ok("Route service is healthy"));
+    }
+
+    // 로그인 세션 사용자만 생년월일 기준 요금 구분 (사용자 조회는 세션 조회와 같은 boundedElastic 스레드에서)
+    private Mono<String> fareCategory(ServerHttpRequest httpRequest) {
+        return userContext.findSessionUserId(httpRequest)
+                .map(fareService::resolveCategory)
+                .defaultIfEmpty(FareService.REGULAR);
+    }
+
+    private String accept(ServerHttpRequest httpRequest) {
+        return httpRequest.getHeaders().getFirst(HttpHeaders.ACCEPT);
+    }
+
+    private <T> Mono<ResponseEntity<T>> blocking(Callable<T> body) {
+        return Mono.fromCallable(body)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
@@ -1,8 +1,19 @@
 package ajou.roadmate.route.controller;
 
+import ajou.roadmate.global.logging.LogEvents;
 import ajou.roadmate.global.utils.UserContext;
+import ajou.roadmate.route.dto.RerouteRequest;
+import ajou.roadmate.route.dto.RouteGeometryResponse;
 import ajou.roadmate.route.dto.RouteRequest;
 import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.RouteSelectRequest;
+import ajou.roadmate.route.dto.TrackRequest;
+import ajou.roadmate.route.dto.TrackResponse;
+import ajou.roadmate.route.service.FareService;
+import ajou.roadmate.route.service.NavigationStreamService;
+import ajou.roadmate.route.service.RerouteService;
+import ajou.roadmate.route.service.RouteGeometryService;
+import ajou.roadmate.route.service.RouteTrackingService;
 import ajou.roadmate.route.service.TmapRouteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,11 +26,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+// reactive 프로필에서는 ReactiveRouteController가 같은 경로를 처리
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/route")
 @RequiredArgsConstructor
 @Slf4j
@@ -27,12 +45,20 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "경로 탐색", description = "T맵 기반 경로 탐색 API")
 public class RouteController {
 
+    public static final String POLYLINE_MEDIA_TYPE = "application/vnd.roadmate.polyline+json";
+
     private final TmapRouteService tmapRouteService;
+    private final RouteGeometryService routeGeometryService;
+    private final RerouteService rerouteService;
+    private final RouteTrackingService routeTrackingService;
+    private final NavigationStreamService navigationStreamService;
+    private final FareService fareService;
     private final UserContext userContext;
 
     @Operation(
             summary = "경로 탐색",
-            description = "출발지와 목적지 좌표를 기반으로 최적의 경로를 탐색합니다. T맵 API를 활용하여 상세한 경로 정보와 길안내를 제공합니다."
+            description = "출발지와 목적지 좌표를 기반으로 최적의 경로를 탐색합니다. T맵 API를 활용하여 상세한 경로 정보와 길안내를 제공합니다. "
+                    + "geometryFormat=POLYLINE 또는 Accept: application/vnd.roadmate.polyline+json 이면 구간 좌표를 encoded polyline으로 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -64,22 +90,198 @@ public class RouteController {
 
         String resolvedUserId = userContext.resolveUserId(httpRequest);
 
-        log.info("경로 탐색 요청 - 사용자: {}, 출발지: {} ({}, {}), 목적지: {} ({}, {})",
+        request.setGeometryFormat(resolveGeometryFormat(request.getGeometryFormat(), httpRequest.getHeader(HttpHeaders.ACCEPT)));
+
+        log.debug("경로 탐색 요청 - 사용자: {}, 출발지: {} ({}, {}), 목적지: {} ({}, {})",
                 resolvedUserId, request.getStartName(), request.getStartLat(), request.getStartLon(),
                 request.getEndName(), request.getEndLat(), request.getEndLon());
 
-        RouteResponse response = tmapRouteService.searchRoute(request, resolvedUserId);
+        String fareCategory = fareService.resolveCategory(userContext.findSessionUserId(httpRequest));
+        RouteResponse response = tmapRouteService.searchRoute(request, resolvedUserId, fareCategory);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "경로 구간 좌표 조회",
+            description = "경로 탐색 응답의 routeId로 구간별 좌표를 조회합니다. index를 지정하면 해당 구간만 반환합니다. 경로 탐색 후 30분간 유효합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RouteGeometryResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "좌표 정보가 없거나 만료됨"
+            )
+    })
+    @GetMapping("/{routeId}/geometry")
+    public ResponseEntity<RouteGeometryResponse> getGeometry(
+            @Parameter(description = "경로 ID", required = true) @PathVariable String routeId,
+            @Parameter(description = "guides 배열 내 구간 인덱스 (미지정 시 전체)") @RequestParam(required = false) Integer index,
+            @Parameter(description = "좌표 형식 (LINESTRING / POLYLINE)") @RequestParam(required = false) String format,
+            HttpServletRequest httpRequest) {
+
+        String resolvedFormat = resolveGeometryFormat(format, httpRequest.getHeader(HttpHeaders.ACCEPT));
+        return ResponseEntity.ok(routeGeometryService.getGeometry(routeId, index, resolvedFormat));
+    }
+
+    @Operation(
+            summary = "대안 경로 선택",
+            description = "alternatives 요청으로 받은 후보 중 하나로 안내를 전환합니다. T맵을 다시 호출하지 않고 저장된 후보로 길안내를 구성합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "전환 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RouteResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "선택할 수 없는 순위"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "대안 경로 정보가 없거나 만료됨"
+            )
+    })
+    @PostMapping("/{routeId}/select")
+    public ResponseEntity<RouteResponse> selectAlternative(
+            @Parameter(description = "경로 ID", required = true) @PathVariable String routeId,
+            @Valid @RequestBody RouteSelectRequest request,
+            HttpServletRequest httpRequest) {
+
+        String resolvedUserId = userContext.resolveUserId(httpRequest);
+
+        request.setGeometryFormat(resolveGeometryFormat(request.getGeometryFormat(), httpRequest.getHeader(HttpHeaders.ACCEPT)));
+
+        String fareCategory = fareService.resolveCategory(userContext.findSessionUserId(httpRequest));
+        return ResponseEntity.ok(tmapRouteService.selectAlternative(routeId, request, resolvedUserId, fareCategory));
+    }
+
+    @Operation(
+            summary = "경로 재탐색",
+            description = "안내 중인 경로와 현재 위치로 경로를 다시 구성합니다. 경로 위에 있으면 남은 구간만 반환하고, "
+                    + "벗어났으면 다음 승차 지점까지만 T맵으로 다시 탐색해 남은 구간과 이어 붙입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "재탐색 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RouteResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "다른 사용자의 안내 세션"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "안내 중인 경로가 없음"
+            )
+    })
+    @PostMapping("/reroute")
+    public ResponseEntity<RouteResponse> reroute(
+            @Valid @RequestBody RerouteRequest request,
+            HttpServletRequest httpRequest) {
+
+        String resolvedUserId = userContext.resolveUserId(httpRequest);
+
+        request.setGeometryFormat(resolveGeometryFormat(request.getGeometryFormat(), httpRequest.getHeader(HttpHeaders.ACCEPT)));
+
+        RouteResponse response = rerouteService.reroute(request, resolvedUserId);
 
-        log.info("경로 탐색 완료 - 총 거리: {}m, 총 시간: {}초, 길안내 수: {}",
-                response.getTotalDistance(), response.getTotalTime(),
-                response.getGuides() != null ? response.getGuides().size() : 0);
+        log.info(LogEvents.SAMPLED, "경로 재탐색 완료 - 세션: {}, 유형: {}, 남은 시간: {}초",
+                request.getSessionId(), response.getRerouteType(), response.getTotalTime());
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "위치 추적",
+            description = "안내 중인 경로에 현재 위치를 대조해 진행률, 다음 안내, 경로 이탈 여부를 반환합니다. 몇 초 간격으로 호출합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "추적 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TrackResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "다른 사용자의 안내 세션"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "안내 중인 경로 또는 좌표 정보가 없음"
+            )
+    })
+    @PostMapping("/track")
+    public ResponseEntity<TrackResponse> track(
+            @Valid @RequestBody TrackRequest request,
+            HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(routeTrackingService.track(request, userContext.findUserId(httpRequest)));
+    }
+
+    @Operation(
+            summary = "실시간 안내 스트림",
+            description = "안내 중인 세션의 다음 안내, 남은 시간, 하차 예고를 SSE로 전송합니다. "
+                    + "이벤트는 /api/route/track 위치 갱신에 따라 발생하며 "
+                    + "instruction, progress, alight, offRoute, backOnRoute, arrived 유형이 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 연결"),
+            @ApiResponse(responseCode = "403", description = "다른 사용자의 안내 세션"),
+            @ApiResponse(responseCode = "404", description = "안내 중인 경로가 없음"),
+            @ApiResponse(responseCode = "503", description = "연결 수 초과 (Retry-After 이후 재연결)")
+    })
+    @GetMapping(value = "/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @Parameter(description = "세션 ID", required = true)
+            @PathVariable String sessionId,
+            HttpServletRequest httpRequest) {
+        // 오류도 본문 없이 상태 코드로 응답 (text/event-stream 요청이라 JSON 오류 본문은 협상되지 않음)
+        String owner = routeGeometryService.getActiveRouteOwner(sessionId);
+        if (owner == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!owner.equals(userContext.findUserId(httpRequest))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        SseEmitter emitter = navigationStreamService.subscribe(sessionId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(NavigationStreamService.RETRY_AFTER_SECONDS))
+                    .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     @GetMapping("/health")
     @Operation(summary = "Health Check", description = "경로 탐색 서비스 상태 확인")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Route service is healthy");
     }
-}
\ No newline at end of file
+
+    // 좌표 형식 미지정 + Accept에 polyline 미디어 타입이 있으면 POLYLINE (ReactiveRouteController와 공유)
+    static String resolveGeometryFormat(String format, String accept) {
+        if (format == null && accept != null && accept.contains(POLYLINE_MEDIA_TYPE)) {
+            return RouteResponse.GEOMETRY_POLYLINE;
+        }
+        return format;
+    }
+}
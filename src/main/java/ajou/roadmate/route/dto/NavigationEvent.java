@@ -0,0 +1,55 @@
+package ajou.roadmate.route.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "실시간 안내 이벤트 (SSE)")
+public class NavigationEvent {
+
+    public static final String INSTRUCTION = "instruction";
+    public static final String PROGRESS = "progress";
+    public static final String ALIGHT = "alight";
+    public static final String OFF_ROUTE = "offRoute";
+    public static final String BACK_ON_ROUTE = "backOnRoute";
+    public static final String ARRIVED = "arrived";
+
+    @Schema(description = "이벤트 유형", example = "instruction",
+            allowableValues = {"instruction", "progress", "alight", "offRoute", "backOnRoute", "arrived"})
+    private String type;
+
+    @Schema(description = "음성 안내용 문구", example = "다음 정류장에서 내리세요.")
+    private String message;
+
+    @Schema(description = "현재 안내 인덱스", example = "2")
+    private Integer guideIndex;
+
+    @Schema(description = "현재 안내 문구", example = "수원역에서 지하철 탑승")
+    private String guidance;
+
+    @Schema(description = "현재 교통수단", example = "SUBWAY")
+    private String transportType;
+
+    @Schema(description = "다음 안내 문구")
+    private String nextGuidance;
+
+    @Schema(description = "다음 안내 지점까지 거리(미터)", example = "120")
+    private Integer distanceToNextGuide;
+
+    @Schema(description = "남은 거리(미터)", example = "8200")
+    private Integer remainingDistance;
+
+    @Schema(description = "남은 시간(초)", example = "1100")
+    private Integer remainingTime;
+
+    @Schema(description = "진행률 (0.0 ~ 1.0)", example = "0.35")
+    private Double progress;
+}
@@ -0,0 +1,33 @@
+package ajou.roadmate.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "경로 재탐색 요청 데이터")
+public class RerouteRequest {
+
+    @NotNull(message = "세션 아이디는 필수입니다.")
+    private String sessionId;
+
+    @NotNull(message = "현재 위도가 필요합니다")
+    @Schema(description = "현재 위도", example = "37.2801", required = true)
+    private Double currentLat;
+
+    @NotNull(message = "현재 경도가 필요합니다")
+    @Schema(description = "현재 경도", example = "127.0440", required = true)
+    private Double currentLon;
+
+    @Schema(description = "구간 좌표 형식", example = "LINESTRING", allowableValues = {"LINESTRING", "POLYLINE"})
+    private String geometryFormat;
+
+    @Schema(description = "구간 좌표를 응답에 포함할지 여부", example = "false")
+    private Boolean includeGeometry;
+}
@@ -0,0 +1,26 @@
+package ajou.roadmate.route.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 대안 경로 전환용으로 저장하는 상위 후보 (T맵 재호출 없이 안내 재구성)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteAlternativeSet {
+    private List<Candidate> candidates;
+    private List<RouteResponse.RouteAlternative> summaries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candidate {
+        private int routeIndex;
+        private double[] features;
+        private Map<String, Object> routeData;
+    }
+}
@@ -0,0 +1,39 @@
+package ajou.roadmate.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "경로 구간 좌표 응답 데이터")
+public class RouteGeometryResponse {
+
+    @Schema(description = "경로 ID", example = "3f1c2a9e-...")
+    private String routeId;
+
+    @Schema(description = "좌표 형식", example = "LINESTRING", allowableValues = {"LINESTRING", "POLYLINE"})
+    private String geometryFormat;
+
+    @Schema(description = "구간별 좌표")
+    private List<LegGeometry> legs;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "구간 좌표")
+    public static class LegGeometry {
+        @Schema(description = "guides 배열 내 인덱스", example = "0")
+        private Integer index;
+
+        @Schema(description = "구간 좌표 (geometryFormat 형식)")
+        private String lineString;
+    }
+}
@@ -0,0 +1,21 @@
+package ajou.roadmate.route.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 오프라인 학습된 경로 랭킹 로지스틱 회귀 모델 (JSON 파일 형식)
+@Data
+@NoArgsConstructor
+public class RouteRankingModel {
+    private List<String> featureNames;
+    private double[] mean;
+    private double[] std;
+    private double[] weights;
+    private double bias;
+    // 사용자 피드백 가중치 점수를 섞는 비율 (0이면 모델 점수만 사용)
+    private double preferenceBlend;
+    private int sampleCount;
+    private String trainedAt;
+}
@@ -1,6 +1,8 @@
 package ajou.roadmate.route.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.Builder;
@@ -41,4 +43,16 @@ public class RouteRequest {
 
     @Schema(description = "경로 탐색 옵션", example = "0", allowableValues = {"0", "1", "2"})
     private String searchOption = "0"; // 0: 최적, 1: 최단거리, 2: 고속도로우선
+
+    @Schema(description = "구간 좌표 형식 (미지정 시 LINESTRING, Accept: application/vnd.roadmate.polyline+json 이면 POLYLINE)",
+            example = "POLYLINE", allowableValues = {"LINESTRING", "POLYLINE"})
+    private String geometryFormat;
+
+    @Schema(description = "구간 좌표를 응답에 포함할지 여부 (기본 false, 좌표는 /api/route/{routeId}/geometry로 조회)", example = "false")
+    private Boolean includeGeometry;
+
+    @Min(value = 0, message = "대안 경로 수는 0 이상이어야 합니다")
+    @Max(value = 5, message = "대안 경로는 최대 5개까지 요청할 수 있습니다")
+    @Schema(description = "점수 순 상위 후보 요약을 함께 반환할 개수 (0이면 최적 경로만)", example = "3")
+    private Integer alternatives;
 }
\ No newline at end of file
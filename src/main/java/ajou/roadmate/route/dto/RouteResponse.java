@@ -8,12 +8,18 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Schema(description = "경로 탐색 응답 데이터")
 public class RouteResponse {
 
+    public static final String GEOMETRY_LINESTRING = "LINESTRING";
+    public static final String GEOMETRY_POLYLINE = "POLYLINE";
+
+    @Schema(description = "경로 ID (구간 좌표 조회용, 30분간 유효)", example = "3f1c2a9e-...")
+    private String routeId;
+
     @Schema(description = "총 거리(미터)", example = "12500", required = true)
     private Integer totalDistance;
 
@@ -23,21 +29,38 @@ public class RouteResponse {
     @Schema(description = "요금 정보(원)", example = "3000")
     private Integer totalFare;
 
-    @Schema(description = "택시 요금 정보(원) - 대중교통 경로에서는 null", example = "15000")
+    @Schema(description = "택시 예상 요금(원) - 중형택시 주간 요금, 직선거리 기준 추정", example = "15000")
     private Integer taxiFare;
 
+    @Schema(description = "요금 상세 (수도권 통합요금 로컬 계산)")
+    private FareInfo fareInfo;
+
     @Schema(description = "출발지 좌표", required = true)
     private Location startLocation;
 
     @Schema(description = "도착지 좌표", required = true)
     private Location endLocation;
 
-    @Schema(description = "상세 길안내 정보 (구간별 lineString 포함)", required = true)
+    @Schema(description = "상세 길안내 정보 (구간 좌표는 geometryRef로 조회)", required = true)
     private List<GuideInfo> guides;
 
     @Schema(description = "접근성 정보")
     private AccessibilityInfo accessibilityInfo;
 
+    @Schema(description = "대안 경로 요약 (alternatives 요청 시, 점수 순)")
+    private List<RouteAlternative> alternatives;
+
+    @Schema(description = "재탐색 결과 유형 (재탐색 응답에만)", example = "ON_ROUTE",
+            allowableValues = {"ON_ROUTE", "DETOUR", "WALK_FALLBACK"})
+    private String rerouteType;
+
+    @Schema(description = "구간 좌표 형식 (LINESTRING: \"lon,lat lon,lat\", POLYLINE: Google encoded polyline 정밀도 1e5)",
+            example = "LINESTRING", allowableValues = {"LINESTRING", "POLYLINE"})
+    private String geometryFormat;
+
+    @Schema(description = "저장된 T맵 응답으로 안내한 경우 그 응답의 저장 시각(epoch ms)", example = "1735700000000")
+    private Long cachedAt;
+
     @Data
     @Builder
     @AllArgsConstructor
@@ -71,7 +94,7 @@ public class RouteResponse {
     }
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     @NoArgsConstructor
     @Schema(description = "길안내 정보")
@@ -106,13 +129,78 @@ public class RouteResponse {
         @Schema(description = "끝 위치")
         private Location endLocation;
 
-        @Schema(description = "해당 구간의 경로 좌표 (linestring)")
+        @Schema(description = "해당 구간의 경로 좌표 (includeGeometry=true일 때만, geometryFormat에 따라 linestring 또는 encoded polyline)")
         private String lineString;
 
+        @Schema(description = "구간 좌표 조회 경로", example = "/api/route/3f1c2a9e-.../geometry?index=0")
+        private String geometryRef;
+
+        @Schema(description = "구간 좌표 범위 [minLon, minLat, maxLon, maxLat]", example = "[127.0431, 37.2791, 127.0456, 37.2817]")
+        private List<Double> bbox;
+
         @Schema(description = "역 접근성 정보 (지하철/버스정류장)")
         private StationAccessibility stationAccessibility;
     }
 
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "대안 경로 요약")
+    public static class RouteAlternative {
+        @Schema(description = "순위 (0이 최적, /api/route/{routeId}/select 에 사용)", example = "1")
+        private Integer rank;
+
+        @Schema(description = "경로 점수 (낮을수록 좋음)", example = "0.42")
+        private Double score;
+
+        @Schema(description = "총 소요시간(초)", example = "1500")
+        private Integer totalTime;
+
+        @Schema(description = "총 거리(미터)", example = "13200")
+        private Integer totalDistance;
+
+        @Schema(description = "도보 시간(초)", example = "420")
+        private Integer totalWalkTime;
+
+        @Schema(description = "환승 횟수", example = "1")
+        private Integer transferCount;
+
+        @Schema(description = "요금(원)", example = "1500")
+        private Integer totalFare;
+
+        @Schema(description = "이동 수단 요약", example = "도보 → 버스 13-4 → 도보")
+        private String summary;
+
+        @Schema(description = "접근성 정보")
+        private AccessibilityInfo accessibilityInfo;
+
+        @Schema(description = "현재 안내 중인 경로 여부", example = "false")
+        private Boolean selected;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "요금 상세")
+    public static class FareInfo {
+        @Schema(description = "적용 요금 구분", example = "REGULAR", allowableValues = {"REGULAR", "SENIOR"})
+        private String category;
+
+        @Schema(description = "적용 요금(원) - totalFare와 동일", example = "1650")
+        private Integer appliedFare;
+
+        @Schema(description = "일반 요금(원)", example = "1650")
+        private Integer regularFare;
+
+        @Schema(description = "만 65세 이상 요금(원) - 지하철 무임", example = "0")
+        private Integer seniorFare;
+
+        @Schema(description = "T맵 제공 요금(원)", example = "1650")
+        private Integer tmapFare;
+    }
+
     @Data
     @Builder
     @AllArgsConstructor
@@ -0,0 +1,31 @@
+package ajou.roadmate.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "대안 경로 선택 요청 데이터")
+public class RouteSelectRequest {
+
+    @NotNull(message = "세션 아이디는 필수입니다.")
+    private String sessionId;
+
+    @NotNull(message = "선택할 대안 경로 순위가 필요합니다")
+    @Min(value = 0, message = "대안 경로 순위는 0 이상이어야 합니다")
+    @Schema(description = "alternatives[].rank", example = "1", required = true)
+    private Integer rank;
+
+    @Schema(description = "구간 좌표 형식", example = "LINESTRING", allowableValues = {"LINESTRING", "POLYLINE"})
+    private String geometryFormat;
+
+    @Schema(description = "구간 좌표를 응답에 포함할지 여부", example = "false")
+    private Boolean includeGeometry;
+}
@@ -0,0 +1,30 @@
+package ajou.roadmate.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "위치 추적 요청 데이터")
+public class TrackRequest {
+
+    @NotNull(message = "세션 아이디는 필수입니다.")
+    private String sessionId;
+
+    @NotNull(message = "현재 위도가 필요합니다")
+    @Schema(description = "현재 위도", example = "37.2801", required = true)
+    private Double lat;
+
+    @NotNull(message = "현재 경도가 필요합니다")
+    @Schema(description = "현재 경도", example = "127.0440", required = true)
+    private Double lon;
+
+    @Schema(description = "GPS 정확도(미터)", example = "12.0")
+    private Double accuracy;
+}
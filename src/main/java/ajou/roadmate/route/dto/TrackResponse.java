@@ -0,0 +1,52 @@
+package ajou.roadmate.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "위치 추적 응답 데이터")
+public class TrackResponse {
+
+    public static final String ON_ROUTE = "ON_ROUTE";
+    public static final String OFF_ROUTE = "OFF_ROUTE";
+    public static final String ARRIVED = "ARRIVED";
+
+    @Schema(description = "안내 중인 경로 ID", example = "3f1c2a9e-...")
+    private String routeId;
+
+    @Schema(description = "상태", example = "ON_ROUTE", allowableValues = {"ON_ROUTE", "OFF_ROUTE", "ARRIVED"})
+    private String status;
+
+    @Schema(description = "경로 이탈 여부 (연속 이탈 판정 후 true)", example = "false")
+    private Boolean offRoute;
+
+    @Schema(description = "경로까지 거리(미터)", example = "8")
+    private Integer distanceFromRoute;
+
+    @Schema(description = "진행률 (0.0 ~ 1.0)", example = "0.35")
+    private Double progress;
+
+    @Schema(description = "현재 안내 인덱스 (guides 배열 기준)", example = "2")
+    private Integer guideIndex;
+
+    @Schema(description = "다음 안내 인덱스 (마지막 구간이면 null)", example = "3")
+    private Integer nextGuideIndex;
+
+    @Schema(description = "다음 안내 문구", example = "수원역에서 지하철 탑승")
+    private String nextGuidance;
+
+    @Schema(description = "다음 안내 지점까지 거리(미터)", example = "120")
+    private Integer distanceToNextGuide;
+
+    @Schema(description = "남은 거리(미터)", example = "8200")
+    private Integer remainingDistance;
+
+    @Schema(description = "남은 시간(초)", example = "1100")
+    private Integer remainingTime;
+}
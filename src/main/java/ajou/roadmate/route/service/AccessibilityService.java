@@ -227,7 +227,7 @@ public class AccessibilityService {
                 .build();
     }
 
-    private String normalizeStationName(String stationName) {
+    String normalizeStationName(String stationName) {
         if (stationName == null) return "";
 
         // 역명 정규화 (끝에 "역" 제거, 공백 제거 등)
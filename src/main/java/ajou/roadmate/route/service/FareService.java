@@ -0,0 +1,242 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.utils.GeoUtils;
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.user.domain.User;
+import ajou.roadmate.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 수도권 대중교통 통합요금 계산 (교통카드 성인 기준, 요금표는 메모리 상수)
+// 기본운임: 탑승 수단 중 가장 높은 기본운임 (환승 시 차액만 추가)
+// 거리비례: 통합 이동거리 10km(광역버스 포함 시 30km) 초과분 50km까지 5km마다, 이후 8km마다 100원
+// 만 65세 이상은 지하철 무임, 버스 구간만 통합요금 적용
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FareService {
+
+    public static final String REGULAR = "REGULAR";
+    public static final String SENIOR = "SENIOR";
+
+    private static final int SENIOR_AGE = 65;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static final int SUBWAY_BASE_FARE = 1550;
+    private static final int DEFAULT_BUS_BASE_FARE = 1500;
+    private static final Map<String, Integer> BUS_BASE_FARES = Map.of(
+            "간선", 1500,
+            "지선", 1500,
+            "일반", 1500,
+            "순환", 1400,
+            "마을", 1200,
+            "심야", 2500,
+            "좌석", 2450,
+            "직행좌석", 2800,
+            "광역", 3000
+    );
+    private static final String EXPRESS_BUS_TYPE = "광역";
+
+    private static final int BASE_DISTANCE_METERS = 10_000;
+    private static final int EXPRESS_BASE_DISTANCE_METERS = 30_000;
+    private static final int LONG_DISTANCE_METERS = 50_000;
+    private static final int SHORT_STEP_METERS = 5_000;
+    private static final int LONG_STEP_METERS = 8_000;
+    private static final int DISTANCE_FARE_UNIT = 100;
+
+    // 기본 요금 포함 최대 5회 탑승(환승 4회)까지 통합, 초과 시 새로 부과
+    private static final int MAX_INTEGRATED_RIDES = 5;
+
+    // 중형택시 주간 요금 (직선거리 × 우회 계수로 주행거리 추정)
+    private static final int TAXI_BASE_FARE = 4800;
+    private static final int TAXI_BASE_DISTANCE_METERS = 1600;
+    private static final int TAXI_STEP_METERS = 131;
+    private static final int TAXI_STEP_FARE = 100;
+    private static final double TAXI_DETOUR_FACTOR = 1.3;
+
+    private final UserService userService;
+
+    // 로그인 사용자의 생년월일 기준 요금 구분 (게스트/정보 없음은 일반)
+    // userId는 로그인 세션으로 확인한 ID만 (X-Guest-Id는 다른 사용자 ID와 겹칠 수 있어 생년월일이 노출됨)
+    public String resolveCategory(String userId) {
+        if (userId == null) {
+            return REGULAR;
+        }
+
+        try {
+            User user = userService.getUserById(userId);
+            if (user == null || user.getBirthDate() == null) {
+                return REGULAR;
+            }
+            LocalDate birthDate = LocalDate.parse(user.getBirthDate());
+            int age = Period.between(birthDate, LocalDate.now(SEOUL)).getYears();
+            return age >= SENIOR_AGE ? SENIOR : REGULAR;
+        } catch (DateTimeParseException e) {
+            return REGULAR;
+        } catch (Exception e) {
+            log.warn("사용자 요금 구분 조회 실패, 일반 요금 적용: {}", e.getMessage());
+            return REGULAR;
+        }
+    }
+
+    // T맵 itinerary 기준 요금, 통합요금 대상이 아닌 수단(고속버스/기차 등)이 있으면 T맵 요금 사용
+    public RouteResponse.FareInfo calculate(Map<String, Object> itinerary, Integer tmapFare, String category) {
+        List<Ride> rides = extractRides(itinerary);
+
+        Integer regularFare;
+        Integer seniorFare;
+        if (rides == null) {
+            regularFare = tmapFare;
+            seniorFare = tmapFare;
+        } else {
+            regularFare = integratedFare(rides);
+
+            List<Ride> busRides = new ArrayList<>(rides.size());
+            for (Ride ride : rides) {
+                if (!ride.subway()) {
+                    busRides.add(ride);
+                }
+            }
+            seniorFare = integratedFare(busRides);
+
+            if (tmapFare != null && tmapFare > 0 && !tmapFare.equals(regularFare)) {
+                log.debug("요금 계산 차이 - 로컬: {}원, T맵: {}원", regularFare, tmapFare);
+            }
+        }
+
+        return RouteResponse.FareInfo.builder()
+                .category(category)
+                .regularFare(regularFare)
+                .seniorFare(seniorFare)
+                .appliedFare(SENIOR.equals(category) ? seniorFare : regularFare)
+                .tmapFare(tmapFare)
+                .build();
+    }
+
+    public Integer taxiFare(RouteResponse.Location start, RouteResponse.Location end) {
+        if (start == null || end == null || start.getLat() == null || start.getLon() == null
+                || end.getLat() == null || end.getLon() == null
+                || (start.getLat() == 0.0 && start.getLon() == 0.0) || (end.getLat() == 0.0 && end.getLon() == 0.0)) {
+            return null;
+        }
+
+        double distance = GeoUtils.distanceMeters(start.getLat(), start.getLon(), end.getLat(), end.getLon())
+                * TAXI_DETOUR_FACTOR;
+        if (distance <= TAXI_BASE_DISTANCE_METERS) {
+            return TAXI_BASE_FARE;
+        }
+        int steps = (int) Math.ceil((distance - TAXI_BASE_DISTANCE_METERS) / TAXI_STEP_METERS);
+        return TAXI_BASE_FARE + steps * TAXI_STEP_FARE;
+    }
+
+    private int integratedFare(List<Ride> rides) {
+        int total = 0;
+        for (int from = 0; from < rides.size(); from += MAX_INTEGRATED_RIDES) {
+            total += tripFare(rides.subList(from, Math.min(rides.size(), from + MAX_INTEGRATED_RIDES)));
+        }
+        return total;
+    }
+
+    private int tripFare(List<Ride> rides) {
+        if (rides.isEmpty()) {
+            return 0;
+        }
+
+        int baseFare = 0;
+        int distance = 0;
+        boolean express = false;
+        boolean hasSubway = false;
+        for (Ride ride : rides) {
+            baseFare = Math.max(baseFare, ride.baseFare());
+            distance += ride.distance();
+            express |= ride.express();
+            hasSubway |= ride.subway();
+        }
+
+        // 일반 시내버스 단독 승차는 거리비례 없음
+        if (rides.size() == 1 && !hasSubway && !express) {
+            return baseFare;
+        }
+
+        return baseFare + distanceFare(distance, express ? EXPRESS_BASE_DISTANCE_METERS : BASE_DISTANCE_METERS);
+    }
+
+    private int distanceFare(int distance, int baseDistance) {
+        if (distance <= baseDistance) {
+            return 0;
+        }
+
+        int shortRange = Math.min(distance, Math.max(baseDistance, LONG_DISTANCE_METERS)) - baseDistance;
+        int fare = ceilDiv(shortRange, SHORT_STEP_METERS) * DISTANCE_FARE_UNIT;
+        if (distance > LONG_DISTANCE_METERS && baseDistance < LONG_DISTANCE_METERS) {
+            fare += ceilDiv(distance - LONG_DISTANCE_METERS, LONG_STEP_METERS) * DISTANCE_FARE_UNIT;
+        }
+        return fare;
+    }
+
+    private List<Ride> extractRides(Map<String, Object> itinerary) {
+        List<Ride> rides = new ArrayList<>();
+        if (!(itinerary.get("legs") instanceof List<?> legs)) {
+            return rides;
+        }
+
+        for (Object item : legs) {
+            if (!(item instanceof Map<?, ?> leg)) {
+                continue;
+            }
+
+            String mode = (String) leg.get("mode");
+            int distance = parseDistance(leg.get("distance"));
+            if ("SUBWAY".equals(mode)) {
+                rides.add(new Ride(SUBWAY_BASE_FARE, distance, true, false));
+            } else if ("BUS".equals(mode)) {
+                String busType = busType((String) leg.get("route"));
+                int baseFare = busType != null ? BUS_BASE_FARES.getOrDefault(busType, DEFAULT_BUS_BASE_FARE)
+                        : DEFAULT_BUS_BASE_FARE;
+                rides.add(new Ride(baseFare, distance, false, EXPRESS_BUS_TYPE.equals(busType)));
+            } else if (mode != null && !"WALK".equals(mode)) {
+                return null;
+            }
+        }
+        return rides;
+    }
+
+    private int parseDistance(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    // "간선:463" → "간선"
+    private String busType(String route) {
+        if (route == null) {
+            return null;
+        }
+        int colon = route.indexOf(':');
+        return colon > 0 ? route.substring(0, colon).trim() : null;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private record Ride(int baseFare, int distance, boolean subway, boolean express) {
+    }
+}
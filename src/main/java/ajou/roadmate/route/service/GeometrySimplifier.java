@@ -0,0 +1,134 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.utils.GeoUtils;
+import ajou.roadmate.global.utils.LineStrings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 구간 linestring 단순화 (Douglas–Peucker, 재귀 대신 인덱스 스택 사용)
+// 기본 허용 오차 3m ≈ 서울 위도 줌 16 기준 1.5px, 0이면 단순화하지 않음
+@Component
+@Slf4j
+public class GeometrySimplifier {
+
+    @Value("${route.geometry.simplify-tolerance-meters:3.0}")
+    private double toleranceMeters;
+
+    private final AtomicLong inputVertices = new AtomicLong();
+    private final AtomicLong outputVertices = new AtomicLong();
+
+    public String simplify(String lineString) {
+        if (lineString == null || lineString.isEmpty() || toleranceMeters <= 0) {
+            return lineString;
+        }
+
+        LineStrings.Coordinates coordinates;
+        try {
+            coordinates = LineStrings.parse(lineString);
+        } catch (IllegalArgumentException e) {
+            log.debug("linestring 단순화 생략: {}", e.getMessage());
+            return lineString;
+        }
+
+        int n = coordinates.size();
+        inputVertices.addAndGet(n);
+        if (n <= 2) {
+            outputVertices.addAndGet(n);
+            return lineString;
+        }
+
+        // 첫 좌표 기준 평면 근사 (구간 길이가 짧아 오차 무시 가능)
+        double lat0 = coordinates.lat(0);
+        double lon0 = coordinates.lon(0);
+        double mx = GeoUtils.metersPerDegreeLon(lat0);
+        double my = GeoUtils.metersPerDegreeLat();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = (coordinates.lon(i) - lon0) * mx;
+            ys[i] = (coordinates.lat(i) - lat0) * my;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        int kept = 2;
+        double toleranceSq = toleranceMeters * toleranceMeters;
+
+        int[] stack = new int[2 * n];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            double maxDistSq = -1.0;
+            int maxIndex = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distSq = segmentDistanceSq(xs[i], ys[i], xs[start], ys[start], xs[end], ys[end]);
+                if (distSq > maxDistSq) {
+                    maxDistSq = distSq;
+                    maxIndex = i;
+                }
+            }
+
+            if (maxIndex >= 0 && maxDistSq > toleranceSq) {
+                keep[maxIndex] = true;
+                kept++;
+                stack[top++] = start;
+                stack[top++] = maxIndex;
+                stack[top++] = maxIndex;
+                stack[top++] = end;
+            }
+        }
+
+        outputVertices.addAndGet(kept);
+        if (kept == n) {
+            return lineString;
+        }
+
+        // 남은 좌표는 원본 문자열 그대로 이어 붙임 (숫자 재포맷 없음)
+        StringBuilder builder = new StringBuilder(lineString.length() * kept / n + 16);
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(lineString, coordinates.tokenStart(i), coordinates.tokenEnd(i));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSq = dx * dx + dy * dy;
+
+        double t = lengthSq > 0 ? ((px - ax) * dx + (py - ay) * dy) / lengthSq : 0.0;
+        t = Math.max(0.0, Math.min(1.0, t));
+
+        double cx = ax + t * dx - px;
+        double cy = ay + t * dy - py;
+        return cx * cx + cy * cy;
+    }
+
+    public long getInputVertices() {
+        return inputVertices.get();
+    }
+
+    public long getOutputVertices() {
+        return outputVertices.get();
+    }
+
+    // 누적 좌표 감소율 (0.0 ~ 1.0)
+    public double getReductionRatio() {
+        long input = inputVertices.get();
+        return input > 0 ? 1.0 - (double) outputVertices.get() / input : 0.0;
+    }
+}
@@ -0,0 +1,110 @@
+package ajou.roadmate.route.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 안내 문구 생성 (정규식과 문구 템플릿은 클래스 로딩 시 한 번만 컴파일)
+// 출력은 기존 String.format/replaceAll 결과와 동일 (null 값은 "null"로 출력)
+public final class GuidanceRenderer {
+
+    private static final String EXIT_SUFFIX = "번출구";
+
+    private static final Pattern DESCRIPTION_EXIT = Pattern.compile("(\\S+?)(\\d+)번출구");
+    private static final Pattern STATION_EXIT = Pattern.compile("(.+?)(\\d+)번출구");
+
+    private static final Template WALK = Template.compile("{0}에서 {1}까지 도보 {2}m ({3}분)");
+    private static final Template TRANSIT = Template.compile("{0}에서 {1} 탑승 → {2} ({3}분, {4}m)");
+    private static final Template OTHER = Template.compile("{0}에서 {1}까지 {2} 이용 ({3}분, {4}m)");
+
+    private GuidanceRenderer() {
+    }
+
+    // 대중교통/도보 구간 안내 문구 (time: 초)
+    public static String legGuidance(String mode, String startName, String endName, int distance, int time, String route) {
+        int minutes = time / 60;
+
+        if ("WALK".equals(mode)) {
+            return WALK.render(startName, endName, distance, minutes);
+        } else if ("BUS".equals(mode)) {
+            return TRANSIT.render(startName, route != null ? route : "버스", stationWithExit(endName), minutes, distance);
+        } else if ("SUBWAY".equals(mode)) {
+            return TRANSIT.render(startName, route != null ? route : "지하철", stationWithExit(endName), minutes, distance);
+        }
+
+        return OTHER.render(startName, stationWithExit(endName), mode, minutes, distance);
+    }
+
+    // "역삼역3번출구 방면으로 우회전" → "역삼역 3번 출구 방면으로 우회전"
+    public static String walkDescription(String description) {
+        if (description == null || !description.contains(EXIT_SUFFIX)) {
+            return description;
+        }
+        return DESCRIPTION_EXIT.matcher(description).replaceAll("$1 $2번 출구");
+    }
+
+    // "역삼역6번출구" → "역삼역 6번 출구"
+    public static String stationWithExit(String locationName) {
+        if (locationName == null || locationName.trim().isEmpty() || !locationName.contains(EXIT_SUFFIX)) {
+            return locationName;
+        }
+
+        Matcher matcher = STATION_EXIT.matcher(locationName);
+        if (matcher.find()) {
+            return matcher.group(1).trim() + " " + matcher.group(2) + "번 출구";
+        }
+        return locationName;
+    }
+
+    // "{0}에서 {1}..." 형식을 고정 문구/인자 인덱스 배열로 미리 분해
+    static final class Template {
+
+        private final String[] literals;
+        private final int[] slots;
+        private final int literalLength;
+
+        private Template(String[] literals, int[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        static Template compile(String template) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+
+            int start = 0;
+            int open = template.indexOf('{');
+            while (open >= 0) {
+                int close = template.indexOf('}', open);
+                if (close < 0) {
+                    throw new IllegalArgumentException("닫히지 않은 템플릿 인자: " + template);
+                }
+                literals.add(template.substring(start, open));
+                slots.add(Integer.parseInt(template.substring(open + 1, close)));
+                start = close + 1;
+                open = template.indexOf('{', start);
+            }
+            literals.add(template.substring(start));
+
+            int[] slotArray = new int[slots.size()];
+            for (int i = 0; i < slotArray.length; i++) {
+                slotArray[i] = slots.get(i);
+            }
+            return new Template(literals.toArray(new String[0]), slotArray);
+        }
+
+        String render(Object... args) {
+            StringBuilder builder = new StringBuilder(literalLength + slots.length * 8);
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(literals[i]).append(args[slots[i]]);
+            }
+            return builder.append(literals[slots.length]).toString();
+        }
+    }
+}
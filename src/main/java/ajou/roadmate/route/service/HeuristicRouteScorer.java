@@ -0,0 +1,21 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.gpt.dto.RoutePreference;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 사용자 피드백 가중치 기반 기본 점수
+@Component
+@ConditionalOnProperty(name = "route.ranking.scorer", havingValue = "heuristic", matchIfMissing = true)
+public class HeuristicRouteScorer implements RouteScorer {
+
+    @Override
+    public double score(double[] features, RoutePreference preference) {
+        return preference.score(
+                features[RouteFeatures.WALK_TIME],
+                features[RouteFeatures.TRANSFER_COUNT],
+                features[RouteFeatures.TOTAL_TIME],
+                features[RouteFeatures.ELEVATOR_RATIO],
+                features[RouteFeatures.ESCALATOR_RATIO]);
+    }
+}
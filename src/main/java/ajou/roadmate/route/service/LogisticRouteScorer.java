@@ -0,0 +1,80 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.gpt.dto.RoutePreference;
+import ajou.roadmate.route.dto.RouteRankingModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+// 피드백 이벤트 로그로 오프라인 학습한 로지스틱 회귀 모델 점수 (RouteRankingModelTrainer 참고)
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "route.ranking.scorer", havingValue = "logistic")
+public class LogisticRouteScorer implements RouteScorer {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${route.ranking.model-path:classpath:model/route-ranking.json}")
+    private Resource modelResource;
+
+    private double[] mean;
+    private double[] invStd;
+    private double[] weights;
+    private double bias;
+    private double preferenceBlend;
+
+    @PostConstruct
+    public void loadModel() {
+        RouteRankingModel model;
+        try (InputStream inputStream = modelResource.getInputStream()) {
+            model = objectMapper.readValue(inputStream, RouteRankingModel.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("경로 랭킹 모델을 불러올 수 없습니다: " + modelResource, e);
+        }
+
+        if (model.getWeights() == null || model.getWeights().length != RouteFeatures.SIZE
+                || model.getMean() == null || model.getMean().length != RouteFeatures.SIZE
+                || model.getStd() == null || model.getStd().length != RouteFeatures.SIZE) {
+            throw new IllegalStateException("경로 랭킹 모델의 특징 수가 맞지 않습니다: " + modelResource);
+        }
+
+        mean = model.getMean();
+        weights = model.getWeights();
+        invStd = new double[RouteFeatures.SIZE];
+        for (int i = 0; i < RouteFeatures.SIZE; i++) {
+            invStd[i] = model.getStd()[i] > 0 ? 1.0 / model.getStd()[i] : 0.0;
+        }
+        bias = model.getBias();
+        preferenceBlend = model.getPreferenceBlend();
+
+        log.info("경로 랭킹 모델 로드 완료 - 학습 샘플: {}, 학습 시각: {}", model.getSampleCount(), model.getTrainedAt());
+    }
+
+    @Override
+    public double score(double[] features, RoutePreference preference) {
+        // 좋은 경로일 로짓이 클수록 점수가 낮아지도록 부호 반전
+        double logit = bias;
+        for (int i = 0; i < RouteFeatures.SIZE; i++) {
+            logit += weights[i] * (features[i] - mean[i]) * invStd[i];
+        }
+
+        double score = -logit;
+        if (preferenceBlend != 0.0) {
+            score += preferenceBlend * preference.score(
+                    features[RouteFeatures.WALK_TIME],
+                    features[RouteFeatures.TRANSFER_COUNT],
+                    features[RouteFeatures.TOTAL_TIME],
+                    features[RouteFeatures.ELEVATOR_RATIO],
+                    features[RouteFeatures.ESCALATOR_RATIO]);
+        }
+        return score;
+    }
+}
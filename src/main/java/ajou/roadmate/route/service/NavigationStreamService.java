@@ -0,0 +1,262 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.route.dto.NavigationEvent;
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.TrackResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 안내 중인 세션별 SSE 연결 (위치 추적 결과가 바뀔 때만 전송)
+// 연결은 서블릿 비동기로 유지되어 대기 중에는 스레드를 점유하지 않음, 연결당 상태는 몇 개의 필드뿐
+// 연결별 대기열에 넣고 한 번에 한 작업만 전송해 이벤트 순서를 유지
+// RouteProgressEvent는 이 노드 안에서만 전달되므로 여러 노드 배포 시 같은 세션의 /track과 /stream이 같은 노드로 가야 함 (sticky 라우팅)
+// 도착 이벤트를 보내면 연결 종료
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NavigationStreamService {
+
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(20);
+    private static final int MAX_STREAMS = 50000;
+    public static final int RETRY_AFTER_SECONDS = 30;
+
+    // 연결별 전송 대기 상한 (넘으면 진행 이벤트만 버림)
+    private static final int MAX_PENDING_EVENTS = 20;
+
+    // 진행 이벤트는 10초 또는 남은 시간 30초 변화마다
+    private static final long PROGRESS_INTERVAL_MILLIS = 10_000L;
+    private static final int PROGRESS_TIME_STEP_SECONDS = 30;
+
+    // 하차 예고 거리 (정류장 간격 기준: 버스 약 500m, 지하철 약 1km)
+    private static final int BUS_ALIGHT_METERS = 400;
+    private static final int SUBWAY_ALIGHT_METERS = 900;
+
+    private final ThreadPoolTaskExecutor navigationStreamExecutor;
+    private final ThreadPoolTaskScheduler navigationHeartbeatScheduler;
+
+    private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> heartbeat;
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeat = navigationHeartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, HEARTBEAT_INTERVAL);
+    }
+
+    @PreDestroy
+    public void stopHeartbeat() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+        }
+        streams.values().forEach(stream -> stream.emitter.complete());
+        streams.clear();
+    }
+
+    // 같은 세션의 이전 연결은 종료 (세션당 연결 1개), 연결 수 초과 시 null
+    public SseEmitter subscribe(String sessionId) {
+        if (streams.size() >= MAX_STREAMS && !streams.containsKey(sessionId)) {
+            log.warn("실시간 안내 연결 수 초과 - 세션: {}", sessionId);
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Stream stream = new Stream(emitter);
+        Stream previous = streams.put(sessionId, stream);
+        if (previous != null) {
+            previous.emitter.complete();
+        }
+
+        emitter.onCompletion(() -> streams.remove(sessionId, stream));
+        emitter.onTimeout(() -> streams.remove(sessionId, stream));
+        emitter.onError(e -> streams.remove(sessionId, stream));
+
+        log.debug("실시간 안내 연결 - 세션: {}, 연결 수: {}", sessionId, streams.size());
+        return emitter;
+    }
+
+    @EventListener
+    public void onProgress(RouteProgressEvent event) {
+        Stream stream = streams.get(event.sessionId());
+        if (stream == null) {
+            return;
+        }
+
+        synchronized (stream) {
+            NavigationEvent navigationEvent = stream.next(event.track(), event.currentGuide(), System.currentTimeMillis());
+            if (navigationEvent == null) {
+                return;
+            }
+            if (stream.pending.size() >= MAX_PENDING_EVENTS && NavigationEvent.PROGRESS.equals(navigationEvent.getType())) {
+                return;
+            }
+            stream.pending.add(navigationEvent);
+        }
+
+        scheduleDrain(event.sessionId(), stream);
+    }
+
+    private void scheduleDrain(String sessionId, Stream stream) {
+        if (!stream.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            navigationStreamExecutor.execute(() -> drain(sessionId, stream));
+        } catch (RejectedExecutionException e) {
+            // 전송 실행기가 가득 차도 도착/이탈 등 상태 이벤트가 유실되지 않도록 호출 스레드에서 전송
+            drain(sessionId, stream);
+        }
+    }
+
+    // 대기열이 빌 때까지 순서대로 전송 (전송 중 추가된 이벤트도 이어서 처리)
+    private void drain(String sessionId, Stream stream) {
+        do {
+            NavigationEvent event;
+            while ((event = stream.pending.poll()) != null) {
+                send(sessionId, stream, event);
+                if (NavigationEvent.ARRIVED.equals(event.getType())) {
+                    close(sessionId, stream);
+                    return;
+                }
+            }
+            stream.draining.set(false);
+        } while (!stream.pending.isEmpty() && stream.draining.compareAndSet(false, true));
+    }
+
+    private void send(String sessionId, Stream stream, NavigationEvent event) {
+        try {
+            stream.emitter.send(SseEmitter.event()
+                    .name(event.getType())
+                    .data(event, MediaType.APPLICATION_JSON));
+        } catch (Exception e) {
+            log.debug("실시간 안내 전송 실패 - 세션: {}, {}", sessionId, e.getMessage());
+            streams.remove(sessionId, stream);
+            stream.emitter.completeWithError(e);
+        }
+    }
+
+    private void close(String sessionId, Stream stream) {
+        if (streams.remove(sessionId, stream)) {
+            stream.emitter.complete();
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Map.Entry<String, Stream> entry : streams.entrySet()) {
+            Stream stream = entry.getValue();
+            try {
+                stream.emitter.send(SseEmitter.event().comment("ping"));
+            } catch (Exception e) {
+                streams.remove(entry.getKey(), stream);
+                stream.emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private static int alightMeters(RouteResponse.GuideInfo guide) {
+        return "SUBWAY".equals(guide.getTransportType()) ? SUBWAY_ALIGHT_METERS : BUS_ALIGHT_METERS;
+    }
+
+    // 연결별 마지막 전송 상태
+    private static final class Stream {
+        private final SseEmitter emitter;
+        private final Queue<NavigationEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private String routeId;
+        private int guideIndex = -1;
+        private int alertedGuideIndex = -1;
+        private boolean offRoute;
+        private boolean arrived;
+        private long progressSentAt;
+        private int progressRemainingTime = -1;
+
+        private Stream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 우선순위: 도착 > 이탈/복귀 > 안내 변경 > 하차 예고 > 진행
+        private NavigationEvent next(TrackResponse track, RouteResponse.GuideInfo guide, long now) {
+            // 재탐색/대안 전환으로 경로가 바뀌면 새 경로 기준으로 다시 시작
+            if (!Objects.equals(routeId, track.getRouteId())) {
+                routeId = track.getRouteId();
+                guideIndex = -1;
+                alertedGuideIndex = -1;
+                offRoute = false;
+                arrived = false;
+            }
+
+            if (arrived) {
+                return null;
+            }
+
+            if (TrackResponse.ARRIVED.equals(track.getStatus())) {
+                arrived = true;
+                return event(NavigationEvent.ARRIVED, "목적지에 도착했습니다.", track, guide, now);
+            }
+
+            boolean trackOffRoute = Boolean.TRUE.equals(track.getOffRoute());
+            if (trackOffRoute != offRoute) {
+                offRoute = trackOffRoute;
+                return offRoute
+                        ? event(NavigationEvent.OFF_ROUTE, "경로를 벗어났습니다.", track, guide, now)
+                        : event(NavigationEvent.BACK_ON_ROUTE, "경로로 돌아왔습니다.", track, guide, now);
+            }
+            if (offRoute) {
+                return null;
+            }
+
+            if (track.getGuideIndex() != guideIndex) {
+                guideIndex = track.getGuideIndex();
+                return event(NavigationEvent.INSTRUCTION, guide.getGuidance(), track, guide, now);
+            }
+
+            if (RouteTimeEstimator.isTransit(guide) && alertedGuideIndex != guideIndex
+                    && track.getDistanceToNextGuide() <= alightMeters(guide)) {
+                alertedGuideIndex = guideIndex;
+                String message = track.getNextGuideIndex() != null ? "다음 정류장에서 내리세요." : "다음 정류장에서 내리면 도착입니다.";
+                return event(NavigationEvent.ALIGHT, message, track, guide, now);
+            }
+
+            if (now - progressSentAt >= PROGRESS_INTERVAL_MILLIS
+                    || Math.abs(progressRemainingTime - track.getRemainingTime()) >= PROGRESS_TIME_STEP_SECONDS) {
+                return event(NavigationEvent.PROGRESS, null, track, guide, now);
+            }
+            return null;
+        }
+
+        private NavigationEvent event(String type, String message, TrackResponse track,
+                                      RouteResponse.GuideInfo guide, long now) {
+            progressSentAt = now;
+            progressRemainingTime = track.getRemainingTime();
+            return NavigationEvent.builder()
+                    .type(type)
+                    .message(message)
+                    .guideIndex(track.getGuideIndex())
+                    .guidance(guide.getGuidance())
+                    .transportType(guide.getTransportType())
+                    .nextGuidance(track.getNextGuidance())
+                    .distanceToNextGuide(track.getDistanceToNextGuide())
+                    .remainingDistance(track.getRemainingDistance())
+                    .remainingTime(track.getRemainingTime())
+                    .progress(track.getProgress())
+                    .build();
+        }
+    }
+}
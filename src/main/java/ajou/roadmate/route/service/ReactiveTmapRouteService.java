@@ -0,0 +1,106 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.RouteErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.quota.TmapQuotaManager;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.route.dto.RouteRequest;
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.TmapRouteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+// reactive 프로필의 경로 탐색 (캐시 정책, 대체 응답, 오류 코드는 TmapRouteService.searchRoute와 같음)
+// 저장된 경로 조회와 T맵 호출은 논블로킹, 이후 경로 선택/응답 구성과 좌표·컨텍스트 저장(블로킹 Redis)은 boundedElastic에서
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveTmapRouteService {
+
+    @Value("${tmap.api.key}")
+    private String tmapApiKey;
+
+    @Value("${tmap.route.api.url:https://apis.openapi.sk.com/transit/routes}")
+    private String tmapRouteApiUrl;
+
+    private final WebClient upstreamWebClient;
+    private final TmapRouteService tmapRouteService;
+    private final TmapRouteCache tmapRouteCache;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+    private final TmapQuotaManager tmapQuotaManager;
+
+    public Mono<RouteResponse> searchRoute(RouteRequest request, String userId, String fareCategory) {
+        return Mono.fromRunnable(() -> tmapRouteService.validateRequest(request))
+                .then(Mono.defer(() -> tmapRouteCache.find(request).map(Optional::of).defaultIfEmpty(Optional.empty())))
+                .flatMap(cached -> loadRoute(request, cached.orElse(null)))
+                .publishOn(Schedulers.boundedElastic())
+                .map(loaded -> tmapRouteService.completeRoute(request, userId, fareCategory,
+                        loaded.response(), loaded.cachedAt()))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("경로 탐색 중 예상치 못한 오류 발생: ", e);
+                    return new CustomException(RouteErrorCode.TMAP_ROUTE_API_ERROR);
+                });
+    }
+
+    private Mono<LoadedRoute> loadRoute(RouteRequest request, TmapRouteCache.Entry cached) {
+        if (cached != null && tmapRouteCache.isUsable(cached)) {
+            // soft TTL이 지났으면 저장된 응답으로 바로 응답하고 백그라운드에서 갱신 (갱신 실행기 스레드에서 대기)
+            if (!tmapRouteCache.isFresh(cached)) {
+                tmapRouteCache.refresh(request, () -> callTmapRouteAPI(request, TmapQuotaManager.Priority.BACKGROUND).block());
+            }
+            return Mono.just(new LoadedRoute(cached.response(), cached.cachedAt()));
+        }
+
+        return callTmapRouteAPI(request, TmapQuotaManager.Priority.INTERACTIVE)
+                .flatMap(response -> tmapRouteCache.store(request, response).thenReturn(new LoadedRoute(response, null)))
+                .onErrorResume(CustomException.class, e -> {
+                    // T맵 장애/거절 시 같은 구간의 오래된 경로라도 있으면 그것으로 응답
+                    if (cached == null) {
+                        return Mono.error(e);
+                    }
+                    log.warn("T맵 경로 탐색 실패, 저장된 경로로 응답 - 저장 시각: {}", cached.cachedAt());
+                    return Mono.just(new LoadedRoute(cached.response(), cached.cachedAt()));
+                });
+    }
+
+    private Mono<TmapRouteResponse> callTmapRouteAPI(RouteRequest request, TmapQuotaManager.Priority priority) {
+        Mono<TmapRouteResponse> call = upstreamWebClient.post()
+                .uri(tmapRouteApiUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header("appKey", tmapApiKey)
+                .bodyValue(tmapRouteService.buildTmapRequestBody(request))
+                .retrieve()
+                .bodyToMono(TmapRouteResponse.class)
+                .switchIfEmpty(Mono.error(() -> new CustomException(RouteErrorCode.ROUTE_NOT_FOUND)));
+
+        Mono<TmapRouteResponse> guarded = upstreamGuard.mono(UpstreamGuard.TMAP_ROUTE,
+                        pipelineMetrics.recordMono(PipelineMetrics.UPSTREAM, call,
+                                "upstream", "tmap_route", "intent", PipelineMetrics.NO_INTENT))
+                .onErrorResume(TmapQuotaManager::isThrottled,
+                        e -> tmapQuotaManager.onThrottledReactive(TmapQuotaManager.ROUTE).then(Mono.error(e)))
+                .onErrorMap(TmapRouteService::toRouteException);
+
+        // 앱 키 한도 초과는 T맵 장애가 아니므로 서킷 브레이커 밖에서 거절
+        return tmapQuotaManager.acquireReactive(TmapQuotaManager.ROUTE, priority)
+                .flatMap(granted -> granted
+                        ? guarded
+                        : Mono.error(new CustomException(RouteErrorCode.TMAP_ROUTE_QUOTA_EXCEEDED)));
+    }
+
+    // cachedAt: 저장된 응답을 사용한 경우의 저장 시각
+    private record LoadedRoute(TmapRouteResponse response, Long cachedAt) {
+    }
+}
@@ -0,0 +1,248 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.RouteErrorCode;
+import ajou.roadmate.global.logging.LogEvents;
+import ajou.roadmate.global.utils.GeoUtils;
+import ajou.roadmate.global.utils.LineStrings;
+import ajou.roadmate.gpt.dto.ChatContext;
+import ajou.roadmate.gpt.service.ContextService;
+import ajou.roadmate.route.dto.RerouteRequest;
+import ajou.roadmate.route.dto.RouteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 안내 중인 경로 기준 재탐색
+// 경로 위(OFF_ROUTE 임계 이내)면 남은 구간만 잘라 반환하고, 벗어났으면 다음 승차 지점까지만 T맵으로 다시 찾아 이어 붙임
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RerouteService {
+
+    public static final String ON_ROUTE = "ON_ROUTE";
+    public static final String DETOUR = "DETOUR";
+    public static final String WALK_FALLBACK = "WALK_FALLBACK";
+
+    private final ContextService contextService;
+    private final RouteGeometryService routeGeometryService;
+    private final TmapRouteService tmapRouteService;
+
+    @Value("${route.reroute.off-route-meters:50}")
+    private double offRouteMeters;
+
+    // 안내 세션을 시작한 사용자만 재탐색 (다른 세션의 안내 경로를 덮어쓰지 않도록)
+    public RouteResponse reroute(RerouteRequest request, String userId) {
+        routeGeometryService.checkOwner(request.getSessionId(), userId);
+        RouteResponse activeRoute = getActiveRoute(request.getSessionId());
+        List<RouteResponse.GuideInfo> guides = activeRoute.getGuides();
+        Map<Integer, String> lineStrings = routeGeometryService.getLineStrings(activeRoute.getRouteId());
+
+        double lat = request.getCurrentLat();
+        double lon = request.getCurrentLon();
+
+        int nearestIndex = -1;
+        RouteSnapper.Snap nearestSnap = null;
+        LineStrings.Coordinates nearestCoordinates = null;
+        for (int i = 0; i < guides.size(); i++) {
+            String lineString = lineStrings.get(i);
+            if (lineString == null) {
+                continue;
+            }
+
+            LineStrings.Coordinates coordinates;
+            try {
+                coordinates = LineStrings.parse(lineString);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            RouteSnapper.Snap snap = RouteSnapper.snap(coordinates, lat, lon);
+            if (snap != null && (nearestSnap == null || snap.distanceMeters() < nearestSnap.distanceMeters())) {
+                nearestIndex = i;
+                nearestSnap = snap;
+                nearestCoordinates = coordinates;
+            }
+        }
+
+        double walkSpeed = RouteTimeEstimator.estimateWalkSpeed(activeRoute);
+        RouteResponse patched;
+        if (nearestSnap != null && nearestSnap.distanceMeters() <= offRouteMeters) {
+            log.info(LogEvents.SAMPLED, "재탐색 - 경로 위 ({}m), 구간 {}부터 재사용", Math.round(nearestSnap.distanceMeters()), nearestIndex);
+            patched = trimToPosition(activeRoute, lineStrings, nearestIndex, nearestSnap, nearestCoordinates, walkSpeed);
+        } else {
+            // 좌표가 만료됐으면 위치를 알 수 없으므로 목적지까지 다시 탐색
+            int resumeIndex = nearestSnap == null ? guides.size() : findResumeIndex(guides, nearestIndex);
+            log.info(LogEvents.SAMPLED, "재탐색 - 경로 이탈, 구간 {}부터 재사용", resumeIndex);
+            patched = spliceDetour(activeRoute, lineStrings, resumeIndex, lat, lon, userId, walkSpeed);
+        }
+
+        patched.setRouteId(UUID.randomUUID().toString());
+        return tmapRouteService.finishRoute(patched, request.getSessionId(), userId,
+                request.getIncludeGeometry(), request.getGeometryFormat());
+    }
+
+    private RouteResponse getActiveRoute(String sessionId) {
+        ChatContext context;
+        try {
+            context = contextService.getContext(sessionId);
+        } catch (CustomException e) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_NOT_FOUND);
+        }
+
+        RouteResponse route = context.getRouteResponse();
+        if (route == null || route.getRouteId() == null || route.getGuides() == null || route.getGuides().isEmpty()) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_NOT_FOUND);
+        }
+        return route;
+    }
+
+    private RouteResponse trimToPosition(RouteResponse activeRoute, Map<Integer, String> lineStrings, int index,
+                                         RouteSnapper.Snap snap, LineStrings.Coordinates coordinates, double walkSpeed) {
+        List<RouteResponse.GuideInfo> guides = activeRoute.getGuides();
+        List<RouteResponse.GuideInfo> remaining = new ArrayList<>(guides.size() - index);
+
+        RouteResponse.GuideInfo current = guides.get(index);
+        double ratio = snap.remainingRatio();
+        RouteResponse.Location position = RouteResponse.Location.builder()
+                .name("현재 위치")
+                .lat(snap.snappedLat())
+                .lon(snap.snappedLon())
+                .build();
+
+        remaining.add(detach(current)
+                .distance(scale(current.getDistance(), ratio))
+                .time(scale(current.getTime(), ratio))
+                .startLocation(position)
+                .lineString(trimLineString(lineStrings.get(index), coordinates, snap))
+                .build());
+        for (int i = index + 1; i < guides.size(); i++) {
+            remaining.add(detach(guides.get(i)).lineString(lineStrings.get(i)).build());
+        }
+
+        return buildPatchedRoute(activeRoute, remaining, position, walkSpeed, ON_ROUTE);
+    }
+
+    private RouteResponse spliceDetour(RouteResponse activeRoute, Map<Integer, String> lineStrings, int resumeIndex,
+                                       double lat, double lon, String userId, double walkSpeed) {
+        List<RouteResponse.GuideInfo> guides = activeRoute.getGuides();
+        RouteResponse.Location target = resumeIndex < guides.size()
+                ? guides.get(resumeIndex).getStartLocation()
+                : activeRoute.getEndLocation();
+        if (!isValidLocation(target)) {
+            resumeIndex = guides.size();
+            target = activeRoute.getEndLocation();
+        }
+
+        RouteResponse.Location position = RouteResponse.Location.builder()
+                .name("현재 위치")
+                .lat(lat)
+                .lon(lon)
+                .build();
+
+        List<RouteResponse.GuideInfo> patchedGuides = new ArrayList<>();
+        String rerouteType;
+
+        RouteResponse detour = tmapRouteService.searchSegment(lat, lon, target, userId);
+        if (detour != null && detour.getGuides() != null && !detour.getGuides().isEmpty()) {
+            patchedGuides.addAll(detour.getGuides());
+            rerouteType = DETOUR;
+        } else {
+            patchedGuides.add(createWalkGuide(position, target, walkSpeed));
+            rerouteType = WALK_FALLBACK;
+        }
+
+        for (int i = resumeIndex; i < guides.size(); i++) {
+            patchedGuides.add(detach(guides.get(i)).lineString(lineStrings.get(i)).build());
+        }
+
+        RouteResponse patched = buildPatchedRoute(activeRoute, patchedGuides, position, walkSpeed, rerouteType);
+        // T맵 구간은 도보 안내의 time이 0이므로 T맵이 계산한 시간 사용
+        if (DETOUR.equals(rerouteType)) {
+            int remainingTime = RouteTimeEstimator.estimateTime(guides.subList(resumeIndex, guides.size()), walkSpeed);
+            patched.setTotalTime(detour.getTotalTime() + remainingTime);
+        }
+        return patched;
+    }
+
+    private RouteResponse buildPatchedRoute(RouteResponse activeRoute, List<RouteResponse.GuideInfo> guides,
+                                            RouteResponse.Location start, double walkSpeed, String rerouteType) {
+        int totalDistance = 0;
+        for (RouteResponse.GuideInfo guide : guides) {
+            totalDistance += guide.getDistance() != null ? guide.getDistance() : 0;
+        }
+
+        return activeRoute.toBuilder()
+                .routeId(null)
+                .totalDistance(totalDistance)
+                .totalTime(RouteTimeEstimator.estimateTime(guides, walkSpeed))
+                .startLocation(start)
+                .guides(guides)
+                .geometryFormat(RouteResponse.GEOMETRY_LINESTRING)
+                .alternatives(null)
+                .rerouteType(rerouteType)
+                .build();
+    }
+
+    // 다음 대중교통 승차 구간 (현재 타고 있던 구간은 이미 벗어났으므로 제외)
+    private int findResumeIndex(List<RouteResponse.GuideInfo> guides, int nearestIndex) {
+        int from = RouteTimeEstimator.isTransit(guides.get(nearestIndex)) ? nearestIndex + 1 : nearestIndex;
+        for (int i = from; i < guides.size(); i++) {
+            if (RouteTimeEstimator.isTransit(guides.get(i))) {
+                return i;
+            }
+        }
+        return guides.size();
+    }
+
+    private boolean isValidLocation(RouteResponse.Location location) {
+        return location != null && location.getLat() != null && location.getLon() != null
+                && (location.getLat() != 0.0 || location.getLon() != 0.0);
+    }
+
+    private RouteResponse.GuideInfo createWalkGuide(RouteResponse.Location from, RouteResponse.Location to,
+                                                    double walkSpeed) {
+        double distance = GeoUtils.distanceMeters(from.getLat(), from.getLon(), to.getLat(), to.getLon());
+        String targetName = to.getName() != null && !to.getName().isBlank() ? to.getName() : "다음 승차 지점";
+
+        return RouteResponse.GuideInfo.builder()
+                .guidance(targetName + "까지 걸어서 이동")
+                .distance((int) Math.round(distance))
+                .time((int) Math.round(distance / walkSpeed))
+                .transportType("WALK")
+                .startLocation(from)
+                .endLocation(to)
+                .lineString(formatCoordinate(from.getLon()) + "," + formatCoordinate(from.getLat()) + " "
+                        + formatCoordinate(to.getLon()) + "," + formatCoordinate(to.getLat()))
+                .build();
+    }
+
+    // 투영 지점부터 남은 좌표 (남은 좌표는 원본 문자열 그대로)
+    private String trimLineString(String lineString, LineStrings.Coordinates coordinates, RouteSnapper.Snap snap) {
+        StringBuilder builder = new StringBuilder(lineString.length());
+        builder.append(formatCoordinate(snap.snappedLon())).append(',').append(formatCoordinate(snap.snappedLat()));
+        for (int i = snap.segmentIndex() + 1; i < coordinates.size(); i++) {
+            builder.append(' ').append(lineString, coordinates.tokenStart(i), coordinates.tokenEnd(i));
+        }
+        return builder.toString();
+    }
+
+    // 이전 경로의 좌표 참조를 지운 사본 (새 routeId로 다시 저장됨)
+    private RouteResponse.GuideInfo.GuideInfoBuilder detach(RouteResponse.GuideInfo guide) {
+        return guide.toBuilder().geometryRef(null).bbox(null);
+    }
+
+    private Integer scale(Integer value, double ratio) {
+        return value != null ? (int) Math.round(value * ratio) : null;
+    }
+
+    private String formatCoordinate(double value) {
+        return String.valueOf(Math.round(value * 1e7) / 1e7);
+    }
+}
@@ -0,0 +1,50 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.RouteErrorCode;
+import ajou.roadmate.route.dto.RouteAlternativeSet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+// 경로별 대안 후보 저장 (route_alt:{routeId}, 경로 좌표와 같은 TTL)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RouteAlternativeService {
+
+    private static final String ALTERNATIVE_PREFIX = "route_alt:";
+    private static final Duration ALTERNATIVE_TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public boolean store(String routeId, RouteAlternativeSet alternativeSet) {
+        try {
+            stringRedisTemplate.opsForValue().set(ALTERNATIVE_PREFIX + routeId,
+                    objectMapper.writeValueAsString(alternativeSet), ALTERNATIVE_TTL);
+            return true;
+        } catch (Exception e) {
+            log.warn("대안 경로 저장 실패 - 경로: {}, {}", routeId, e.getMessage());
+            return false;
+        }
+    }
+
+    public RouteAlternativeSet get(String routeId) {
+        String json = stringRedisTemplate.opsForValue().get(ALTERNATIVE_PREFIX + routeId);
+        if (json == null) {
+            throw new CustomException(RouteErrorCode.ALTERNATIVE_NOT_FOUND);
+        }
+
+        try {
+            return objectMapper.readValue(json, RouteAlternativeSet.class);
+        } catch (Exception e) {
+            log.error("대안 경로 역직렬화 실패 - 경로: {}", routeId, e);
+            throw new CustomException(RouteErrorCode.ROUTE_PARSE_ERROR);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ajou.roadmate.route.service;
+
+// 경로 후보 특징 벡터 인덱스 (점수 모델/이벤트 로그/학습기가 공유)
+public final class RouteFeatures {
+
+    public static final int WALK_TIME = 0;
+    public static final int TRANSFER_COUNT = 1;
+    public static final int TOTAL_TIME = 2;
+    public static final int ELEVATOR_RATIO = 3;
+    public static final int ESCALATOR_RATIO = 4;
+    public static final int TOTAL_DISTANCE = 5;
+    public static final int SIZE = 6;
+
+    public static final String[] NAMES = {
+            "walkTime", "transferCount", "totalTime", "elevatorRatio", "escalatorRatio", "totalDistance"
+    };
+
+    private RouteFeatures() {
+    }
+
+    public static double[] of(int walkTime, int transferCount, int totalTime,
+                              double elevatorRatio, double escalatorRatio, int totalDistance) {
+        double[] features = new double[SIZE];
+        features[WALK_TIME] = walkTime;
+        features[TRANSFER_COUNT] = transferCount;
+        features[TOTAL_TIME] = totalTime;
+        features[ELEVATOR_RATIO] = elevatorRatio;
+        features[ESCALATOR_RATIO] = escalatorRatio;
+        features[TOTAL_DISTANCE] = totalDistance;
+        return features;
+    }
+}
@@ -0,0 +1,217 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.RouteErrorCode;
+import ajou.roadmate.global.utils.LineStrings;
+import ajou.roadmate.global.utils.PolylineEncoder;
+import ajou.roadmate.route.dto.RouteGeometryResponse;
+import ajou.roadmate.route.dto.RouteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 경로 구간 좌표를 응답/컨텍스트와 분리해 한 번만 저장
+// Hash(route_geometry:{routeId}) field=guides 인덱스, value=원본 linestring
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RouteGeometryService {
+
+    private static final String GEOMETRY_PREFIX = "route_geometry:";
+    private static final String ACTIVE_ROUTE_PREFIX = "active_route:";
+    private static final String ACTIVE_ROUTE_OWNER_PREFIX = "active_route_owner:";
+    // 안내 중에는 만료되지 않도록 예상 소요 시간 + 여유 시간 (위치 추적 시 남은 시간 기준으로 연장)
+    private static final Duration TTL_MARGIN = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    // 각 안내에 geometryRef/bbox를 채우고 좌표 저장, 저장 실패 시 false
+    public boolean store(String routeId, List<RouteResponse.GuideInfo> guides, Integer totalTimeSeconds) {
+        if (guides == null || guides.isEmpty()) {
+            return true;
+        }
+
+        Map<String, String> geometries = new HashMap<>();
+        for (int i = 0; i < guides.size(); i++) {
+            RouteResponse.GuideInfo guide = guides.get(i);
+            String lineString = guide.getLineString();
+            if (lineString == null || lineString.isBlank()) {
+                continue;
+            }
+
+            geometries.put(String.valueOf(i), lineString);
+            guide.setGeometryRef("/api/route/" + routeId + "/geometry?index=" + i);
+            guide.setBbox(boundingBox(lineString));
+        }
+
+        if (geometries.isEmpty()) {
+            return true;
+        }
+
+        try {
+            String key = GEOMETRY_PREFIX + routeId;
+            stringRedisTemplate.opsForHash().putAll(key, geometries);
+            stringRedisTemplate.expire(key, ttl(totalTimeSeconds));
+            return true;
+        } catch (Exception e) {
+            log.warn("경로 좌표 저장 실패 - 경로: {}, {}", routeId, e.getMessage());
+            for (RouteResponse.GuideInfo guide : guides) {
+                guide.setGeometryRef(null);
+            }
+            return false;
+        }
+    }
+
+    // 세션별 안내 중인 routeId (위치 추적 시 컨텍스트 전체를 읽지 않도록 별도 저장)
+    // userId: 안내 세션 소유자 (실시간 안내 스트림 구독 권한 확인용)
+    public void markActive(String sessionId, String routeId, String userId, Integer totalTimeSeconds) {
+        if (sessionId == null || routeId == null) {
+            return;
+        }
+        try {
+            Duration ttl = ttl(totalTimeSeconds);
+            stringRedisTemplate.opsForValue().set(ACTIVE_ROUTE_PREFIX + sessionId, routeId, ttl);
+            if (userId != null) {
+                stringRedisTemplate.opsForValue().set(ACTIVE_ROUTE_OWNER_PREFIX + sessionId, userId, ttl);
+            }
+        } catch (Exception e) {
+            log.warn("안내 경로 저장 실패 - 세션: {}, {}", sessionId, e.getMessage());
+        }
+    }
+
+    // 안내 중인 경로의 좌표/active_route 만료를 남은 시간 기준으로 연장
+    public void extend(String sessionId, String routeId, Integer remainingTimeSeconds) {
+        Duration ttl = ttl(remainingTimeSeconds);
+        try {
+            stringRedisTemplate.expire(GEOMETRY_PREFIX + routeId, ttl);
+            stringRedisTemplate.expire(ACTIVE_ROUTE_PREFIX + sessionId, ttl);
+            stringRedisTemplate.expire(ACTIVE_ROUTE_OWNER_PREFIX + sessionId, ttl);
+        } catch (Exception e) {
+            log.warn("안내 경로 만료 연장 실패 - 세션: {}, {}", sessionId, e.getMessage());
+        }
+    }
+
+    static Duration ttl(Integer timeSeconds) {
+        return TTL_MARGIN.plusSeconds(timeSeconds != null ? Math.max(0, timeSeconds) : 0);
+    }
+
+    public String getActiveRouteId(String sessionId) {
+        return stringRedisTemplate.opsForValue().get(ACTIVE_ROUTE_PREFIX + sessionId);
+    }
+
+    public String getActiveRouteOwner(String sessionId) {
+        return stringRedisTemplate.opsForValue().get(ACTIVE_ROUTE_OWNER_PREFIX + sessionId);
+    }
+
+    // 안내 세션을 시작한 사용자인지 확인 (안내 중인 경로가 없으면 404, 다른 사용자면 403)
+    public void checkOwner(String sessionId, String userId) {
+        String owner = getActiveRouteOwner(sessionId);
+        if (owner == null) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_NOT_FOUND);
+        }
+        if (!owner.equals(userId)) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_FORBIDDEN);
+        }
+    }
+
+    // 좌표를 뺀 사본 (원본 응답은 그대로 둠)
+    public RouteResponse stripGeometry(RouteResponse response) {
+        if (response.getGuides() == null) {
+            return response.toBuilder().build();
+        }
+
+        List<RouteResponse.GuideInfo> guides = new ArrayList<>(response.getGuides().size());
+        for (RouteResponse.GuideInfo guide : response.getGuides()) {
+            guides.add(guide.toBuilder().lineString(null).build());
+        }
+        return response.toBuilder().guides(guides).build();
+    }
+
+    public RouteGeometryResponse getGeometry(String routeId, Integer index, String geometryFormat) {
+        String key = GEOMETRY_PREFIX + routeId;
+        List<RouteGeometryResponse.LegGeometry> legs = new ArrayList<>();
+
+        if (index != null) {
+            Object lineString = stringRedisTemplate.opsForHash().get(key, String.valueOf(index));
+            if (lineString != null) {
+                legs.add(toLeg(index, lineString.toString(), geometryFormat));
+            }
+        } else {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                legs.add(toLeg(Integer.parseInt(entry.getKey().toString()), entry.getValue().toString(), geometryFormat));
+            }
+            legs.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        }
+
+        if (legs.isEmpty()) {
+            throw new CustomException(RouteErrorCode.GEOMETRY_NOT_FOUND);
+        }
+
+        return RouteGeometryResponse.builder()
+                .routeId(routeId)
+                .geometryFormat(isPolyline(geometryFormat) ? RouteResponse.GEOMETRY_POLYLINE : RouteResponse.GEOMETRY_LINESTRING)
+                .legs(legs)
+                .build();
+    }
+
+    // 저장된 원본 linestring (재탐색/위치 추적용)
+    public Map<Integer, String> getLineStrings(String routeId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(GEOMETRY_PREFIX + routeId);
+        Map<Integer, String> result = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            result.put(Integer.parseInt(entry.getKey().toString()), entry.getValue().toString());
+        }
+        return result;
+    }
+
+    private RouteGeometryResponse.LegGeometry toLeg(int index, String lineString, String geometryFormat) {
+        String geometry = lineString;
+        if (isPolyline(geometryFormat)) {
+            try {
+                geometry = PolylineEncoder.encode(lineString);
+            } catch (IllegalArgumentException e) {
+                log.error("polyline 인코딩 실패 - 인덱스: {}, {}", index, e.getMessage());
+                throw new CustomException(RouteErrorCode.ROUTE_PARSE_ERROR);
+            }
+        }
+        return RouteGeometryResponse.LegGeometry.builder()
+                .index(index)
+                .lineString(geometry)
+                .build();
+    }
+
+    private boolean isPolyline(String geometryFormat) {
+        return RouteResponse.GEOMETRY_POLYLINE.equalsIgnoreCase(geometryFormat);
+    }
+
+    private List<Double> boundingBox(String lineString) {
+        try {
+            LineStrings.Coordinates coordinates = LineStrings.parse(lineString);
+            if (coordinates.size() == 0) {
+                return null;
+            }
+
+            double minLon = Double.MAX_VALUE;
+            double minLat = Double.MAX_VALUE;
+            double maxLon = -Double.MAX_VALUE;
+            double maxLat = -Double.MAX_VALUE;
+            for (int i = 0; i < coordinates.size(); i++) {
+                minLon = Math.min(minLon, coordinates.lon(i));
+                minLat = Math.min(minLat, coordinates.lat(i));
+                maxLon = Math.max(maxLon, coordinates.lon(i));
+                maxLat = Math.max(maxLat, coordinates.lat(i));
+            }
+            return List.of(minLon, minLat, maxLon, maxLat);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.TrackResponse;
+
+// 위치 추적 결과 (실시간 안내 스트림이 구독)
+public record RouteProgressEvent(String sessionId, TrackResponse track, RouteResponse.GuideInfo currentGuide) {
+}
@@ -0,0 +1,80 @@
+package ajou.roadmate.route.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 랭킹 모델 학습용 이벤트 로그 (Redis 리스트, 최신순)
+// 오프라인 학습: redis-cli LRANGE route_rank_events 0 -1 > events.jsonl 후 RouteRankingModelTrainer 실행
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RouteRankingEventLogger {
+
+    public static final String EVENT_KEY = "route_rank_events";
+    private static final long MAX_EVENTS = 100000;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ThreadPoolTaskExecutor routeEventExecutor;
+    private final ObjectMapper objectMapper;
+
+    // 경로 탐색 시 후보 특징과 선택된 후보
+    public void logImpression(String sessionId, String userId, int chosenIndex, List<double[]> candidateFeatures) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "impression");
+        event.put("ts", System.currentTimeMillis());
+        event.put("sessionId", sessionId);
+        event.put("userId", userId);
+        event.put("chosen", chosenIndex);
+        event.put("candidates", new ArrayList<>(candidateFeatures));
+        push(event);
+    }
+
+    // 경로 안내 후 들어온 불만 피드백 (직전 노출 경로의 음성 라벨)
+    public void logFeedback(String sessionId, String userId, String category) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "feedback");
+        event.put("ts", System.currentTimeMillis());
+        event.put("sessionId", sessionId);
+        event.put("userId", userId);
+        event.put("category", category);
+        push(event);
+    }
+
+    // 사용자가 대안 경로로 전환 (전환 전 경로 음성, 전환 후 경로 양성 라벨)
+    public void logSelection(String sessionId, String userId, double[] rejectedFeatures, double[] selectedFeatures) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "select");
+        event.put("ts", System.currentTimeMillis());
+        event.put("sessionId", sessionId);
+        event.put("userId", userId);
+        event.put("rejected", rejectedFeatures);
+        event.put("selected", selectedFeatures);
+        push(event);
+    }
+
+    private void push(Map<String, Object> event) {
+        try {
+            String json = objectMapper.writeValueAsString(event);
+            routeEventExecutor.execute(() -> {
+                try {
+                    stringRedisTemplate.opsForList().leftPush(EVENT_KEY, json);
+                    stringRedisTemplate.opsForList().trim(EVENT_KEY, 0, MAX_EVENTS - 1);
+                } catch (Exception e) {
+                    log.warn("랭킹 이벤트 저장 실패: {}", e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            // 이벤트 로그는 best-effort, 경로 응답에는 영향 없음
+            log.debug("랭킹 이벤트 기록 생략: {}", e.getMessage());
+        }
+    }
+}
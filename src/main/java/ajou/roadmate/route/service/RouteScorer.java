@@ -0,0 +1,9 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.gpt.dto.RoutePreference;
+
+// 경로 후보 점수 계산기 (낮을수록 좋은 경로), route.ranking.scorer 설정으로 구현 선택
+public interface RouteScorer {
+
+    double score(double[] features, RoutePreference preference);
+}
@@ -0,0 +1,77 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.utils.GeoUtils;
+import ajou.roadmate.global.utils.LineStrings;
+
+// 현재 위치를 구간 좌표(폴리라인)에 투영 (기준점 주변 평면 근사)
+public final class RouteSnapper {
+
+    private RouteSnapper() {
+    }
+
+    public static Snap snap(LineStrings.Coordinates coordinates, double lat, double lon) {
+        int n = coordinates.size();
+        if (n == 0) {
+            return null;
+        }
+
+        double mx = GeoUtils.metersPerDegreeLon(lat);
+        double my = GeoUtils.metersPerDegreeLat();
+
+        if (n == 1) {
+            double dx = (coordinates.lon(0) - lon) * mx;
+            double dy = (coordinates.lat(0) - lat) * my;
+            return new Snap(Math.sqrt(dx * dx + dy * dy), 0, 0.0,
+                    coordinates.lat(0), coordinates.lon(0), 0.0, 0.0);
+        }
+
+        double bestDistSq = Double.MAX_VALUE;
+        int bestSegment = 0;
+        double bestT = 0.0;
+        double bestAlong = 0.0;
+        double totalLength = 0.0;
+
+        for (int i = 0; i < n - 1; i++) {
+            // 현재 위치를 원점으로 한 미터 좌표
+            double ax = (coordinates.lon(i) - lon) * mx;
+            double ay = (coordinates.lat(i) - lat) * my;
+            double bx = (coordinates.lon(i + 1) - lon) * mx;
+            double by = (coordinates.lat(i + 1) - lat) * my;
+
+            double dx = bx - ax;
+            double dy = by - ay;
+            double lengthSq = dx * dx + dy * dy;
+            double t = lengthSq > 0 ? Math.max(0.0, Math.min(1.0, -(ax * dx + ay * dy) / lengthSq)) : 0.0;
+
+            double cx = ax + t * dx;
+            double cy = ay + t * dy;
+            double distSq = cx * cx + cy * cy;
+
+            double length = Math.sqrt(lengthSq);
+            if (distSq < bestDistSq) {
+                bestDistSq = distSq;
+                bestSegment = i;
+                bestT = t;
+                bestAlong = totalLength + t * length;
+            }
+            totalLength += length;
+        }
+
+        double snappedLat = coordinates.lat(bestSegment)
+                + bestT * (coordinates.lat(bestSegment + 1) - coordinates.lat(bestSegment));
+        double snappedLon = coordinates.lon(bestSegment)
+                + bestT * (coordinates.lon(bestSegment + 1) - coordinates.lon(bestSegment));
+
+        return new Snap(Math.sqrt(bestDistSq), bestSegment, bestT, snappedLat, snappedLon, bestAlong, totalLength);
+    }
+
+    // segmentIndex: 투영된 선분 시작 좌표 인덱스, t: 선분 내 위치(0~1)
+    public record Snap(double distanceMeters, int segmentIndex, double t,
+                       double snappedLat, double snappedLon,
+                       double alongMeters, double totalMeters) {
+
+        public double remainingRatio() {
+            return totalMeters > 0 ? Math.max(0.0, 1.0 - alongMeters / totalMeters) : 0.0;
+        }
+    }
+}
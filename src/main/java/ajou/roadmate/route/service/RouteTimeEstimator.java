@@ -0,0 +1,53 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.route.dto.RouteResponse;
+
+import java.util.List;
+
+// 안내 구간별 소요 시간 추정 (T맵 도보 안내는 time이 0으로 들어오므로 거리와 보행 속도로 환산)
+final class RouteTimeEstimator {
+
+    // 경로 정보로 보행 속도를 알 수 없을 때 쓰는 고령자 보행 속도 (m/s)
+    static final double DEFAULT_WALK_SPEED = 1.0;
+
+    private RouteTimeEstimator() {
+    }
+
+    static boolean isTransit(RouteResponse.GuideInfo guide) {
+        return guide.getTransportType() != null && !"WALK".equals(guide.getTransportType());
+    }
+
+    static double guideTime(RouteResponse.GuideInfo guide, double walkSpeed) {
+        if (isTransit(guide)) {
+            return guide.getTime() != null ? guide.getTime() : 0;
+        }
+        return (guide.getDistance() != null ? guide.getDistance() : 0) / walkSpeed;
+    }
+
+    static int estimateTime(List<RouteResponse.GuideInfo> guides, double walkSpeed) {
+        double total = 0.0;
+        for (RouteResponse.GuideInfo guide : guides) {
+            total += guideTime(guide, walkSpeed);
+        }
+        return (int) Math.round(total);
+    }
+
+    // 전체 소요 시간에서 대중교통 시간을 뺀 나머지를 도보 거리로 나눈 값
+    static double estimateWalkSpeed(RouteResponse route) {
+        int transitTime = 0;
+        int walkDistance = 0;
+        for (RouteResponse.GuideInfo guide : route.getGuides()) {
+            if (isTransit(guide)) {
+                transitTime += guide.getTime() != null ? guide.getTime() : 0;
+            } else {
+                walkDistance += guide.getDistance() != null ? guide.getDistance() : 0;
+            }
+        }
+
+        int walkTime = (route.getTotalTime() != null ? route.getTotalTime() : 0) - transitTime;
+        if (walkDistance <= 0 || walkTime <= 0) {
+            return DEFAULT_WALK_SPEED;
+        }
+        return Math.max(0.5, Math.min(2.0, (double) walkDistance / walkTime));
+    }
+}
@@ -0,0 +1,247 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.utils.GeoUtils;
+import ajou.roadmate.global.utils.LineStrings;
+import ajou.roadmate.route.dto.RouteResponse;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 경로 전체 선분을 격자 버킷으로 색인 (경로마다 한 번 생성, 위치 1건당 주변 9칸만 검사)
+final class RouteTrackingIndex {
+
+    // 이탈 판정 거리(50m)보다 커야 주변 9칸 안에서 항상 판정 가능
+    static final double CELL_METERS = 100.0;
+
+    final String routeId;
+    final List<RouteResponse.GuideInfo> guides;
+
+    private final double originLat;
+    private final double originLon;
+    private final double mx;
+    private final double my;
+
+    // 선분 i: (ax, ay) → (bx, by), 경로 시작부터 누적 거리 startAlong
+    private final double[] ax;
+    private final double[] ay;
+    private final double[] bx;
+    private final double[] by;
+    private final double[] segmentStartAlong;
+    private final int[] segmentGuide;
+    private final int segmentCount;
+
+    // 안내별 누적 거리 구간과 추정 소요 시간
+    final double[] guideStartAlong;
+    final double[] guideEndAlong;
+    final double[] guideTime;
+    final double totalLength;
+
+    private final Map<Long, int[]> grid;
+
+    private RouteTrackingIndex(String routeId, List<RouteResponse.GuideInfo> guides, double originLat, double originLon,
+                               double[] ax, double[] ay, double[] bx, double[] by, double[] segmentStartAlong,
+                               int[] segmentGuide, int segmentCount, double[] guideStartAlong, double[] guideEndAlong,
+                               double[] guideTime, double totalLength, Map<Long, int[]> grid) {
+        this.routeId = routeId;
+        this.guides = guides;
+        this.originLat = originLat;
+        this.originLon = originLon;
+        this.mx = GeoUtils.metersPerDegreeLon(originLat);
+        this.my = GeoUtils.metersPerDegreeLat();
+        this.ax = ax;
+        this.ay = ay;
+        this.bx = bx;
+        this.by = by;
+        this.segmentStartAlong = segmentStartAlong;
+        this.segmentGuide = segmentGuide;
+        this.segmentCount = segmentCount;
+        this.guideStartAlong = guideStartAlong;
+        this.guideEndAlong = guideEndAlong;
+        this.guideTime = guideTime;
+        this.totalLength = totalLength;
+        this.grid = grid;
+    }
+
+    static RouteTrackingIndex build(String routeId, RouteResponse route, Map<Integer, String> lineStrings) {
+        List<RouteResponse.GuideInfo> guides = route.getGuides();
+        int guideCount = guides.size();
+
+        LineStrings.Coordinates[] parsed = new LineStrings.Coordinates[guideCount];
+        int totalPoints = 0;
+        double originLat = Double.NaN;
+        double originLon = Double.NaN;
+        for (int g = 0; g < guideCount; g++) {
+            String lineString = lineStrings.get(g);
+            if (lineString == null) {
+                continue;
+            }
+            try {
+                parsed[g] = LineStrings.parse(lineString);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            totalPoints += parsed[g].size();
+            if (Double.isNaN(originLat) && parsed[g].size() > 0) {
+                originLat = parsed[g].lat(0);
+                originLon = parsed[g].lon(0);
+            }
+        }
+        if (Double.isNaN(originLat)) {
+            return null;
+        }
+
+        double mx = GeoUtils.metersPerDegreeLon(originLat);
+        double my = GeoUtils.metersPerDegreeLat();
+        double walkSpeed = RouteTimeEstimator.estimateWalkSpeed(route);
+
+        int capacity = Math.max(1, totalPoints);
+        double[] ax = new double[capacity];
+        double[] ay = new double[capacity];
+        double[] bx = new double[capacity];
+        double[] by = new double[capacity];
+        double[] segmentStartAlong = new double[capacity];
+        int[] segmentGuide = new int[capacity];
+        double[] guideStartAlong = new double[guideCount];
+        double[] guideEndAlong = new double[guideCount];
+        double[] guideTime = new double[guideCount];
+        Map<Long, IntList> cells = new HashMap<>();
+
+        int count = 0;
+        double along = 0.0;
+        for (int g = 0; g < guideCount; g++) {
+            guideStartAlong[g] = along;
+            guideTime[g] = RouteTimeEstimator.guideTime(guides.get(g), walkSpeed);
+
+            LineStrings.Coordinates coordinates = parsed[g];
+            if (coordinates != null) {
+                for (int i = 0; i + 1 < coordinates.size(); i++) {
+                    double x1 = (coordinates.lon(i) - originLon) * mx;
+                    double y1 = (coordinates.lat(i) - originLat) * my;
+                    double x2 = (coordinates.lon(i + 1) - originLon) * mx;
+                    double y2 = (coordinates.lat(i + 1) - originLat) * my;
+
+                    ax[count] = x1;
+                    ay[count] = y1;
+                    bx[count] = x2;
+                    by[count] = y2;
+                    segmentStartAlong[count] = along;
+                    segmentGuide[count] = g;
+
+                    long minCx = cell(Math.min(x1, x2));
+                    long maxCx = cell(Math.max(x1, x2));
+                    long minCy = cell(Math.min(y1, y2));
+                    long maxCy = cell(Math.max(y1, y2));
+                    for (long cx = minCx; cx <= maxCx; cx++) {
+                        for (long cy = minCy; cy <= maxCy; cy++) {
+                            cells.computeIfAbsent(key(cx, cy), k -> new IntList()).add(count);
+                        }
+                    }
+
+                    along += Math.hypot(x2 - x1, y2 - y1);
+                    count++;
+                }
+            }
+            guideEndAlong[g] = along;
+        }
+
+        Map<Long, int[]> grid = new HashMap<>(cells.size() * 2);
+        for (Map.Entry<Long, IntList> entry : cells.entrySet()) {
+            grid.put(entry.getKey(), entry.getValue().toArray());
+        }
+
+        return new RouteTrackingIndex(routeId, guides, originLat, originLon, ax, ay, bx, by, segmentStartAlong,
+                segmentGuide, count, guideStartAlong, guideEndAlong, guideTime, along, grid);
+    }
+
+    // 주변 9칸 선분 중 가장 가까운 선분 (minAlong보다 많이 뒤로 가는 선분은 불이익)
+    // 주변에 선분이 없으면 null (CELL_METERS 이상 떨어짐)
+    Match match(double lat, double lon, double minAlong, double backtrackTolerance) {
+        double px = (lon - originLon) * mx;
+        double py = (lat - originLat) * my;
+        long pcx = cell(px);
+        long pcy = cell(py);
+
+        double bestScore = Double.MAX_VALUE;
+        double bestDistance = 0.0;
+        double bestAlong = 0.0;
+        int bestSegment = -1;
+
+        for (long cx = pcx - 1; cx <= pcx + 1; cx++) {
+            for (long cy = pcy - 1; cy <= pcy + 1; cy++) {
+                int[] segments = grid.get(key(cx, cy));
+                if (segments == null) {
+                    continue;
+                }
+                for (int s : segments) {
+                    double dx = bx[s] - ax[s];
+                    double dy = by[s] - ay[s];
+                    double lengthSq = dx * dx + dy * dy;
+                    double t = lengthSq > 0
+                            ? Math.max(0.0, Math.min(1.0, ((px - ax[s]) * dx + (py - ay[s]) * dy) / lengthSq))
+                            : 0.0;
+                    double cxm = ax[s] + t * dx - px;
+                    double cym = ay[s] + t * dy - py;
+                    double distance = Math.sqrt(cxm * cxm + cym * cym);
+                    double along = segmentStartAlong[s] + t * Math.sqrt(lengthSq);
+
+                    double score = along < minAlong - backtrackTolerance ? distance + CELL_METERS : distance;
+                    if (score < bestScore) {
+                        bestScore = score;
+                        bestDistance = distance;
+                        bestAlong = along;
+                        bestSegment = s;
+                    }
+                }
+            }
+        }
+
+        if (bestSegment < 0 || bestDistance > CELL_METERS) {
+            return null;
+        }
+        return new Match(bestDistance, bestAlong, segmentGuide[bestSegment]);
+    }
+
+    // 누적 거리 이후 남은 시간 (현재 안내는 남은 거리 비율만큼)
+    double remainingTime(double along, int guideIndex) {
+        double length = guideEndAlong[guideIndex] - guideStartAlong[guideIndex];
+        double ratio = length > 0 ? Math.max(0.0, (guideEndAlong[guideIndex] - along) / length) : 0.0;
+        double total = guideTime[guideIndex] * ratio;
+        for (int g = guideIndex + 1; g < guideTime.length; g++) {
+            total += guideTime[g];
+        }
+        return total;
+    }
+
+    int segmentCount() {
+        return segmentCount;
+    }
+
+    private static long cell(double meters) {
+        return (long) Math.floor(meters / CELL_METERS);
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    record Match(double distanceMeters, double alongMeters, int guideIndex) {
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
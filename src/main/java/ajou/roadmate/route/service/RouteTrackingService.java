@@ -0,0 +1,216 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.RouteErrorCode;
+import ajou.roadmate.gpt.dto.ChatContext;
+import ajou.roadmate.gpt.service.ContextService;
+import ajou.roadmate.route.dto.RouteResponse;
+import ajou.roadmate.route.dto.TrackRequest;
+import ajou.roadmate.route.dto.TrackResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+// 위치 추적: 경로별 선분 색인은 인스턴스 메모리에 캐시, 세션별 진행 상태도 메모리에 유지
+// 위치 1건당 Redis 조회는 active_route 키 하나뿐 (경로가 바뀌었는지 확인용, 소유자 확인은 경로가 바뀔 때만)
+// 메모리 상한을 넘으면 가장 오래 쓰지 않은 색인/세션부터 제거
+// 안내 중인 경로의 좌표/active_route 만료는 몇 분마다 남은 시간 기준으로 연장
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RouteTrackingService {
+
+    private static final int MAX_CACHED_ROUTES = 5000;
+    private static final int MAX_SESSIONS = 50000;
+    private static final long SESSION_IDLE_MILLIS = 30 * 60 * 1000L;
+    private static final long EXTEND_INTERVAL_MILLIS = 5 * 60 * 1000L;
+
+    // 되돌아가는 방향 선분으로 잘못 붙지 않도록 허용하는 후진 거리
+    private static final double BACKTRACK_TOLERANCE_METERS = 30.0;
+    private static final double ARRIVAL_METERS = 20.0;
+    private static final double MAX_ACCURACY_METERS = 100.0;
+
+    // 연속 2회 벗어나야 이탈, 이탈 후에는 임계의 60% 이내로 들어와야 복귀 (GPS 흔들림 방지)
+    private static final int OFF_ROUTE_CONFIRM_COUNT = 2;
+    private static final double RETURN_RATIO = 0.6;
+
+    private final RouteGeometryService routeGeometryService;
+    private final ContextService contextService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${route.reroute.off-route-meters:50}")
+    private double offRouteMeters;
+
+    private final Map<String, CachedIndex> indexCache = new ConcurrentHashMap<>();
+    private final Map<String, TrackingState> sessions = new ConcurrentHashMap<>();
+
+    // userId: 요청 헤더로 확인한 사용자 ID (안내 세션 소유자만 위치를 갱신할 수 있음)
+    public TrackResponse track(TrackRequest request, String userId) {
+        String sessionId = request.getSessionId();
+        String routeId = routeGeometryService.getActiveRouteId(sessionId);
+        if (routeId == null) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_NOT_FOUND);
+        }
+
+        // 같은 경로를 같은 사용자가 이미 추적 중이면 소유자 재확인 생략 (경로와 소유자는 함께 저장됨)
+        TrackingState tracked = sessions.get(sessionId);
+        if (tracked == null || !tracked.routeId().equals(routeId) || !tracked.ownerId().equals(userId)) {
+            routeGeometryService.checkOwner(sessionId, userId);
+        }
+
+        RouteTrackingIndex index = getIndex(sessionId, routeId);
+
+        double accuracy = request.getAccuracy() != null ? Math.min(request.getAccuracy(), MAX_ACCURACY_METERS) : 0.0;
+        double threshold = Math.max(offRouteMeters, accuracy);
+        long now = System.currentTimeMillis();
+
+        TrackingState state = sessions.compute(sessionId, (key, previous) -> {
+            TrackingState current = previous != null && previous.routeId().equals(routeId)
+                    ? previous
+                    : new TrackingState(routeId, userId, 0.0, 0, 0, false, now, 0.0, 0L);
+
+            RouteTrackingIndex.Match match = index.match(request.getLat(), request.getLon(),
+                    current.along(), BACKTRACK_TOLERANCE_METERS);
+            double distance = match != null ? match.distanceMeters() : Double.MAX_VALUE;
+            boolean outside = distance > threshold;
+
+            int offStreak = outside ? current.offStreak() + 1 : 0;
+            boolean offRoute = current.offRoute()
+                    ? distance > threshold * RETURN_RATIO
+                    : offStreak >= OFF_ROUTE_CONFIRM_COUNT;
+
+            double along = current.along();
+            int guideIndex = current.guideIndex();
+            if (!outside) {
+                along = match.alongMeters();
+                guideIndex = match.guideIndex();
+            }
+
+            long extendedAt = now - current.extendedAt() >= EXTEND_INTERVAL_MILLIS ? now : current.extendedAt();
+            return new TrackingState(routeId, userId, along, guideIndex, offStreak, offRoute, now, distance, extendedAt);
+        });
+
+        if (sessions.size() > MAX_SESSIONS) {
+            evictIdleSessions(now);
+        }
+
+        TrackResponse response = toResponse(index, state);
+        if (state.extendedAt() == now) {
+            routeGeometryService.extend(sessionId, routeId, response.getRemainingTime());
+        }
+        eventPublisher.publishEvent(new RouteProgressEvent(sessionId, response, index.guides.get(state.guideIndex())));
+        return response;
+    }
+
+    public void stopTracking(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    private RouteTrackingIndex getIndex(String sessionId, String routeId) {
+        CachedIndex cached = indexCache.get(routeId);
+        if (cached != null) {
+            cached.lastUsedAt = System.currentTimeMillis();
+            return cached.index;
+        }
+
+        RouteResponse route;
+        try {
+            ChatContext context = contextService.getContext(sessionId);
+            route = context.getRouteResponse();
+        } catch (CustomException e) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_NOT_FOUND);
+        }
+        if (route == null || !routeId.equals(route.getRouteId()) || route.getGuides() == null) {
+            throw new CustomException(RouteErrorCode.ACTIVE_ROUTE_NOT_FOUND);
+        }
+
+        RouteTrackingIndex index = RouteTrackingIndex.build(routeId, route, routeGeometryService.getLineStrings(routeId));
+        if (index == null) {
+            throw new CustomException(RouteErrorCode.GEOMETRY_NOT_FOUND);
+        }
+
+        if (indexCache.size() >= MAX_CACHED_ROUTES) {
+            evictOldest(indexCache, entry -> entry.lastUsedAt, MAX_CACHED_ROUTES * 9 / 10);
+        }
+        indexCache.put(routeId, new CachedIndex(index, System.currentTimeMillis()));
+        log.debug("경로 추적 색인 생성 - 경로: {}, 선분: {}", routeId, index.segmentCount());
+        return index;
+    }
+
+    private TrackResponse toResponse(RouteTrackingIndex index, TrackingState state) {
+        List<RouteResponse.GuideInfo> guides = index.guides;
+        int guideIndex = state.guideIndex();
+        double along = state.along();
+        double remainingDistance = Math.max(0.0, index.totalLength - along);
+
+        String status;
+        if (state.offRoute()) {
+            status = TrackResponse.OFF_ROUTE;
+        } else if (remainingDistance <= ARRIVAL_METERS) {
+            status = TrackResponse.ARRIVED;
+        } else {
+            status = TrackResponse.ON_ROUTE;
+        }
+
+        Integer nextGuideIndex = guideIndex + 1 < guides.size() ? guideIndex + 1 : null;
+
+        return TrackResponse.builder()
+                .routeId(index.routeId)
+                .status(status)
+                .offRoute(state.offRoute())
+                .distanceFromRoute(state.distance() == Double.MAX_VALUE ? null : (int) Math.round(state.distance()))
+                .progress(index.totalLength > 0 ? Math.min(1.0, along / index.totalLength) : 0.0)
+                .guideIndex(guideIndex)
+                .nextGuideIndex(nextGuideIndex)
+                .nextGuidance(nextGuideIndex != null ? guides.get(nextGuideIndex).getGuidance() : null)
+                .distanceToNextGuide((int) Math.round(Math.max(0.0, index.guideEndAlong[guideIndex] - along)))
+                .remainingDistance((int) Math.round(remainingDistance))
+                .remainingTime((int) Math.round(index.remainingTime(along, guideIndex)))
+                .build();
+    }
+
+    private void evictIdleSessions(long now) {
+        sessions.values().removeIf(state -> now - state.updatedAt() > SESSION_IDLE_MILLIS);
+        if (sessions.size() > MAX_SESSIONS) {
+            evictOldest(sessions, TrackingState::updatedAt, MAX_SESSIONS * 9 / 10);
+        }
+    }
+
+    // 마지막 사용 시각이 오래된 항목부터 target개가 남을 때까지 제거
+    private static <V> void evictOldest(Map<String, V> map, ToLongFunction<V> lastUsedAt, int target) {
+        int excess = map.size() - target;
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<String, Long>> byAge = new ArrayList<>(map.size());
+        map.forEach((key, value) -> byAge.add(Map.entry(key, lastUsedAt.applyAsLong(value))));
+        byAge.sort(Map.Entry.comparingByValue());
+        for (int i = 0; i < Math.min(excess, byAge.size()); i++) {
+            map.remove(byAge.get(i).getKey());
+        }
+    }
+
+    // extendedAt: 마지막으로 Redis 만료를 연장한 시각
+    // ownerId: 소유자 확인을 마친 사용자 ID
+    private record TrackingState(String routeId, String ownerId, double along, int guideIndex, int offStreak,
+                                 boolean offRoute, long updatedAt, double distance, long extendedAt) {
+    }
+
+    private static final class CachedIndex {
+        private final RouteTrackingIndex index;
+        private volatile long lastUsedAt;
+
+        private CachedIndex(RouteTrackingIndex index, long lastUsedAt) {
+            this.index = index;
+            this.lastUsedAt = lastUsedAt;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.cache.CacheRefresher;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.route.dto.RouteRequest;
+import ajou.roadmate.route.dto.TmapRouteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// 출발/도착 좌표(약 100m 단위) + 탐색 옵션별 T맵 경로 응답 (stale-while-revalidate)
+// ~10분: 그대로 사용 / 10분~2시간: 저장된 응답으로 바로 응답하고 백그라운드에서 한 번만 갱신 / 이후: 동기 호출
+// T맵 호출이 실패하거나 거절되면 6시간 내 응답까지 대체 응답으로 사용
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TmapRouteCache {
+
+    private static final String ROUTE_PREFIX = "tmap_route:";
+    private static final Duration SOFT_TTL = Duration.ofMinutes(10);
+    private static final Duration HARD_TTL = Duration.ofHours(2);
+    private static final Duration STALE_TTL = Duration.ofHours(6);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UpstreamGuard upstreamGuard;
+    private final CacheRefresher cacheRefresher;
+
+    // ReactiveTmapRouteService용 (reactive 프로필)
+    @Autowired(required = false)
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    public Entry get(RouteRequest request) {
+        try {
+            String json = upstreamGuard.call(UpstreamGuard.REDIS,
+                    () -> stringRedisTemplate.opsForValue().get(key(request)));
+            return json != null ? objectMapper.readValue(json, Entry.class) : null;
+        } catch (Exception e) {
+            log.warn("저장된 T맵 경로 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(RouteRequest request, TmapRouteResponse response) {
+        try {
+            String json = objectMapper.writeValueAsString(new Entry(System.currentTimeMillis(), response));
+            upstreamGuard.run(UpstreamGuard.REDIS,
+                    () -> stringRedisTemplate.opsForValue().set(key(request), json, STALE_TTL));
+        } catch (Exception e) {
+            log.warn("T맵 경로 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 리액티브 경로용 get/save (조회 실패는 저장된 경로 없음으로 처리)
+    public Mono<Entry> find(RouteRequest request) {
+        return upstreamGuard.mono(UpstreamGuard.REDIS, reactiveStringRedisTemplate.opsForValue().get(key(request)))
+                .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, Entry.class)))
+                .onErrorResume(e -> {
+                    log.warn("저장된 T맵 경로 조회 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> store(RouteRequest request, TmapRouteResponse response) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(new Entry(System.currentTimeMillis(), response)))
+                .flatMap(json -> upstreamGuard.mono(UpstreamGuard.REDIS,
+                        reactiveStringRedisTemplate.opsForValue().set(key(request), json, STALE_TTL)))
+                .onErrorResume(e -> {
+                    log.warn("T맵 경로 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public boolean isFresh(Entry entry) {
+        return age(entry) < SOFT_TTL.toMillis();
+    }
+
+    // hard TTL 이내면 T맵 호출 없이 응답에 사용
+    public boolean isUsable(Entry entry) {
+        return age(entry) < HARD_TTL.toMillis();
+    }
+
+    public void refresh(RouteRequest request, Supplier<TmapRouteResponse> loader) {
+        cacheRefresher.refresh(key(request), () -> save(request, loader.get()));
+    }
+
+    private long age(Entry entry) {
+        return System.currentTimeMillis() - entry.cachedAt();
+    }
+
+    private String key(RouteRequest request) {
+        return ROUTE_PREFIX + String.format(Locale.ROOT, "%.3f,%.3f:%.3f,%.3f:%s",
+                request.getStartLat(), request.getStartLon(), request.getEndLat(), request.getEndLon(),
+                request.getSearchOption() != null ? request.getSearchOption() : "0");
+    }
+
+    // cachedAt: 저장 시각(epoch ms)
+    public record Entry(long cachedAt, TmapRouteResponse response) {
+    }
+}
@@ -1,11 +1,19 @@
 package ajou.roadmate.route.service;
 
 import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.GPTErrorCode;
 import ajou.roadmate.global.exception.RouteErrorCode;
+import ajou.roadmate.global.logging.LogEvents;
+import ajou.roadmate.global.metrics.PipelineMetrics;
+import ajou.roadmate.global.quota.TmapQuotaManager;
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import ajou.roadmate.global.utils.PolylineEncoder;
 import ajou.roadmate.gpt.dto.ChatContext;
+import ajou.roadmate.gpt.dto.RoutePreference;
 import ajou.roadmate.gpt.service.ContextService;
 import ajou.roadmate.gpt.service.FeedbackService;
 import ajou.roadmate.route.dto.*;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +27,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -36,43 +45,56 @@ public class TmapRouteService {
 
     private final AccessibilityService accessibilityService;
     private final ContextService contextService;
+    private final RouteScorer routeScorer;
+    private final RouteRankingEventLogger routeRankingEventLogger;
+    private final GeometrySimplifier geometrySimplifier;
+    private final RouteGeometryService routeGeometryService;
+    private final RouteAlternativeService routeAlternativeService;
+    private final FareService fareService;
+    private final PipelineMetrics pipelineMetrics;
+    private final UpstreamGuard upstreamGuard;
+    private final TmapRouteCache tmapRouteCache;
+    private final TmapQuotaManager tmapQuotaManager;
 
     // FeedbackService를 Optional로 처리
     @Autowired(required = false)
     private FeedbackService feedbackService;
 
-    public RouteResponse searchRoute(RouteRequest request, String userId) {
+    // fareCategory: 로그인 세션 사용자 기준 요금 구분 (FareService.resolveCategory, 게스트는 일반)
+    public RouteResponse searchRoute(RouteRequest request, String userId, String fareCategory) {
         try {
             validateRequest(request);
 
-            log.info("=== T맵 경로 탐색 시작 ===");
-            log.info("출발지: {} ({}, {})", request.getStartName(), request.getStartLat(), request.getStartLon());
-            log.info("목적지: {} ({}, {})", request.getEndName(), request.getEndLat(), request.getEndLon());
-
-            TmapRouteResponse tmapResponse = callTmapRouteAPI(request);
-            RouteResponse response = processTmapRouteResponse(tmapResponse, request.getSessionId(), userId);
-
-            log.info("경로 탐색 완료 - 총 거리: {}m, 총 시간: {}초",
-                    response.getTotalDistance(), response.getTotalTime());
-
-            // ChatContext 처리를 Optional로 변경
-            try {
-                ChatContext context;
+            log.debug("T맵 경로 탐색 - 출발지: {} ({}, {}), 목적지: {} ({}, {})",
+                    request.getStartName(), request.getStartLat(), request.getStartLon(),
+                    request.getEndName(), request.getEndLat(), request.getEndLon());
+
+            TmapRouteCache.Entry cached = tmapRouteCache.get(request);
+            TmapRouteResponse tmapResponse;
+            Long cachedAt = null;
+            if (cached != null && tmapRouteCache.isUsable(cached)) {
+                // soft TTL이 지났으면 저장된 응답으로 바로 응답하고 백그라운드에서 갱신
+                if (!tmapRouteCache.isFresh(cached)) {
+                    tmapRouteCache.refresh(request, () -> callTmapRouteAPI(request, TmapQuotaManager.Priority.BACKGROUND));
+                }
+                tmapResponse = cached.response();
+                cachedAt = cached.cachedAt();
+            } else {
                 try {
-                    context = contextService.getContext(request.getSessionId());
+                    tmapResponse = callTmapRouteAPI(request, TmapQuotaManager.Priority.INTERACTIVE);
+                    tmapRouteCache.save(request, tmapResponse);
                 } catch (CustomException e) {
-                    // 컨텍스트가 없으면 새로 생성
-                    context = new ChatContext();
-                    context.setSessionId(request.getSessionId());
+                    // T맵 장애/거절 시 같은 구간의 오래된 경로라도 있으면 그것으로 응답
+                    if (cached == null) {
+                        throw e;
+                    }
+                    log.warn("T맵 경로 탐색 실패, 저장된 경로로 응답 - 저장 시각: {}", cached.cachedAt());
+                    tmapResponse = cached.response();
+                    cachedAt = cached.cachedAt();
                 }
-
-                context.setRouteResponse(response);
-                contextService.saveContext(context);
-            } catch (Exception e) {
-                log.warn("컨텍스트 저장 실패 (무시하고 계속 진행): {}", e.getMessage());
             }
 
-            return response;
+            return completeRoute(request, userId, fareCategory, tmapResponse, cachedAt);
 
         } catch (CustomException e) {
             log.error("CustomException 발생: {}", e.getMessage());
@@ -83,7 +105,161 @@ public class TmapRouteService {
         }
     }
 
-    private void validateRequest(RouteRequest request) {
+    // T맵 응답으로 경로 선택, 응답 구성, 좌표/컨텍스트 저장 (ReactiveTmapRouteService와 공유)
+    RouteResponse completeRoute(RouteRequest request, String userId, String fareCategory,
+                                TmapRouteResponse tmapResponse, Long cachedAt) {
+        int alternativeCount = request.getAlternatives() != null ? request.getAlternatives() : 0;
+        RouteResponse response = processTmapRouteResponse(tmapResponse, request.getSessionId(), userId, fareCategory,
+                UUID.randomUUID().toString(), alternativeCount);
+        response.setCachedAt(cachedAt);
+
+        log.info(LogEvents.SAMPLED, "경로 탐색 완료 - 총 거리: {}m, 총 시간: {}초, 저장된 경로: {}",
+                response.getTotalDistance(), response.getTotalTime(), cachedAt != null);
+
+        return finishRoute(response, request.getSessionId(), userId, request.getIncludeGeometry(), request.getGeometryFormat());
+    }
+
+    // 저장된 대안 후보로 안내를 다시 구성 (T맵 재호출 없음)
+    public RouteResponse selectAlternative(String routeId, RouteSelectRequest request, String userId, String fareCategory) {
+        RouteAlternativeSet alternativeSet = routeAlternativeService.get(routeId);
+        List<RouteAlternativeSet.Candidate> candidates = alternativeSet.getCandidates();
+
+        int rank = request.getRank();
+        if (candidates == null || rank >= candidates.size()) {
+            throw new CustomException(RouteErrorCode.INVALID_ALTERNATIVE);
+        }
+
+        RouteAlternativeSet.Candidate chosen = candidates.get(rank);
+        Map<String, Object> route = chosen.getRouteData();
+        AccessibilityService.RouteAccessibilityScore accessibilityScore =
+                accessibilityService.calculateRouteAccessibilityScore(extractStationNames(route),
+                        getIntegerValue(route, "totalWalkTime", 0));
+
+        RouteResponse response = buildRouteResponse(route, accessibilityScore, fareCategory);
+        response.setRouteId(UUID.randomUUID().toString());
+
+        int previousRank = 0;
+        List<RouteResponse.RouteAlternative> summaries = new ArrayList<>(alternativeSet.getSummaries().size());
+        for (RouteResponse.RouteAlternative summary : alternativeSet.getSummaries()) {
+            if (Boolean.TRUE.equals(summary.getSelected())) {
+                previousRank = summary.getRank();
+            }
+            summaries.add(RouteResponse.RouteAlternative.builder()
+                    .rank(summary.getRank())
+                    .score(summary.getScore())
+                    .totalTime(summary.getTotalTime())
+                    .totalDistance(summary.getTotalDistance())
+                    .totalWalkTime(summary.getTotalWalkTime())
+                    .transferCount(summary.getTransferCount())
+                    .totalFare(summary.getTotalFare())
+                    .summary(summary.getSummary())
+                    .accessibilityInfo(summary.getAccessibilityInfo())
+                    .selected(summary.getRank() == rank)
+                    .build());
+        }
+
+        // 전환한 경로에서도 다시 전환할 수 있도록 새 routeId로 후보 재저장
+        if (routeAlternativeService.store(response.getRouteId(), new RouteAlternativeSet(candidates, summaries))) {
+            response.setAlternatives(summaries);
+        }
+
+        if (previousRank != rank && previousRank < candidates.size()) {
+            routeRankingEventLogger.logSelection(request.getSessionId(), userId,
+                    candidates.get(previousRank).getFeatures(), chosen.getFeatures());
+        }
+
+        log.info("대안 경로 전환 - 경로: {}, 순위: {} → {}", routeId, previousRank, rank);
+        return finishRoute(response, request.getSessionId(), userId, request.getIncludeGeometry(), request.getGeometryFormat());
+    }
+
+    // 재탐색용 부분 경로 (실패 시 null)
+    RouteResponse searchSegment(double startLat, double startLon, RouteResponse.Location end, String userId) {
+        RouteRequest segmentRequest = RouteRequest.builder()
+                .startLat(startLat)
+                .startLon(startLon)
+                .startName("현재 위치")
+                .endLat(end.getLat())
+                .endLon(end.getLon())
+                .endName(end.getName())
+                .searchOption("0")
+                .build();
+
+        try {
+            TmapRouteResponse tmapResponse = callTmapRouteAPI(segmentRequest, TmapQuotaManager.Priority.INTERACTIVE);
+            // 재탐색 결과는 기존 경로의 요금을 유지하므로 구간 요금 구분은 일반
+            RouteResponse segment = processTmapRouteResponse(tmapResponse, null, userId, FareService.REGULAR,
+                    UUID.randomUUID().toString(), 0);
+            // 파싱 실패 시 반환되는 기본 응답에는 routeId가 없음
+            return segment.getRouteId() != null ? segment : null;
+        } catch (CustomException e) {
+            log.warn("재탐색 구간 T맵 호출 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 좌표 분리 저장, 컨텍스트 저장, 응답 좌표 형식 처리
+    RouteResponse finishRoute(RouteResponse response, String sessionId, String userId,
+                                      Boolean includeGeometry, String geometryFormat) {
+        // 구간 좌표는 별도 저장하고 컨텍스트에는 좌표를 뺀 사본만 저장
+        boolean geometryStored = routeGeometryService.store(response.getRouteId(), response.getGuides(), response.getTotalTime());
+        RouteResponse strippedResponse = routeGeometryService.stripGeometry(response);
+        if (geometryStored) {
+            routeGeometryService.markActive(sessionId, response.getRouteId(), userId, response.getTotalTime());
+        }
+
+        // ChatContext 처리를 Optional로 변경
+        try {
+            ChatContext context;
+            try {
+                context = contextService.getContext(sessionId);
+            } catch (CustomException e) {
+                // 조회가 거절된 경우 저장된 대화를 빈 컨텍스트로 덮어쓰지 않음
+                if (e.getErrorCode() == GPTErrorCode.CONTEXT_STORE_UNAVAILABLE) {
+                    throw e;
+                }
+                // 컨텍스트가 없으면 새로 생성
+                context = new ChatContext();
+                context.setSessionId(sessionId);
+            }
+
+            context.updateRoute(strippedResponse);
+            contextService.saveContext(context);
+        } catch (Exception e) {
+            log.warn("컨텍스트 저장 실패 (무시하고 계속 진행): {}", e.getMessage());
+        }
+
+        // 좌표 저장에 실패하면 조회할 수 없으므로 인라인으로 응답
+        if (geometryStored && !Boolean.TRUE.equals(includeGeometry)) {
+            return strippedResponse;
+        }
+
+        if (RouteResponse.GEOMETRY_POLYLINE.equalsIgnoreCase(geometryFormat)) {
+            encodeGeometry(response);
+        }
+
+        return response;
+    }
+
+    private void encodeGeometry(RouteResponse response) {
+        if (response.getGuides() == null) {
+            return;
+        }
+
+        try {
+            List<String> encoded = new ArrayList<>(response.getGuides().size());
+            for (RouteResponse.GuideInfo guide : response.getGuides()) {
+                encoded.add(guide.getLineString() != null ? PolylineEncoder.encode(guide.getLineString()) : null);
+            }
+            for (int i = 0; i < encoded.size(); i++) {
+                response.getGuides().get(i).setLineString(encoded.get(i));
+            }
+            response.setGeometryFormat(RouteResponse.GEOMETRY_POLYLINE);
+        } catch (IllegalArgumentException e) {
+            log.warn("polyline 인코딩 실패, linestring으로 응답: {}", e.getMessage());
+        }
+    }
+
+    void validateRequest(RouteRequest request) {
         if (request.getStartLat() == null || request.getStartLon() == null) {
             throw new CustomException(RouteErrorCode.INVALID_START_LOCATION);
         }
@@ -96,12 +272,41 @@ public class TmapRouteService {
         }
     }
 
-    private TmapRouteResponse callTmapRouteAPI(RouteRequest request) {
+    private TmapRouteResponse callTmapRouteAPI(RouteRequest request, TmapQuotaManager.Priority priority) {
+        // 앱 키 한도 초과는 T맵 장애가 아니므로 서킷 브레이커 밖에서 거절
+        if (!tmapQuotaManager.acquire(TmapQuotaManager.ROUTE, priority)) {
+            throw new CustomException(RouteErrorCode.TMAP_ROUTE_QUOTA_EXCEEDED);
+        }
+
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.set("Accept", "application/json");
         headers.set("appKey", tmapApiKey);
 
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildTmapRequestBody(request), headers);
+
+        try {
+            ResponseEntity<TmapRouteResponse> response = upstreamGuard.call(UpstreamGuard.TMAP_ROUTE,
+                    () -> pipelineMetrics.record(PipelineMetrics.UPSTREAM,
+                            () -> restTemplate.exchange(tmapRouteApiUrl, HttpMethod.POST, entity, TmapRouteResponse.class),
+                            "upstream", "tmap_route", "intent", PipelineMetrics.NO_INTENT));
+
+            if (response.getBody() == null) {
+                log.warn("T맵 API 응답이 비어있습니다.");
+                throw new CustomException(RouteErrorCode.ROUTE_NOT_FOUND);
+            }
+
+            return response.getBody();
+
+        } catch (Exception e) {
+            if (TmapQuotaManager.isThrottled(e)) {
+                tmapQuotaManager.onThrottled(TmapQuotaManager.ROUTE);
+            }
+            throw toRouteException(e);
+        }
+    }
+
+    Map<String, Object> buildTmapRequestBody(RouteRequest request) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("startX", String.valueOf(request.getStartLon()));
         requestBody.put("startY", String.valueOf(request.getStartLat()));
@@ -116,71 +321,71 @@ public class TmapRouteService {
         requestBody.put("subwayBusCount", 5); // 지하철+버스 조합 경로
         requestBody.put("subwayCount", 3);    // 지하철 전용 경로
         requestBody.put("busCount", 2);       // 버스 전용 경로
+        return requestBody;
+    }
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-        try {
-            ResponseEntity<TmapRouteResponse> response = restTemplate.exchange(
-                    tmapRouteApiUrl, HttpMethod.POST, entity, TmapRouteResponse.class);
-
-            if (response.getBody() == null) {
-                log.warn("T맵 API 응답이 비어있습니다.");
-                throw new CustomException(RouteErrorCode.ROUTE_NOT_FOUND);
-            }
-
-            return response.getBody();
-
-        } catch (Exception e) {
-            log.error("T맵 경로 탐색 API 호출 실패: {}", e.getMessage());
-            throw new CustomException(RouteErrorCode.TMAP_ROUTE_API_ERROR);
+    // T맵 호출 실패를 응답 오류 코드로 (거절은 503, 앱 키 한도 초과는 429)
+    static CustomException toRouteException(Throwable e) {
+        if (TmapQuotaManager.isThrottled(e)) {
+            log.warn("T맵 경로 탐색 호출 한도 초과: {}", e.getMessage());
+            return new CustomException(RouteErrorCode.TMAP_ROUTE_QUOTA_EXCEEDED);
+        }
+        if (UpstreamGuard.isRejected(e)) {
+            log.warn("T맵 경로 탐색 호출 거절: {}", e.getMessage());
+            return new CustomException(RouteErrorCode.TMAP_ROUTE_UNAVAILABLE);
         }
+        log.error("T맵 경로 탐색 API 호출 실패: {}", e.getMessage());
+        return new CustomException(RouteErrorCode.TMAP_ROUTE_API_ERROR);
     }
 
-    private RouteResponse processTmapRouteResponse(TmapRouteResponse tmapResponse, String sessionId, String userId) {
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    RouteResponse processTmapRouteResponse(TmapRouteResponse tmapResponse, String sessionId, String userId,
+                                           String fareCategory, String routeId, int alternativeCount) {
         if (tmapResponse == null) {
             throw new CustomException(RouteErrorCode.ROUTE_NOT_FOUND);
         }
 
         try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            String jsonString = mapper.writeValueAsString(tmapResponse);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseMap = mapper.readValue(jsonString, Map.class);
-
-            if (!responseMap.containsKey("metaData")) {
-                return createFallbackResponse();
-            }
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> metaData = (Map<String, Object>) responseMap.get("metaData");
-
-            if (!metaData.containsKey("plan")) {
-                return createFallbackResponse();
+            // parse 단계: 응답 변환과 경로 목록 추출만 (점수 계산은 score 단계, 대체 응답은 error)
+            List<Map<String, Object>> itineraries = null;
+            Timer.Sample parseSample = pipelineMetrics.start();
+            try {
+                itineraries = extractItineraries(tmapResponse);
+            } finally {
+                pipelineMetrics.stop(parseSample, PipelineMetrics.ROUTE_STAGE,
+                        itineraries != null ? PipelineMetrics.SUCCESS : PipelineMetrics.ERROR, "stage", "parse");
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> plan = (Map<String, Object>) metaData.get("plan");
-
-            if (!plan.containsKey("itineraries")) {
+            if (itineraries == null) {
                 return createFallbackResponse();
             }
 
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> itineraries = (List<Map<String, Object>>) plan.get("itineraries");
-
-            if (itineraries.isEmpty()) {
-                return createFallbackResponse();
+            List<RouteCandidate> routeCandidates = analyzeRoutes(itineraries);
+            List<double[]> candidateFeatures = new ArrayList<>(routeCandidates.size());
+            for (RouteCandidate candidate : routeCandidates) {
+                candidateFeatures.add(candidate.getFeatures());
             }
 
-            List<RouteCandidate> routeCandidates = analyzeRoutes(itineraries);
             Map<String, Object> bestRoute = selectBestRoute(routeCandidates, userId);
             RouteCandidate selectedCandidate = routeCandidates.stream()
                     .filter(c -> c.getRouteData() == bestRoute)
                     .findFirst()
                     .orElse(routeCandidates.get(0));
 
-            return buildRouteResponse(bestRoute, selectedCandidate.getAccessibilityScore());
+            // 재탐색 구간(sessionId 없음)은 학습 데이터에서 제외
+            if (sessionId != null) {
+                routeRankingEventLogger.logImpression(sessionId, userId, selectedCandidate.getRouteIndex(), candidateFeatures);
+            }
+
+            RouteResponse response = buildRouteResponse(bestRoute, selectedCandidate.getAccessibilityScore(), fareCategory);
+            response.setRouteId(routeId);
+
+            // selectBestRoute에서 점수 순으로 정렬된 후보를 그대로 사용
+            if (alternativeCount > 0) {
+                attachAlternatives(response, routeCandidates, selectedCandidate, alternativeCount, fareCategory);
+            }
+
+            return response;
 
         } catch (Exception e) {
             log.error("T맵 경로 응답 파싱 중 오류 발생: ", e);
@@ -188,6 +393,83 @@ public class TmapRouteService {
         }
     }
 
+    // 경로 목록, 응답에 없으면 null
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> extractItineraries(TmapRouteResponse tmapResponse) throws Exception {
+        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        String jsonString = mapper.writeValueAsString(tmapResponse);
+        Map<String, Object> responseMap = mapper.readValue(jsonString, Map.class);
+
+        if (!(responseMap.get("metaData") instanceof Map<?, ?> metaData)
+                || !(metaData.get("plan") instanceof Map<?, ?> plan)
+                || !(plan.get("itineraries") instanceof List<?> itineraries)
+                || itineraries.isEmpty()) {
+            return null;
+        }
+        return (List<Map<String, Object>>) itineraries;
+    }
+
+    private void attachAlternatives(RouteResponse response, List<RouteCandidate> rankedCandidates,
+                                    RouteCandidate selectedCandidate, int alternativeCount, String fareCategory) {
+        int count = Math.min(alternativeCount, rankedCandidates.size());
+        List<RouteResponse.RouteAlternative> summaries = new ArrayList<>(count);
+        List<RouteAlternativeSet.Candidate> candidates = new ArrayList<>(count);
+
+        for (int rank = 0; rank < count; rank++) {
+            RouteCandidate candidate = rankedCandidates.get(rank);
+            Map<String, Object> routeData = candidate.getRouteData();
+            summaries.add(RouteResponse.RouteAlternative.builder()
+                    .rank(rank)
+                    .score(candidate.getWeightedScore())
+                    .totalTime(candidate.getTotalTime())
+                    .totalDistance(candidate.getTotalDistance())
+                    .totalWalkTime(candidate.getTotalWalkTime())
+                    .transferCount(candidate.getTransferCount())
+                    .totalFare(fareService.calculate(routeData, extractTotalFare(routeData), fareCategory).getAppliedFare())
+                    .summary(createModeSummary(routeData))
+                    .accessibilityInfo(toAccessibilityInfo(candidate.getAccessibilityScore()))
+                    .selected(candidate == selectedCandidate)
+                    .build());
+            candidates.add(new RouteAlternativeSet.Candidate(
+                    candidate.getRouteIndex(), candidate.getFeatures(), routeData));
+        }
+
+        if (routeAlternativeService.store(response.getRouteId(), new RouteAlternativeSet(candidates, summaries))) {
+            response.setAlternatives(summaries);
+        }
+    }
+
+    // "도보 → 버스 13-4 → 지하철 수인분당선"
+    private String createModeSummary(Map<String, Object> route) {
+        if (!route.containsKey("legs")) {
+            return "";
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> legs = (List<Map<String, Object>>) route.get("legs");
+
+        StringBuilder summary = new StringBuilder();
+        for (Map<String, Object> leg : legs) {
+            String mode = (String) leg.get("mode");
+            String label;
+            if ("WALK".equals(mode)) {
+                label = "도보";
+            } else if ("BUS".equals(mode)) {
+                label = "버스 " + extractBusNumber((String) leg.get("route"));
+            } else if ("SUBWAY".equals(mode)) {
+                label = "지하철 " + leg.get("route");
+            } else {
+                label = String.valueOf(leg.get("route"));
+            }
+
+            if (summary.length() > 0) {
+                summary.append(" → ");
+            }
+            summary.append(label);
+        }
+        return summary.toString();
+    }
+
     private List<RouteCandidate> analyzeRoutes(List<Map<String, Object>> itineraries) {
         List<RouteCandidate> routeCandidates = new ArrayList<>();
 
@@ -203,6 +485,13 @@ public class TmapRouteService {
             AccessibilityService.RouteAccessibilityScore accessibilityScore =
                     accessibilityService.calculateRouteAccessibilityScore(stationNames, totalWalkTime);
 
+            double elevatorRatio = 0.0;
+            double escalatorRatio = 0.0;
+            if (accessibilityScore.getTotalStations() > 0) {
+                elevatorRatio = (double) accessibilityScore.getElevatorCount() / accessibilityScore.getTotalStations();
+                escalatorRatio = (double) accessibilityScore.getEscalatorCount() / accessibilityScore.getTotalStations();
+            }
+
             RouteCandidate candidate = RouteCandidate.builder()
                     .routeIndex(i)
                     .routeData(route)
@@ -212,6 +501,8 @@ public class TmapRouteService {
                     .transferCount(transferCount)
                     .stationNames(stationNames)
                     .accessibilityScore(accessibilityScore)
+                    .features(RouteFeatures.of(totalWalkTime, transferCount, totalTime,
+                            elevatorRatio, escalatorRatio, totalDistance))
                     .build();
 
             routeCandidates.add(candidate);
@@ -221,26 +512,23 @@ public class TmapRouteService {
     }
 
     private Map<String, Object> selectBestRoute(List<RouteCandidate> candidates, String userId) {
-        Map<String, Integer> feedbackCounts = new HashMap<>();
+        RoutePreference preference = RoutePreference.DEFAULT;
 
         if (feedbackService != null) {
             try {
-                feedbackCounts = feedbackService.getFeedbackCounts(userId);
+                preference = feedbackService.getRoutePreference(userId);
             } catch (Exception e) {
                 log.warn("FeedbackService 호출 실패, 기본값 사용: {}", e.getMessage());
             }
         }
 
-        int walkWeight = feedbackCounts.getOrDefault("walk", 2);
-        int transferWeight = feedbackCounts.getOrDefault("transfer", 0);
-        int totalTimeWeight = feedbackCounts.getOrDefault("totalTime", 3);
-        int elevatorWeight = feedbackCounts.getOrDefault("elevator", 2);
-        int escalatorWeight = feedbackCounts.getOrDefault("escalator", 2);
-
-        for (RouteCandidate candidate : candidates) {
-            double score = calculateRouteScore(candidate, walkWeight, transferWeight, totalTimeWeight, elevatorWeight, escalatorWeight);
-            candidate.setWeightedScore(score);
-        }
+        RoutePreference scoringPreference = preference;
+        pipelineMetrics.recordRun(PipelineMetrics.ROUTE_STAGE, () -> {
+            for (RouteCandidate candidate : candidates) {
+                double score = routeScorer.score(candidate.getFeatures(), scoringPreference);
+                candidate.setWeightedScore(score);
+            }
+        }, "stage", "score");
 
         candidates.sort((a, b) -> Double.compare(a.getWeightedScore(), b.getWeightedScore()));
 
@@ -249,46 +537,15 @@ public class TmapRouteService {
         return selected.getRouteData();
     }
 
-    private double calculateRouteScore(RouteCandidate candidate, int walkWeight, int transferWeight,
-                                       int totalTimeWeight, int elevatorWeight, int escalatorWeight) {
-        double maxWalkTime = 1800.0;
-        double maxTotalTime = 7200.0;
-        double maxTransferCount = 5.0;
-
-        double normalizedWalkTime = candidate.getTotalWalkTime() / maxWalkTime;
-        double walkScore = normalizedWalkTime * walkWeight;
-
-        double normalizedTransferCount = candidate.getTransferCount() / maxTransferCount;
-        double transferScore = normalizedTransferCount * transferWeight;
-
-        double normalizedTotalTime = candidate.getTotalTime() / maxTotalTime;
-        double timeScore = normalizedTotalTime * totalTimeWeight;
-
-        double elevatorRatio = 0.0;
-        if (candidate.getAccessibilityScore().getTotalStations() > 0) {
-            elevatorRatio = (double) candidate.getAccessibilityScore().getElevatorCount() /
-                    candidate.getAccessibilityScore().getTotalStations();
-        }
-        double elevatorScore = -(elevatorRatio * elevatorWeight);
-
-        double escalatorRatio = 0.0;
-        if (candidate.getAccessibilityScore().getTotalStations() > 0) {
-            escalatorRatio = (double) candidate.getAccessibilityScore().getEscalatorCount() /
-                    candidate.getAccessibilityScore().getTotalStations();
-        }
-        double escalatorScore = -(escalatorRatio * escalatorWeight);
-
-        return walkScore + transferScore + timeScore + elevatorScore + escalatorScore;
-    }
-
     private RouteResponse buildRouteResponse(Map<String, Object> selectedRoute,
-                                             AccessibilityService.RouteAccessibilityScore accessibilityScore) {
+                                             AccessibilityService.RouteAccessibilityScore accessibilityScore,
+                                             String fareCategory) {
 
         List<RouteResponse.GuideInfo> guides = new ArrayList<>();
 
         Integer totalDistance = getIntegerValue(selectedRoute, "totalDistance", 0);
         Integer totalTime = getIntegerValue(selectedRoute, "totalTime", 0);
-        Integer totalFare = extractTotalFare(selectedRoute);
+        RouteResponse.FareInfo fareInfo = fareService.calculate(selectedRoute, extractTotalFare(selectedRoute), fareCategory);
 
         RouteResponse.Location startLocation = extractStartLocation(selectedRoute);
         RouteResponse.Location endLocation = extractEndLocation(selectedRoute);
@@ -298,19 +555,25 @@ public class TmapRouteService {
         return RouteResponse.builder()
                 .totalDistance(totalDistance)
                 .totalTime(totalTime)
-                .totalFare(totalFare)
-                .taxiFare(null)
+                .totalFare(fareInfo.getAppliedFare())
+                .taxiFare(fareService.taxiFare(startLocation, endLocation))
+                .fareInfo(fareInfo)
                 .startLocation(startLocation)
                 .endLocation(endLocation)
                 .guides(guides)
-                .accessibilityInfo(RouteResponse.AccessibilityInfo.builder()
-                        .totalScore(accessibilityScore.getTotalScore())
-                        .elevatorStationCount(accessibilityScore.getElevatorCount())
-                        .escalatorStationCount(accessibilityScore.getEscalatorCount())
-                        .totalStationCount(accessibilityScore.getTotalStations())
-                        .accessibilityRate(accessibilityScore.getAccessibilityRate())
-                        .walkTimeMinutes(accessibilityScore.getWalkTimeMinutes())
-                        .build())
+                .geometryFormat(RouteResponse.GEOMETRY_LINESTRING)
+                .accessibilityInfo(toAccessibilityInfo(accessibilityScore))
+                .build();
+    }
+
+    private RouteResponse.AccessibilityInfo toAccessibilityInfo(AccessibilityService.RouteAccessibilityScore accessibilityScore) {
+        return RouteResponse.AccessibilityInfo.builder()
+                .totalScore(accessibilityScore.getTotalScore())
+                .elevatorStationCount(accessibilityScore.getElevatorCount())
+                .escalatorStationCount(accessibilityScore.getEscalatorCount())
+                .totalStationCount(accessibilityScore.getTotalStations())
+                .accessibilityRate(accessibilityScore.getAccessibilityRate())
+                .walkTimeMinutes(accessibilityScore.getWalkTimeMinutes())
                 .build();
     }
 
@@ -351,7 +614,7 @@ public class TmapRouteService {
 
             if (description != null && !description.trim().isEmpty()) {
                 // T맵 description에서 출구 정보 포맷팅
-                String formattedDescription = formatDescriptionWithExit(description);
+                String formattedDescription = GuidanceRenderer.walkDescription(description);
 
                 guides.add(RouteResponse.GuideInfo.builder()
                         .guidance(formattedDescription)  // 포맷팅된 description 사용
@@ -362,25 +625,12 @@ public class TmapRouteService {
                         .color(null)
                         .startLocation(legStartLocation)
                         .endLocation(legEndLocation)
-                        .lineString(stepLinestring)
+                        .lineString(geometrySimplifier.simplify(stepLinestring))
                         .build());
             }
         }
     }
 
-    private String formatDescriptionWithExit(String description) {
-        if (description == null) {
-            return description;
-        }
-
-        // "불광역  6번출구 에서 직진 후" → "불광역 6번 출구 에서 직진 후"
-        if (description.contains("번출구")) {
-            return description.replaceAll("(\\S+?)(\\d+)번출구", "$1 $2번 출구");
-        }
-
-        return description;
-    }
-
     private void addTransportGuideInfo(Map<String, Object> leg, List<RouteResponse.GuideInfo> guides,
                                        RouteResponse.Location startLocation, RouteResponse.Location endLocation, String mode) {
 
@@ -389,7 +639,7 @@ public class TmapRouteService {
         String route = (String) leg.get("route");
         String routeId = (String) leg.get("routeId");
         String routeColor = (String) leg.get("routeColor");
-        String lineString = extractLineString(leg);
+        String lineString = geometrySimplifier.simplify(extractLineString(leg));
 
         String busNumber = extractBusNumber(route);
         String guidance = createSimpleGuidanceText(leg);
@@ -428,61 +678,6 @@ public class TmapRouteService {
         }
     }
 
-    private String[] extractStationAndExit(String guidance) {
-        String stationName = null;
-        String exitInfo = null;
-
-        if (guidance == null) {
-            return new String[]{null, null};
-        }
-
-        // "상왕십리역에서 간선:463 탑승 → 역삼역6번출구 (35분, 7599m)" 패턴 분석
-        // "→" 뒤의 부분에서 역명과 출구 정보 추출
-        if (guidance.contains("→")) {
-            String[] parts = guidance.split("→");
-            if (parts.length > 1) {
-                String destination = parts[1].trim();
-
-                // "역삼역6번출구 (35분, 7599m)" 에서 역명과 출구 추출
-                if (destination.contains("번출구")) {
-                    // 정규표현식: (역명)(숫자)번출구
-                    java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(.+?)(\\d+)번출구");
-                    java.util.regex.Matcher matcher = pattern.matcher(destination);
-
-                    if (matcher.find()) {
-                        stationName = matcher.group(1).trim();  // "역삼역"
-                        String exitNumber = matcher.group(2);   // "6"
-                        exitInfo = exitNumber + "번 출구";       // "6번 출구"
-
-                        log.debug("역명/출구 추출: '{}' → 역명='{}', 출구='{}'", destination, stationName, exitInfo);
-                    }
-                } else {
-                    // 출구 정보가 없는 경우, 괄호 앞까지가 역명
-                    if (destination.contains("(")) {
-                        stationName = destination.substring(0, destination.indexOf("(")).trim();
-                    } else {
-                        stationName = destination.trim();
-                    }
-                }
-            }
-        }
-
-        return new String[]{stationName, exitInfo};
-    }
-
-    private String extractExitInfoFromDescription(String description) {
-        if (description == null) return null;
-
-        if (description.contains("번출구")) {
-            String exitNumber = description.replaceAll(".*?(\\d+)번출구.*", "$1");
-            if (!exitNumber.equals(description)) {
-                return exitNumber + "번 출구";
-            }
-        }
-
-        return null;
-    }
-
     private List<String> extractStationNames(Map<String, Object> route) {
         List<String> stationNames = new ArrayList<>();
 
@@ -570,12 +765,17 @@ public class TmapRouteService {
             @SuppressWarnings("unchecked")
             List<Map<String, Object>> steps = (List<Map<String, Object>>) leg.get("steps");
 
+            StringBuilder builder = new StringBuilder();
             for (Map<String, Object> step : steps) {
                 String stepLinestring = (String) step.get("linestring");
                 if (stepLinestring != null) {
-                    lineString += stepLinestring + " ";
+                    if (builder.length() > 0) {
+                        builder.append(' ');
+                    }
+                    builder.append(stepLinestring);
                 }
             }
+            lineString = builder.toString();
         } else if (leg.containsKey("passShape")) {
             @SuppressWarnings("unchecked")
             Map<String, Object> passShape = (Map<String, Object>) leg.get("passShape");
@@ -588,51 +788,10 @@ public class TmapRouteService {
     private String createSimpleGuidanceText(Map<String, Object> leg) {
         if (leg == null) return null;
 
-        String mode = (String) leg.get("mode");
-        String startName = getLocationName(leg, "start");
-        String endName = getLocationName(leg, "end");
-        Integer distance = getIntegerValue(leg, "distance", 0);
-        Integer time = getIntegerValue(leg, "sectionTime", 0);
-        String route = (String) leg.get("route");
-
-        if ("WALK".equals(mode)) {
-            return String.format("%s에서 %s까지 도보 %dm (%d분)",
-                    startName, endName, distance, time / 60);
-        } else if ("BUS".equals(mode)) {
-            String busInfo = route != null ? route : "버스";
-            String formattedEndName = formatStationNameWithExit(endName);
-            return String.format("%s에서 %s 탑승 → %s (%d분, %dm)",
-                    startName, busInfo, formattedEndName, time / 60, distance);
-        } else if ("SUBWAY".equals(mode)) {
-            String subwayInfo = route != null ? route : "지하철";
-            String formattedEndName = formatStationNameWithExit(endName);
-            return String.format("%s에서 %s 탑승 → %s (%d분, %dm)",
-                    startName, subwayInfo, formattedEndName, time / 60, distance);
-        }
-
-        String formattedEndName = formatStationNameWithExit(endName);
-        return String.format("%s에서 %s까지 %s 이용 (%d분, %dm)",
-                startName, formattedEndName, mode, time / 60, distance);
-    }
-
-    private String formatStationNameWithExit(String locationName) {
-        if (locationName == null || locationName.trim().isEmpty()) {
-            return locationName;
-        }
-
-        // "역삼역6번출구" → "역삼역 6번 출구"
-        if (locationName.contains("번출구")) {
-            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(.+?)(\\d+)번출구");
-            java.util.regex.Matcher matcher = pattern.matcher(locationName);
-
-            if (matcher.find()) {
-                String stationName = matcher.group(1).trim();  // "역삼역"
-                String exitNumber = matcher.group(2);          // "6"
-                return stationName + " " + exitNumber + "번 출구";  // "역삼역 6번 출구"
-            }
-        }
-
-        return locationName;
+        return GuidanceRenderer.legGuidance((String) leg.get("mode"),
+                getLocationName(leg, "start"), getLocationName(leg, "end"),
+                getIntegerValue(leg, "distance", 0), getIntegerValue(leg, "sectionTime", 0),
+                (String) leg.get("route"));
     }
 
     private String extractBusNumber(String routeString) {
@@ -647,24 +806,6 @@ public class TmapRouteService {
         return routeString.trim();
     }
 
-    private String extractExitInfo(String locationName) {
-        if (locationName == null || locationName.trim().isEmpty()) {
-            return null;
-        }
-
-        if (locationName.contains("번출구")) {
-            String[] parts = locationName.split("번출구");
-            if (parts.length > 0) {
-                String exitNumber = parts[0].replaceAll(".*?([0-9]+)$", "$1");
-                if (!exitNumber.isEmpty()) {
-                    return exitNumber + "번 출구";
-                }
-            }
-        }
-
-        return null;
-    }
-
     private String getLocationName(Map<String, Object> leg, String locationType) {
         if (leg.containsKey(locationType)) {
             @SuppressWarnings("unchecked")
@@ -690,6 +831,7 @@ public class TmapRouteService {
                 .startLocation(RouteResponse.Location.builder().name("출발지").lat(37.2816).lon(127.0453).build())
                 .endLocation(RouteResponse.Location.builder().name("도착지").lat(37.2798).lon(127.0435).build())
                 .guides(fallbackGuides)
+                .geometryFormat(RouteResponse.GEOMETRY_LINESTRING)
                 .accessibilityInfo(RouteResponse.AccessibilityInfo.builder()
                         .totalScore(0.0)
                         .elevatorStationCount(0)
@@ -750,6 +892,7 @@ public class TmapRouteService {
         private List<String> stationNames;
         private AccessibilityService.RouteAccessibilityScore accessibilityScore;
         private double weightedScore;
+        private double[] features;
 
         public static RouteCandidateBuilder builder() {
             return new RouteCandidateBuilder();
@@ -765,6 +908,7 @@ public class TmapRouteService {
         public List<String> getStationNames() { return stationNames; }
         public AccessibilityService.RouteAccessibilityScore getAccessibilityScore() { return accessibilityScore; }
         public double getWeightedScore() { return weightedScore; }
+        public double[] getFeatures() { return features; }
 
         // Setter for weighted score
         public void setWeightedScore(double weightedScore) { this.weightedScore = weightedScore; }
@@ -812,6 +956,11 @@ public class TmapRouteService {
                 return this;
             }
 
+            public RouteCandidateBuilder features(double[] features) {
+                candidate.features = features;
+                return this;
+            }
+
             public RouteCandidate build() {
                 return candidate;
             }
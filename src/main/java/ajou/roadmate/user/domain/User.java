@@ -14,4 +14,6 @@ public class User {
     private String username;
     private String name;
     private String password;
+    // yyyy-MM-dd (요금 우대 판정용, 선택)
+    private String birthDate;
 }
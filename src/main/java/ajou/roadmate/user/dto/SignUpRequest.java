@@ -8,4 +8,5 @@ public class SignUpRequest {
     private String username;
     private String name;
     private String password;
+    private String birthDate;
 }
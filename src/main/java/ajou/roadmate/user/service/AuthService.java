@@ -2,6 +2,7 @@ package ajou.roadmate.user.service;
 
 import ajou.roadmate.global.exception.CustomException;
 import ajou.roadmate.global.exception.UserErrorCode;
+import ajou.roadmate.global.metrics.PipelineMetrics;
 import ajou.roadmate.user.domain.User;
 import ajou.roadmate.user.dto.SignInRequest;
 import ajou.roadmate.user.dto.SignInResponse;
@@ -21,17 +22,23 @@ public class AuthService {
 
     private final RedisTemplate<String, String> stringRedisTemplate;
     private final RedisTemplate<String, User> userRedisTemplate;
+    private final PipelineMetrics pipelineMetrics;
 
     public SignInResponse signIn(SignInRequest request) {
         for (int i = 1; ; i++) {
-            User user = userRedisTemplate.opsForValue().get("user:" + i);
+            String userKey = "user:" + i;
+            User user = pipelineMetrics.record(PipelineMetrics.REDIS,
+                    () -> userRedisTemplate.opsForValue().get(userKey),
+                    "store", "auth", "operation", "user_get");
             if (user == null) break;
 
             if (user.getUsername().equals(request.getUsername()) &&
                     user.getPassword().equals(request.getPassword())) {
 
                 String sessionToken = UUID.randomUUID().toString();
-                stringRedisTemplate.opsForValue().set(SESSION_PREFIX + sessionToken, user.getId(), SESSION_TTL);
+                pipelineMetrics.recordRun(PipelineMetrics.REDIS,
+                        () -> stringRedisTemplate.opsForValue().set(SESSION_PREFIX + sessionToken, user.getId(), SESSION_TTL),
+                        "store", "auth", "operation", "session_set");
                 return SignInResponse.builder()
                         .id(user.getId())
                         .token(sessionToken)
@@ -42,13 +49,19 @@ public class AuthService {
     }
 
     public void logout(String sessionToken) {
-        stringRedisTemplate.delete(SESSION_PREFIX + sessionToken);
+        pipelineMetrics.record(PipelineMetrics.REDIS,
+                () -> stringRedisTemplate.delete(SESSION_PREFIX + sessionToken),
+                "store", "auth", "operation", "session_delete");
     }
 
     public User getUserBySession(String sessionToken) {
-        String userId = stringRedisTemplate.opsForValue().get(SESSION_PREFIX + sessionToken);
+        String userId = pipelineMetrics.record(PipelineMetrics.REDIS,
+                () -> stringRedisTemplate.opsForValue().get(SESSION_PREFIX + sessionToken),
+                "store", "auth", "operation", "session_get");
         if (userId == null)
             throw new CustomException(UserErrorCode.USER_NOT_FOUNT);
-        return userRedisTemplate.opsForValue().get("user:" + userId);
+        return pipelineMetrics.record(PipelineMetrics.REDIS,
+                () -> userRedisTemplate.opsForValue().get("user:" + userId),
+                "store", "auth", "operation", "user_get");
     }
 }
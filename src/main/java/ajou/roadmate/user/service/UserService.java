@@ -10,6 +10,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -20,6 +23,8 @@ public class UserService {
     private final RedisTemplate<String, User> userRedisTemplate;
 
     public SignUpResponse signUp(SignUpRequest request) {
+        validateBirthDate(request.getBirthDate());
+
         Long newId = userRedisTemplate.opsForValue().increment(USER_ID_SEQ_KEY);
         if (newId == null) {
             throw new CustomException(UserErrorCode.ID_GENERATE_FAIL);
@@ -31,6 +36,7 @@ public class UserService {
                 .username(request.getUsername())
                 .name(request.getName())
                 .password(request.getPassword())
+                .birthDate(request.getBirthDate())
                 .build();
         userRedisTemplate.opsForValue().set(USER_KEY_PREFIX + userId, user);
 
@@ -44,4 +50,15 @@ public class UserService {
     public void deleteUser(String userId) {
         userRedisTemplate.delete(USER_KEY_PREFIX + userId);
     }
+
+    private void validateBirthDate(String birthDate) {
+        if (birthDate == null) {
+            return;
+        }
+        try {
+            LocalDate.parse(birthDate);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(UserErrorCode.INVALID_BIRTH_DATE);
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package ajou.roadmate.global.ratelimit;
+
+import ajou.roadmate.global.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientRateLimiterTest {
+
+    private static final String CLIENT = "guest:10.0.0.1";
+
+    private UpstreamGuard upstreamGuard;
+    private SimpleMeterRegistry meterRegistry;
+    private ClientRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        upstreamGuard = mock(UpstreamGuard.class);
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new ClientRateLimiter(null, upstreamGuard, meterRegistry);
+    }
+
+    @Test
+    void appliesAllowedScriptResult() {
+        ClientRateLimiter.Decision decision = limiter.apply(ClientRateLimiter.API, CLIENT, "1:29:0");
+
+        assertThat(decision.allowed()).isTrue();
+        assertThat(decision.remaining()).isEqualTo(29);
+        assertThat(limiter.checkLocal(ClientRateLimiter.API, CLIENT)).isNull();
+        assertThat(count(ClientRateLimiter.API, "allowed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void limitedResultBlocksSameClientLocally() {
+        ClientRateLimiter.Decision decision = limiter.apply(ClientRateLimiter.NLP, CLIENT, "0:0:1500");
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterMillis()).isEqualTo(1500);
+        assertThat(decision.retryAfterSeconds()).isEqualTo(2);
+
+        ClientRateLimiter.Decision local = limiter.checkLocal(ClientRateLimiter.NLP, CLIENT);
+        assertThat(local.allowed()).isFalse();
+        assertThat(local.retryAfterMillis()).isBetween(1L, 1500L);
+        assertThat(count(ClientRateLimiter.NLP, "limited")).isEqualTo(1.0);
+        assertThat(count(ClientRateLimiter.NLP, "local_limited")).isEqualTo(1.0);
+    }
+
+    @Test
+    void localBlockIsPerScopeAndClient() {
+        limiter.apply(ClientRateLimiter.NLP, CLIENT, "0:0:1500");
+
+        assertThat(limiter.checkLocal(ClientRateLimiter.API, CLIENT)).isNull();
+        assertThat(limiter.checkLocal(ClientRateLimiter.NLP, "guest:10.0.0.2")).isNull();
+    }
+
+    @Test
+    void expiredLocalBlockIsDropped() {
+        limiter.apply(ClientRateLimiter.API, CLIENT, "0:0:0");
+
+        assertThat(limiter.checkLocal(ClientRateLimiter.API, CLIENT)).isNull();
+        assertThat(count(ClientRateLimiter.API, "local_limited")).isZero();
+    }
+
+    @Test
+    void checkSkipsRedisWhileBlockedLocally() {
+        limiter.apply(ClientRateLimiter.API, CLIENT, "0:0:60000");
+
+        assertThat(limiter.check(ClientRateLimiter.API, CLIENT).allowed()).isFalse();
+        verify(upstreamGuard, never()).call(anyString(), any());
+    }
+
+    @Test
+    void checkFailsOpenWhenRedisFails() {
+        when(upstreamGuard.call(anyString(), any())).thenThrow(new IllegalStateException("redis down"));
+
+        ClientRateLimiter.Decision decision = limiter.check(ClientRateLimiter.API, CLIENT);
+
+        assertThat(decision.allowed()).isTrue();
+        assertThat(decision.remaining()).isEqualTo(-1);
+        assertThat(count(ClientRateLimiter.API, "fail_open")).isEqualTo(1.0);
+    }
+
+    @Test
+    void clientKeyPrefersSessionUser() {
+        assertThat(ClientRateLimiter.clientKey("user-1", "10.0.0.1")).isEqualTo("user:user-1");
+        assertThat(ClientRateLimiter.clientKey(null, "10.0.0.1")).isEqualTo("guest:10.0.0.1");
+    }
+
+    @Test
+    void clientAddressIgnoresForwardedForFromUntrustedPeer() {
+        assertThat(limiter.clientAddress("203.0.113.7", "198.51.100.1")).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void clientAddressTakesRightmostUntrustedForwardedHop() {
+        ReflectionTestUtils.setField(limiter, "trustedProxies", List.of("10.0.0.0/8", "127.0.0.1"));
+
+        assertThat(limiter.clientAddress("10.1.2.3", "1.1.1.1, 198.51.100.1, 10.0.0.5"))
+                .isEqualTo("198.51.100.1");
+        assertThat(limiter.clientAddress("127.0.0.1", null)).isEqualTo("127.0.0.1");
+        assertThat(limiter.clientAddress("10.1.2.3", "10.0.0.5")).isEqualTo("10.1.2.3");
+    }
+
+    @Test
+    void matchesExactAndCidrProxies() {
+        assertThat(ClientRateLimiter.matches("172.16.0.0/12", "172.31.255.1")).isTrue();
+        assertThat(ClientRateLimiter.matches("172.16.0.0/12", "172.32.0.1")).isFalse();
+        assertThat(ClientRateLimiter.matches("10.0.0.1", "10.0.0.1")).isTrue();
+        assertThat(ClientRateLimiter.matches("10.0.0.0/8", "::1")).isFalse();
+        assertThat(ClientRateLimiter.matches("10.0.0.0/8", "proxy.example.com")).isFalse();
+    }
+
+    private double count(String scope, String outcome) {
+        return meterRegistry.counter("roadmate.ratelimit.requests", "scope", scope, "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,56 @@
+package ajou.roadmate.global.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Google Encoded Polyline Algorithm Format 문서의 예제 값 기준
+class PolylineEncoderTest {
+
+    @Test
+    void encodesGoogleReferencePath() {
+        // (38.5, -120.2), (40.7, -120.95), (43.252, -126.453)
+        assertThat(PolylineEncoder.encode("-120.2,38.5 -120.95,40.7 -126.453,43.252"))
+                .isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @Test
+    void encodesGoogleReferenceValue() {
+        // -179.9832104 → "`~oia@", 경도 0 → "?"
+        assertThat(PolylineEncoder.encode("0,-179.9832104")).isEqualTo("`~oia@?");
+    }
+
+    @Test
+    void ignoresSurroundingWhitespace() {
+        assertThat(PolylineEncoder.encode("  -120.2,38.5\n-120.95,40.7  "))
+                .isEqualTo("_p~iF~ps|U_ulLnnqC");
+    }
+
+    @Test
+    void roundsExtraFractionDigits() {
+        assertThat(PolylineEncoder.encode("127.0452612345678,37.2795412"))
+                .isEqualTo(PolylineEncoder.encode("127.04526,37.27954"));
+    }
+
+    @Test
+    void emptyLineStringEncodesToEmpty() {
+        assertThat(PolylineEncoder.encode("")).isEmpty();
+    }
+
+    @Test
+    void encodeToAppendsToBuilder() {
+        StringBuilder out = new StringBuilder("x");
+        PolylineEncoder.encodeTo("-120.2,38.5", out);
+        assertThat(out).hasToString("x_p~iF~ps|U");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"127.0", "127.0,", "abc,1", "1;2"})
+    void rejectsMalformedCoordinates(String lineString) {
+        assertThatThrownBy(() -> PolylineEncoder.encode(lineString))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package ajou.roadmate.gpt.service;
+
+import ajou.roadmate.gpt.dto.NlpAnalysisResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalIntentClassifierTest {
+
+    private final LocalIntentClassifier classifier = new LocalIntentClassifier();
+
+    @Test
+    void extractsOriginAndDestination() {
+        NlpAnalysisResult result = classifier.classify("서울역에서 강남역 가는 길");
+
+        assertThat(result.getIntent()).isEqualTo("extract_route");
+        assertThat(result.getEntities())
+                .containsEntry("origin", "서울역")
+                .containsEntry("destination", "강남역");
+        assertThat(result.getResponseText()).isEqualTo("서울역에서 강남역까지의 경로를 찾아볼게요.");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "강남역까지 어떻게 가, 강남역",
+            "수원역으로 가려면?, 수원역",
+            "종로 가고싶어, 종로"
+    })
+    void stripsParticleFromDestination(String text, String destination) {
+        NlpAnalysisResult result = classifier.classify(text);
+
+        assertThat(result.getIntent()).isEqualTo("extract_route");
+        assertThat(result.getEntities())
+                .containsEntry("origin", null)
+                .containsEntry("destination", destination);
+    }
+
+    @Test
+    void extractsBusNumberForArrival() {
+        NlpAnalysisResult result = classifier.classify("720번 버스 언제 와?");
+
+        assertThat(result.getIntent()).isEqualTo("real_time_bus_arrival");
+        assertThat(result.getEntities()).containsEntry("bus_number", "720");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "지하철 언제 와, real_time_subway_arrival",
+            "엘리베이터 있어?, accessibility_info",
+            "몇 시에 도착해?, estimated_arrival_time",
+            "요금 얼마야, total_fare",
+            "총 거리 알려줘, total_route_distance",
+            "얼마나 걸려, total_route_time",
+            "몇 호선 타?, subway_line_info",
+            "어떤 버스 타?, bus_number_info",
+            "여기 어디야, current_location"
+    })
+    void classifiesCommonQuestions(String text, String intent) {
+        NlpAnalysisResult result = classifier.classify(text);
+
+        assertThat(result.getIntent()).isEqualTo(intent);
+        assertThat(result.getResponseText()).isNotBlank();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "안녕", "오늘 날씨 어때"})
+    void returnsNullForUnknownText(String text) {
+        assertThat(classifier.classify(text)).isNull();
+    }
+}
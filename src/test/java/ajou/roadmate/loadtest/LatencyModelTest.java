@@ -0,0 +1,57 @@
+package ajou.roadmate.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyModelTest {
+
+    @Test
+    void parsesMedianAndP99() {
+        assertThat(LatencyModel.parse("250,1200")).hasToString("median=250ms, p99=1200ms");
+        assertThat(LatencyModel.parse(" 80 ")).hasToString("median=80ms, p99=80ms");
+    }
+
+    @Test
+    void zeroMedianMeansNoDelay() {
+        LatencyModel model = LatencyModel.parse("0");
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(model.sampleMillis()).isZero();
+        }
+    }
+
+    @Test
+    void equalMedianAndP99IsFixedDelay() {
+        LatencyModel model = LatencyModel.of(100, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(model.sampleMillis()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void samplesMatchConfiguredPercentiles() {
+        LatencyModel model = LatencyModel.of(100, 1000);
+        long[] samples = new long[20_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = model.sampleMillis();
+        }
+        Arrays.sort(samples);
+
+        assertThat(samples[0]).isNotNegative();
+        assertThat(samples[samples.length / 2]).isBetween(90L, 110L);
+        assertThat(samples[samples.length * 99 / 100]).isBetween(800L, 1250L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "500,100"})
+    void rejectsInvalidRange(String value) {
+        assertThatThrownBy(() -> LatencyModel.parse(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package ajou.roadmate.poi.service;
+
+import ajou.roadmate.poi.service.POISpatialIndex.IndexedPoi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class POISpatialIndexTest {
+
+    private static final double LAT = 37.2795;
+    private static final double LON = 127.0437;
+    private static final String CAFE = "카페";
+
+    private POISpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new POISpatialIndex();
+        ReflectionTestUtils.setField(index, "coverageTtlMinutes", 30L);
+        ReflectionTestUtils.setField(index, "maxCells", 20000);
+    }
+
+    @Test
+    void missWithoutCoverage() {
+        assertThat(index.findNearby(LAT, LON, 500, CAFE)).isNull();
+    }
+
+    @Test
+    void returnsPoisInsideRadiusSortedByDistance() {
+        index.index(LAT, LON, 1000, CAFE, List.of(
+                poi("east300", LAT, LON + 0.0034, CAFE),
+                poi("north100", LAT + 0.0009, LON, CAFE),
+                poi("north800", LAT + 0.0072, LON, CAFE)));
+
+        assertThat(index.findNearby(LAT, LON, 500, CAFE))
+                .extracting(IndexedPoi::id)
+                .containsExactly("north100", "east300");
+    }
+
+    @Test
+    void missWhenRequestCircleLeavesCoverage() {
+        index.index(LAT, LON, 1000, CAFE, List.of(poi("north100", LAT + 0.0009, LON, CAFE)));
+
+        // 같은 격자 안에서 중심으로부터 약 44m 떨어진 곳의 960m 반경은 1000m 커버리지를 벗어남
+        assertThat(index.findNearby(LAT, LON + 0.0005, 960, CAFE)).isNull();
+        assertThat(index.findNearby(LAT, LON + 0.0005, 900, CAFE)).isNotNull();
+    }
+
+    @Test
+    void coverageIsPerCategory() {
+        index.index(LAT, LON, 1000, CAFE, List.of(poi("north100", LAT + 0.0009, LON, CAFE)));
+
+        assertThat(index.findNearby(LAT, LON, 500, "편의점")).isNull();
+    }
+
+    @Test
+    void filtersPoisOfOtherCategories() {
+        index.index(LAT, LON, 1000, CAFE, List.of(poi("cafe", LAT + 0.0009, LON, CAFE)));
+        index.index(LAT, LON, 1000, "편의점", List.of(poi("store", LAT, LON + 0.0034, "편의점")));
+
+        assertThat(index.findNearby(LAT, LON, 500, CAFE))
+                .extracting(IndexedPoi::id)
+                .containsExactly("cafe");
+    }
+
+    @Test
+    void missAfterCoverageExpires() throws InterruptedException {
+        ReflectionTestUtils.setField(index, "coverageTtlMinutes", 0L);
+        index.index(LAT, LON, 1000, CAFE, List.of(poi("north100", LAT + 0.0009, LON, CAFE)));
+        Thread.sleep(5);
+
+        assertThat(index.findNearby(LAT, LON, 500, CAFE)).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUpdatedCellWhenFull() throws InterruptedException {
+        ReflectionTestUtils.setField(index, "maxCells", 3);
+        for (int i = 0; i < 4; i++) {
+            index.index(LAT + i * 0.01, LON, 100, CAFE, List.of());
+            Thread.sleep(5);
+        }
+
+        assertThat(index.findNearby(LAT, LON, 50, CAFE)).isNull();
+        assertThat(index.findNearby(LAT + 0.01, LON, 50, CAFE)).isNotNull();
+        assertThat(index.findNearby(LAT + 0.03, LON, 50, CAFE)).isNotNull();
+    }
+
+    private static IndexedPoi poi(String id, double lat, double lon, String category) {
+        return new IndexedPoi(id, id, "주소", lat, lon, null, category, null, category, null,
+                Set.of(category), System.currentTimeMillis());
+    }
+}
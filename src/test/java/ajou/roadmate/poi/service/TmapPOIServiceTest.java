@@ -0,0 +1,68 @@
+package ajou.roadmate.poi.service;
+
+import ajou.roadmate.global.exception.CustomException;
+import ajou.roadmate.global.exception.POIErrorCode;
+import ajou.roadmate.poi.dto.POISearchRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 커서/쿼리 키 처리만 검증 (외부 호출 의존성은 사용하지 않으므로 null)
+class TmapPOIServiceTest {
+
+    private final TmapPOIService service = new TmapPOIService(null, null, null, null, null, null, null);
+
+    @Test
+    void queryKeyIgnoresSurroundingWhitespaceAndSmallMoves() {
+        String key = service.buildQueryKey(request("스타벅스", 37.2816, 127.0453));
+
+        assertThat(key).hasSize(32).matches("[0-9a-f]+");
+        assertThat(service.buildQueryKey(request("  스타벅스 ", 37.2816, 127.0453))).isEqualTo(key);
+        // 소수점 셋째 자리(약 100m)까지 같으면 같은 키
+        assertThat(service.buildQueryKey(request("스타벅스", 37.2824, 127.0451))).isEqualTo(key);
+    }
+
+    @Test
+    void queryKeyChangesWithDestinationOrArea() {
+        String key = service.buildQueryKey(request("스타벅스", 37.2816, 127.0453));
+
+        assertThat(service.buildQueryKey(request("이디야", 37.2816, 127.0453))).isNotEqualTo(key);
+        assertThat(service.buildQueryKey(request("스타벅스", 37.2836, 127.0453))).isNotEqualTo(key);
+        assertThat(service.buildQueryKey(request("스타벅스", 37.2816, 127.0473))).isNotEqualTo(key);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void missingCursorStartsAtFirstPage(String cursor) {
+        assertThat(service.resolvePage(cursor, "key")).isEqualTo(1);
+    }
+
+    @Test
+    void cursorForSameQueryResolvesPage() {
+        String key = service.buildQueryKey(request("스타벅스", 37.2816, 127.0453));
+
+        assertThat(service.resolvePage(key + ":3", key)).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"other:2", ":2", "key", "key:", "key:0", "key:-1", "key:abc", "key:99999999999"})
+    void rejectsInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> service.resolvePage(cursor, "key"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(POIErrorCode.INVALID_CURSOR);
+    }
+
+    private static POISearchRequest request(String destination, double lat, double lon) {
+        return POISearchRequest.builder()
+                .destination(destination)
+                .currentLat(lat)
+                .currentLon(lon)
+                .build();
+    }
+}
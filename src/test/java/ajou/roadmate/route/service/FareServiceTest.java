@@ -0,0 +1,104 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.route.dto.RouteResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FareServiceTest {
+
+    private final FareService fareService = new FareService(null);
+
+    @Test
+    void singleCityBusHasNoDistanceFare() {
+        RouteResponse.FareInfo fare = calculate(FareService.REGULAR, bus("간선:463", 12000));
+
+        assertThat(fare.getRegularFare()).isEqualTo(1500);
+        assertThat(fare.getAppliedFare()).isEqualTo(1500);
+    }
+
+    @Test
+    void transferChargesHighestBaseFarePlusDistance() {
+        // 기본운임 max(1500, 1550), 통합 12km → 10km 초과 5km 단위 1회
+        RouteResponse.FareInfo fare = calculate(FareService.REGULAR,
+                walk(300), bus("간선:463", 4000), walk(100), subway(8000));
+
+        assertThat(fare.getRegularFare()).isEqualTo(1650);
+    }
+
+    @Test
+    void longSubwayRideAddsShortAndLongDistanceSteps() {
+        // 10~50km: 5km마다 100원 × 8, 50~60km: 8km마다 100원 × 2
+        assertThat(calculate(FareService.REGULAR, subway(60000)).getRegularFare()).isEqualTo(2550);
+        assertThat(calculate(FareService.REGULAR, subway(10000)).getRegularFare()).isEqualTo(1550);
+        assertThat(calculate(FareService.REGULAR, subway(10001)).getRegularFare()).isEqualTo(1650);
+    }
+
+    @Test
+    void expressBusUsesThirtyKilometerBase() {
+        assertThat(calculate(FareService.REGULAR, bus("광역:M5107", 35000)).getRegularFare()).isEqualTo(3100);
+        assertThat(calculate(FareService.REGULAR, bus("광역:M5107", 30000)).getRegularFare()).isEqualTo(3000);
+    }
+
+    @Test
+    void seniorRidesSubwayFree() {
+        RouteResponse.FareInfo transfer = calculate(FareService.SENIOR, bus("간선:463", 4000), subway(8000));
+        RouteResponse.FareInfo subwayOnly = calculate(FareService.SENIOR, subway(8000));
+
+        assertThat(transfer.getSeniorFare()).isEqualTo(1500);
+        assertThat(transfer.getRegularFare()).isEqualTo(1650);
+        assertThat(transfer.getAppliedFare()).isEqualTo(1500);
+        assertThat(subwayOnly.getAppliedFare()).isZero();
+    }
+
+    @Test
+    void sixthRideStartsNewFare() {
+        List<Map<String, Object>> legs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            legs.add(bus("마을:수원" + i, 1000));
+        }
+
+        // 5회까지 1200원(통합 5km), 6번째 탑승은 단독 승차로 1200원 추가
+        assertThat(fareService.calculate(Map.of("legs", legs), null, FareService.REGULAR).getRegularFare())
+                .isEqualTo(2400);
+        assertThat(fareService.calculate(Map.of("legs", legs.subList(0, 5)), null, FareService.REGULAR).getRegularFare())
+                .isEqualTo(1200);
+    }
+
+    @Test
+    void fallsBackToTmapFareForNonIntegratedModes() {
+        RouteResponse.FareInfo fare = fareService.calculate(Map.of("legs", List.of(
+                Map.of("mode", "EXPRESSBUS", "distance", 290000))), 23000, FareService.SENIOR);
+
+        assertThat(fare.getRegularFare()).isEqualTo(23000);
+        assertThat(fare.getSeniorFare()).isEqualTo(23000);
+        assertThat(fare.getTmapFare()).isEqualTo(23000);
+    }
+
+    @Test
+    void guestUsesRegularCategory() {
+        assertThat(fareService.resolveCategory(null)).isEqualTo(FareService.REGULAR);
+    }
+
+    @SafeVarargs
+    private RouteResponse.FareInfo calculate(String category, Map<String, Object>... legs) {
+        return fareService.calculate(Map.of("legs", Arrays.asList(legs)), null, category);
+    }
+
+    private static Map<String, Object> bus(String route, int distance) {
+        return Map.of("mode", "BUS", "route", route, "distance", distance);
+    }
+
+    private static Map<String, Object> subway(int distance) {
+        return Map.of("mode", "SUBWAY", "route", "수도권1호선", "distance", distance);
+    }
+
+    private static Map<String, Object> walk(int distance) {
+        return Map.of("mode", "WALK", "distance", String.valueOf(distance));
+    }
+}
@@ -0,0 +1,80 @@
+package ajou.roadmate.route.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 위도 0.00001도 ≈ 1.1m, 기본 허용 오차 3m 기준
+class GeometrySimplifierTest {
+
+    private GeometrySimplifier simplifier;
+
+    @BeforeEach
+    void setUp() {
+        simplifier = simplifierWithTolerance(3.0);
+    }
+
+    @Test
+    void dropsCollinearVertices() {
+        assertThat(simplifier.simplify("127.00000,37.00000 127.00010,37.00000 127.00020,37.00000 127.00030,37.00000"))
+                .isEqualTo("127.00000,37.00000 127.00030,37.00000");
+    }
+
+    @Test
+    void dropsJitterWithinTolerance() {
+        assertThat(simplifier.simplify("127.00000,37.00000 127.00010,37.00001 127.00020,36.99999 127.00030,37.00000"))
+                .isEqualTo("127.00000,37.00000 127.00030,37.00000");
+    }
+
+    @Test
+    void keepsCornerAndOriginalTokens() {
+        assertThat(simplifier.simplify(
+                "127.00000,37.00000 127.00050,37.00000 127.00100,37.00000 127.00100,37.00050 127.00100,37.00100"))
+                .isEqualTo("127.00000,37.00000 127.00100,37.00000 127.00100,37.00100");
+    }
+
+    @Test
+    void returnsSameInstanceWhenNothingDropped() {
+        String lineString = "127.00000,37.00000 127.00010,37.00010 127.00020,37.00000";
+        assertThat(simplifier.simplify(lineString)).isSameAs(lineString);
+
+        String twoPoints = "127.0,37.0 127.001,37.0";
+        assertThat(simplifier.simplify(twoPoints)).isSameAs(twoPoints);
+    }
+
+    @Test
+    void leavesMalformedAndEmptyInputUntouched() {
+        assertThat(simplifier.simplify("bad")).isEqualTo("bad");
+        assertThat(simplifier.simplify("")).isEmpty();
+        assertThat(simplifier.simplify(null)).isNull();
+        assertThat(simplifier.getInputVertices()).isZero();
+    }
+
+    @Test
+    void zeroToleranceDisablesSimplification() {
+        GeometrySimplifier disabled = simplifierWithTolerance(0.0);
+        String lineString = "127.00000,37.00000 127.00010,37.00001 127.00020,36.99999 127.00030,37.00000";
+
+        assertThat(disabled.simplify(lineString)).isSameAs(lineString);
+        assertThat(disabled.getInputVertices()).isZero();
+    }
+
+    @Test
+    void reportsReductionRatio() {
+        simplifier.simplify("127.00000,37.00000 127.00010,37.00000 127.00020,37.00000 127.00030,37.00000");
+        simplifier.simplify("127.00000,37.00000 127.00050,37.00000 127.00100,37.00000 127.00100,37.00050 127.00100,37.00100");
+        simplifier.simplify("127.0,37.0 127.001,37.0");
+
+        assertThat(simplifier.getInputVertices()).isEqualTo(11);
+        assertThat(simplifier.getOutputVertices()).isEqualTo(7);
+        assertThat(simplifier.getReductionRatio()).isEqualTo(4.0 / 11);
+    }
+
+    private static GeometrySimplifier simplifierWithTolerance(double toleranceMeters) {
+        GeometrySimplifier simplifier = new GeometrySimplifier();
+        ReflectionTestUtils.setField(simplifier, "toleranceMeters", toleranceMeters);
+        return simplifier;
+    }
+}
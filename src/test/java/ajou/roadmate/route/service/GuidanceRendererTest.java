@@ -0,0 +1,115 @@
+package ajou.roadmate.route.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GuidanceRenderer 출력이 도입 전 String.format/replaceAll 구현과 글자 단위로 같은지 확인
+class GuidanceRendererTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "불광역  6번출구 에서 직진 후",
+            "보행자도로 을 따라 120m 이동",
+            "역삼역3번출구 방면으로 우회전",
+            "강남역11번출구 앞 횡단보도, 역삼역 2번출구 방면",
+            "번출구",
+            "12번출구 방면",
+            ""
+    })
+    void walkDescriptionMatchesLegacy(String description) {
+        assertThat(GuidanceRenderer.walkDescription(description))
+                .isEqualTo(legacyWalkDescription(description));
+    }
+
+    @Test
+    void walkDescriptionKeepsNull() {
+        assertThat(GuidanceRenderer.walkDescription(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("legs")
+    void legGuidanceMatchesLegacy(String mode, String startName, String endName, int distance, int time, String route) {
+        assertThat(GuidanceRenderer.legGuidance(mode, startName, endName, distance, time, route))
+                .isEqualTo(legacyLegGuidance(mode, startName, endName, distance, time, route));
+    }
+
+    @ParameterizedTest
+    @MethodSource("locationNames")
+    void stationWithExitMatchesLegacy(String locationName) {
+        assertThat(GuidanceRenderer.stationWithExit(locationName))
+                .isEqualTo(legacyStationWithExit(locationName));
+    }
+
+    @Test
+    void renderingExamples() {
+        assertThat(GuidanceRenderer.legGuidance("BUS", "상왕십리역", "역삼역6번출구", 7599, 2100, "간선:463"))
+                .isEqualTo("상왕십리역에서 간선:463 탑승 → 역삼역 6번 출구 (35분, 7599m)");
+        assertThat(GuidanceRenderer.walkDescription("역삼역3번출구 방면으로 우회전"))
+                .isEqualTo("역삼역 3번 출구 방면으로 우회전");
+    }
+
+    static Stream<Arguments> legs() {
+        return Stream.of(
+                Arguments.of("BUS", "상왕십리역", "역삼역6번출구", 7599, 2100, "간선:463"),
+                Arguments.of("BUS", "상왕십리역", "역삼역6번출구", 7599, 2100, null),
+                Arguments.of("SUBWAY", "역삼역", "수원역", 32000, 3600, "수도권1호선"),
+                Arguments.of("SUBWAY", "역삼역", "수원역 10번출구", 32000, 59, null),
+                Arguments.of("WALK", "수원역", "아주대학교", 850, 720, null),
+                Arguments.of("WALK", null, null, 0, 0, null),
+                Arguments.of("EXPRESSBUS", "서울경부", "동대구6번출구", 290000, 12600, null),
+                Arguments.of(null, "출발지", "   ", 10, 61, "노선")
+        );
+    }
+
+    static Stream<String> locationNames() {
+        return Stream.of("역삼역6번출구", " 역삼역 6번출구 ", "수원역", "번출구", "11번출구", "   ", "", null);
+    }
+
+    // 이하 GuidanceRenderer 도입 전 TmapRouteService 구현 (GuidanceRenderingBenchmark와 동일)
+    private static String legacyWalkDescription(String description) {
+        if (description.contains("번출구")) {
+            return description.replaceAll("(\\S+?)(\\d+)번출구", "$1 $2번 출구");
+        }
+        return description;
+    }
+
+    private static String legacyLegGuidance(String mode, String startName, String endName,
+                                            Integer distance, Integer time, String route) {
+        if ("WALK".equals(mode)) {
+            return String.format("%s에서 %s까지 도보 %dm (%d분)",
+                    startName, endName, distance, time / 60);
+        } else if ("BUS".equals(mode)) {
+            String busInfo = route != null ? route : "버스";
+            return String.format("%s에서 %s 탑승 → %s (%d분, %dm)",
+                    startName, busInfo, legacyStationWithExit(endName), time / 60, distance);
+        } else if ("SUBWAY".equals(mode)) {
+            String subwayInfo = route != null ? route : "지하철";
+            return String.format("%s에서 %s 탑승 → %s (%d분, %dm)",
+                    startName, subwayInfo, legacyStationWithExit(endName), time / 60, distance);
+        }
+        return String.format("%s에서 %s까지 %s 이용 (%d분, %dm)",
+                startName, legacyStationWithExit(endName), mode, time / 60, distance);
+    }
+
+    private static String legacyStationWithExit(String locationName) {
+        if (locationName == null || locationName.trim().isEmpty()) {
+            return locationName;
+        }
+        if (locationName.contains("번출구")) {
+            Matcher matcher = Pattern.compile("(.+?)(\\d+)번출구").matcher(locationName);
+            if (matcher.find()) {
+                return matcher.group(1).trim() + " " + matcher.group(2) + "번 출구";
+            }
+        }
+        return locationName;
+    }
+}
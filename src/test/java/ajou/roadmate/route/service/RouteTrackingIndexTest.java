@@ -0,0 +1,122 @@
+package ajou.roadmate.route.service;
+
+import ajou.roadmate.global.utils.GeoUtils;
+import ajou.roadmate.route.dto.RouteResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 원점(37.0, 127.0)에서 동쪽/북쪽 미터 단위로 좌표를 만들어 검증
+class RouteTrackingIndexTest {
+
+    private static final double ORIGIN_LAT = 37.0;
+    private static final double ORIGIN_LON = 127.0;
+
+    // 도보 동쪽 200m → 버스 북쪽 300m
+    private final RouteResponse route = route(
+            guide("WALK", 200, 0),
+            guide("BUS", 300, 600));
+    private final RouteTrackingIndex index = RouteTrackingIndex.build("route-1", route, Map.of(
+            0, line(0, 0, 100, 0, 200, 0),
+            1, line(200, 0, 200, 300)));
+
+    @Test
+    void matchesNearestSegmentOnWalkGuide() {
+        RouteTrackingIndex.Match match = index.match(lat(10), lon(100), 0.0, 30.0);
+
+        assertThat(match).isNotNull();
+        assertThat(match.guideIndex()).isZero();
+        assertThat(match.distanceMeters()).isCloseTo(10.0, within(0.1));
+        assertThat(match.alongMeters()).isCloseTo(100.0, within(0.1));
+    }
+
+    @Test
+    void matchesLaterGuideWithCumulativeDistance() {
+        RouteTrackingIndex.Match match = index.match(lat(150), lon(205), 0.0, 30.0);
+
+        assertThat(match).isNotNull();
+        assertThat(match.guideIndex()).isEqualTo(1);
+        assertThat(match.distanceMeters()).isCloseTo(5.0, within(0.1));
+        assertThat(match.alongMeters()).isCloseTo(350.0, within(0.1));
+    }
+
+    @Test
+    void returnsNullWhenFarFromRoute() {
+        assertThat(index.match(lat(-150), lon(100), 0.0, 30.0)).isNull();
+    }
+
+    @Test
+    void penalizesSegmentsBehindProgress() {
+        // 동쪽으로 200m 갔다가 20m 북쪽에서 되돌아오는 경로
+        RouteTrackingIndex outAndBack = RouteTrackingIndex.build("route-2", route(
+                guide("WALK", 200, 0),
+                guide("WALK", 200, 0)), Map.of(
+                0, line(0, 0, 200, 0),
+                1, line(200, 20, 0, 20)));
+
+        RouteTrackingIndex.Match fromStart = outAndBack.match(lat(8), lon(100), 0.0, 30.0);
+        RouteTrackingIndex.Match onReturn = outAndBack.match(lat(8), lon(100), 300.0, 30.0);
+
+        assertThat(fromStart.guideIndex()).isZero();
+        assertThat(onReturn.guideIndex()).isEqualTo(1);
+        assertThat(onReturn.distanceMeters()).isCloseTo(12.0, within(0.1));
+    }
+
+    @Test
+    void remainingTimeCountsRestOfCurrentGuide() {
+        // 보행 속도 = (800 - 600) / 200 = 1m/s
+        assertThat(index.remainingTime(100.0, 0)).isCloseTo(700.0, within(0.5));
+        assertThat(index.remainingTime(350.0, 1)).isCloseTo(300.0, within(0.5));
+    }
+
+    @Test
+    void skipsMissingAndMalformedLineStrings() {
+        assertThat(RouteTrackingIndex.build("route-3", route, Map.of())).isNull();
+        assertThat(RouteTrackingIndex.build("route-3", route, Map.of(0, "bad"))).isNull();
+
+        RouteTrackingIndex partial = RouteTrackingIndex.build("route-3", route, Map.of(1, line(200, 0, 200, 300)));
+        assertThat(partial.segmentCount()).isEqualTo(1);
+        assertThat(index.segmentCount()).isEqualTo(3);
+    }
+
+    private static RouteResponse route(RouteResponse.GuideInfo... guides) {
+        int totalTime = 0;
+        for (RouteResponse.GuideInfo guide : guides) {
+            totalTime += "WALK".equals(guide.getTransportType()) ? guide.getDistance() : guide.getTime();
+        }
+        return RouteResponse.builder().totalTime(totalTime).guides(List.of(guides)).build();
+    }
+
+    private static RouteResponse.GuideInfo guide(String transportType, int distance, int time) {
+        return RouteResponse.GuideInfo.builder()
+                .transportType(transportType)
+                .distance(distance)
+                .time(time)
+                .build();
+    }
+
+    // (east, north) 미터 쌍 목록 → "lon,lat lon,lat ..."
+    private static String line(double... eastNorth) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < eastNorth.length; i += 2) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(String.format(Locale.ROOT, "%.8f,%.8f", lon(eastNorth[i]), lat(eastNorth[i + 1])));
+        }
+        return builder.toString();
+    }
+
+    private static double lat(double northMeters) {
+        return ORIGIN_LAT + northMeters / GeoUtils.metersPerDegreeLat();
+    }
+
+    private static double lon(double eastMeters) {
+        return ORIGIN_LON + eastMeters / GeoUtils.metersPerDegreeLon(ORIGIN_LAT);
+    }
+}
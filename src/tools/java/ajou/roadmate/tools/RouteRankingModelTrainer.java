@@ -0,0 +1,204 @@
+package ajou.roadmate.tools;
+
+import ajou.roadmate.route.dto.RouteRankingModel;
+import ajou.roadmate.route.service.RouteFeatures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 랭킹 이벤트 로그(JSONL)로 로지스틱 회귀 모델을 학습하는 오프라인 도구
+// 사용법: ./gradlew trainRouteModel --args="events.jsonl src/main/resources/model/route-ranking.json"
+// 라벨: 노출된 경로 이후 FEEDBACK_WINDOW_MILLIS 안에 같은 세션의 불만 피드백이나 대안 전환이 있으면 0, 없으면 1
+//       대안 전환 이벤트는 전환 전 경로 0, 전환 후 경로 1
+public class RouteRankingModelTrainer {
+
+    private static final long FEEDBACK_WINDOW_MILLIS = 30 * 60 * 1000L;
+    private static final int EPOCHS = 500;
+    private static final double LEARNING_RATE = 0.1;
+    private static final double L2 = 0.01;
+    private static final double PREFERENCE_BLEND = 0.5;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: RouteRankingModelTrainer <events.jsonl> <model.json>");
+            System.exit(1);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<double[]> samples = new ArrayList<>();
+        List<Integer> labels = new ArrayList<>();
+        loadSamples(mapper, Path.of(args[0]), samples, labels);
+
+        if (samples.isEmpty()) {
+            System.err.println("학습할 노출 이벤트가 없습니다.");
+            System.exit(1);
+        }
+
+        RouteRankingModel model = train(samples, labels);
+
+        File output = new File(args[1]);
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(output, model);
+
+        System.out.printf("학습 완료 - 샘플 %d개, 가중치 %s, 편향 %.4f%n",
+                model.getSampleCount(), Arrays.toString(model.getWeights()), model.getBias());
+    }
+
+    static void loadSamples(ObjectMapper mapper, Path eventsPath, List<double[]> samples, List<Integer> labels)
+            throws Exception {
+        List<JsonNode> impressions = new ArrayList<>();
+        Map<String, List<Long>> negativeTimes = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(eventsPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode event = mapper.readTree(line);
+                String type = event.path("type").asText();
+                String sessionId = event.path("sessionId").asText(null);
+                if (sessionId == null) {
+                    continue;
+                }
+
+                if ("impression".equals(type)) {
+                    impressions.add(event);
+                } else if ("feedback".equals(type)) {
+                    negativeTimes.computeIfAbsent(sessionId, k -> new ArrayList<>()).add(event.path("ts").asLong());
+                } else if ("select".equals(type)) {
+                    negativeTimes.computeIfAbsent(sessionId, k -> new ArrayList<>()).add(event.path("ts").asLong());
+
+                    double[] rejected = toFeatures(event.path("rejected"));
+                    double[] selected = toFeatures(event.path("selected"));
+                    if (rejected != null && selected != null) {
+                        samples.add(rejected);
+                        labels.add(0);
+                        samples.add(selected);
+                        labels.add(1);
+                    }
+                }
+            }
+        }
+
+        for (JsonNode impression : impressions) {
+            JsonNode candidates = impression.path("candidates");
+            int chosen = impression.path("chosen").asInt(-1);
+            if (chosen < 0 || chosen >= candidates.size()) {
+                continue;
+            }
+
+            double[] features = toFeatures(candidates.get(chosen));
+            if (features == null) {
+                continue;
+            }
+
+            long ts = impression.path("ts").asLong();
+            boolean complained = false;
+            for (long negativeTs : negativeTimes.getOrDefault(impression.path("sessionId").asText(), List.of())) {
+                if (negativeTs >= ts && negativeTs - ts <= FEEDBACK_WINDOW_MILLIS) {
+                    complained = true;
+                    break;
+                }
+            }
+
+            samples.add(features);
+            labels.add(complained ? 0 : 1);
+        }
+    }
+
+    private static double[] toFeatures(JsonNode node) {
+        if (node == null || !node.isArray() || node.size() != RouteFeatures.SIZE) {
+            return null;
+        }
+        double[] features = new double[RouteFeatures.SIZE];
+        for (int i = 0; i < RouteFeatures.SIZE; i++) {
+            features[i] = node.get(i).asDouble();
+        }
+        return features;
+    }
+
+    // 특징 표준화 후 L2 정규화 로지스틱 회귀 (배치 경사 하강)
+    static RouteRankingModel train(List<double[]> samples, List<Integer> labels) {
+        int n = samples.size();
+        int d = RouteFeatures.SIZE;
+
+        double[] mean = new double[d];
+        double[] std = new double[d];
+        for (double[] x : samples) {
+            for (int j = 0; j < d; j++) {
+                mean[j] += x[j];
+            }
+        }
+        for (int j = 0; j < d; j++) {
+            mean[j] /= n;
+        }
+        for (double[] x : samples) {
+            for (int j = 0; j < d; j++) {
+                double diff = x[j] - mean[j];
+                std[j] += diff * diff;
+            }
+        }
+        for (int j = 0; j < d; j++) {
+            std[j] = Math.sqrt(std[j] / n);
+        }
+
+        double[][] z = new double[n][d];
+        for (int i = 0; i < n; i++) {
+            double[] x = samples.get(i);
+            for (int j = 0; j < d; j++) {
+                z[i][j] = std[j] > 0 ? (x[j] - mean[j]) / std[j] : 0.0;
+            }
+        }
+
+        double[] weights = new double[d];
+        double bias = 0.0;
+        double[] gradient = new double[d];
+
+        for (int epoch = 0; epoch < EPOCHS; epoch++) {
+            Arrays.fill(gradient, 0.0);
+            double biasGradient = 0.0;
+
+            for (int i = 0; i < n; i++) {
+                double logit = bias;
+                for (int j = 0; j < d; j++) {
+                    logit += weights[j] * z[i][j];
+                }
+                double error = 1.0 / (1.0 + Math.exp(-logit)) - labels.get(i);
+                for (int j = 0; j < d; j++) {
+                    gradient[j] += error * z[i][j];
+                }
+                biasGradient += error;
+            }
+
+            for (int j = 0; j < d; j++) {
+                weights[j] -= LEARNING_RATE * (gradient[j] / n + L2 * weights[j]);
+            }
+            bias -= LEARNING_RATE * biasGradient / n;
+        }
+
+        RouteRankingModel model = new RouteRankingModel();
+        model.setFeatureNames(List.of(RouteFeatures.NAMES));
+        model.setMean(mean);
+        model.setStd(std);
+        model.setWeights(weights);
+        model.setBias(bias);
+        model.setPreferenceBlend(PREFERENCE_BLEND);
+        model.setSampleCount(n);
+        model.setTrainedAt(Instant.now().toString());
+        return model;
+    }
+}